@@ -2,61 +2,118 @@ package ru.practicum.shareit.booking.client;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.booking.dto.BookingBatchDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingStatusBatchDto;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.StreamingRelay;
 
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
+    private final StreamingRelay streamingRelay;
+
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory, StreamingRelay streamingRelay) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .requestFactory(() -> requestFactory)
                         .build()
         );
+        this.streamingRelay = streamingRelay;
     }
 
     public ResponseEntity<Object> createBooking(BookingDto bookingDto, Long bookerId) {
         return post("", bookerId, bookingDto);
     }
 
+    public ResponseEntity<Object> createBookings(BookingBatchDto bookingBatchDto, Long bookerId) {
+        return post("/batch", bookerId, bookingBatchDto);
+    }
+
     public ResponseEntity<Object> changeBookingStatus(Long bookingId, Boolean approved, Long ownerId) {
         Map<String, Object> parameters = Map.of("approved", approved);
         return patch("/" + bookingId + "?approved={approved}", ownerId, parameters, null);
     }
 
+    public ResponseEntity<Object> changeBookingStatuses(BookingStatusBatchDto bookingStatusBatchDto,
+                                                        Boolean approved, Long ownerId) {
+        Map<String, Object> parameters = Map.of("approved", approved);
+        return patch("/batch?approved={approved}", ownerId, parameters, bookingStatusBatchDto);
+    }
+
     public ResponseEntity<Object> getBookingById(Long bookingId, Long userId) {
         return get("/" + bookingId, userId);
     }
 
     public ResponseEntity<Object> getAllUserBookingsByStatus(BookingStatus bookingStatus, Long userId,
-                                                             int from, int size) {
+                                                             int from, int size, boolean total) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size,
+                "total", total,
                 "state", bookingStatus.name()
         );
-        return get("?from={from}&size={size}&state={state}", userId, parameters);
+        return get("?from={from}&size={size}&total={total}&state={state}", userId, parameters);
     }
 
     public ResponseEntity<Object> getAllOwnerItemsBookingsByStatus(BookingStatus bookingStatus, Long ownerId,
-                                                                   int from, int size) {
+                                                                   int from, int size, boolean total) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size,
+                "total", total,
+                "state", bookingStatus.name()
+        );
+        return get("/owner?from={from}&size={size}&total={total}&state={state}", ownerId, parameters);
+    }
+
+    public ResponseEntity<Object> getAllUserBookingsByStatusAfter(BookingStatus bookingStatus, Long userId,
+                                                                  String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size,
                 "state", bookingStatus.name()
         );
-        return get("/owner?from={from}&size={size}&state={state}", ownerId, parameters);
+        return get("?cursor={cursor}&size={size}&state={state}", userId, parameters);
+    }
+
+    public ResponseEntity<Object> getAllOwnerItemsBookingsByStatusAfter(BookingStatus bookingStatus, Long ownerId,
+                                                                        String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size,
+                "state", bookingStatus.name()
+        );
+        return get("/owner?cursor={cursor}&size={size}&state={state}", ownerId, parameters);
+    }
+
+    public ResponseEntity<StreamingResponseBody> streamBookingEvents(Long userId) {
+        return streamingRelay.relay(API_PREFIX + "/events", userId, null, MediaType.TEXT_EVENT_STREAM);
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportUserBookings(String format, Long userId) {
+        return streamingRelay.relay(API_PREFIX + "/export?format={format}", userId, Map.of("format", format),
+                MediaType.ALL);
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportOwnerItemsBookings(String format, Long ownerId) {
+        return streamingRelay.relay(API_PREFIX + "/owner/export?format={format}", ownerId, Map.of("format", format),
+                MediaType.ALL);
     }
 }
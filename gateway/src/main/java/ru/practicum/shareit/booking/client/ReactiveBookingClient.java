@@ -0,0 +1,114 @@
+package ru.practicum.shareit.booking.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingBatchDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingStatusBatchDto;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.client.StreamLimiter;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/bookings";
+
+    @Autowired
+    public ReactiveBookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                                 @Qualifier("shareItServerStreamingConnector") ClientHttpConnector streamingConnector,
+                                 StreamLimiter streamLimiter) {
+        super(builder.clone().baseUrl(serverUrl + API_PREFIX).build(),
+                builder.clone().clientConnector(streamingConnector).baseUrl(serverUrl + API_PREFIX).build(),
+                streamLimiter);
+    }
+
+    public Mono<ResponseEntity<byte[]>> createBooking(BookingDto bookingDto, Long bookerId) {
+        return post("", bookerId, bookingDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> createBookings(BookingBatchDto bookingBatchDto, Long bookerId) {
+        return post("/batch", bookerId, bookingBatchDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> changeBookingStatus(Long bookingId, Boolean approved, Long ownerId) {
+        Map<String, Object> parameters = Map.of("approved", approved);
+        return patch("/" + bookingId + "?approved={approved}", ownerId, parameters, null);
+    }
+
+    public Mono<ResponseEntity<byte[]>> changeBookingStatuses(BookingStatusBatchDto bookingStatusBatchDto,
+                                                              Boolean approved, Long ownerId) {
+        Map<String, Object> parameters = Map.of("approved", approved);
+        return patch("/batch?approved={approved}", ownerId, parameters, bookingStatusBatchDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBookingById(Long bookingId, Long userId) {
+        return get("/" + bookingId, userId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAllUserBookingsByStatus(BookingStatus bookingStatus, Long userId,
+                                                             int from, int size, boolean total) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size,
+                "total", total,
+                "state", bookingStatus.name()
+        );
+        return get("?from={from}&size={size}&total={total}&state={state}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAllOwnerItemsBookingsByStatus(BookingStatus bookingStatus, Long ownerId,
+                                                                   int from, int size, boolean total) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size,
+                "total", total,
+                "state", bookingStatus.name()
+        );
+        return get("/owner?from={from}&size={size}&total={total}&state={state}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAllUserBookingsByStatusAfter(BookingStatus bookingStatus, Long userId,
+                                                                  String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size,
+                "state", bookingStatus.name()
+        );
+        return get("?cursor={cursor}&size={size}&state={state}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAllOwnerItemsBookingsByStatusAfter(BookingStatus bookingStatus, Long ownerId,
+                                                                        String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size,
+                "state", bookingStatus.name()
+        );
+        return get("/owner?cursor={cursor}&size={size}&state={state}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamBookingEvents(Long userId) {
+        return stream("/events", userId, null, MediaType.TEXT_EVENT_STREAM);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportUserBookings(String format, Long userId) {
+        return stream("/export?format={format}", userId, Map.of("format", format), MediaType.ALL);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportOwnerItemsBookings(String format, Long ownerId) {
+        return stream("/owner/export?format={format}", ownerId, Map.of("format", format), MediaType.ALL);
+    }
+}
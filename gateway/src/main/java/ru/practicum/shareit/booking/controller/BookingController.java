@@ -2,15 +2,22 @@ package ru.practicum.shareit.booking.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.booking.client.BookingClient;
+import ru.practicum.shareit.booking.dto.BookingBatchDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingStatusBatchDto;
 import ru.practicum.shareit.validation.OnCreate;
 
+import javax.validation.Valid;
+import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
 import javax.validation.groups.Default;
@@ -18,11 +25,13 @@ import javax.validation.groups.Default;
 @Slf4j
 @Validated
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @RequestMapping(path = "/bookings")
 public class BookingController {
     private final BookingClient bookingClient;
     private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final String EXPORT_FORMATS = "(?i)ndjson|csv";
 
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
@@ -34,6 +43,15 @@ public class BookingController {
         return bookingClient.createBooking(bookingDto, bookerId);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Object> createBookings(
+            @Validated({OnCreate.class, Default.class}) @RequestBody BookingBatchDto bookingBatchDto,
+            @Positive @RequestHeader(value = USER_HEADER) Long bookerId) {
+        log.debug("POST request received to create a batch of {} bookings by user with id = {}",
+                bookingBatchDto.getBookings().size(), bookerId);
+        return bookingClient.createBookings(bookingBatchDto, bookerId);
+    }
+
     @PatchMapping("/{bookingId}")
     public ResponseEntity<Object> changeBookingStatus(@PathVariable(name = "bookingId") @Positive Long bookingId,
                                                       @RequestParam(name = "approved") Boolean approved,
@@ -43,6 +61,40 @@ public class BookingController {
         return bookingClient.changeBookingStatus(bookingId, approved, ownerId);
     }
 
+    @PatchMapping("/batch")
+    public ResponseEntity<Object> changeBookingStatuses(
+            @Valid @RequestBody BookingStatusBatchDto bookingStatusBatchDto,
+            @RequestParam(name = "approved") Boolean approved,
+            @RequestHeader(value = USER_HEADER) @Positive Long ownerId) {
+        log.debug("PATCH request received to {} bookings {} from user with id = {}",
+                approved ? "approve" : "disapprove", bookingStatusBatchDto, ownerId);
+        return bookingClient.changeBookingStatuses(bookingStatusBatchDto, approved, ownerId);
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamBookingEvents(
+            @RequestHeader(value = USER_HEADER) @Positive Long userId) {
+        log.debug("GET request received to stream booking events of user with id = {}", userId);
+        return bookingClient.streamBookingEvents(userId);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUserBookings(
+            @RequestParam(name = "format", defaultValue = "ndjson") @Pattern(regexp = EXPORT_FORMATS) String format,
+            @RequestHeader(value = USER_HEADER) @Positive Long userId) {
+        log.debug("GET request received to export all bookings of user with id = {} as {}", userId, format);
+        return bookingClient.exportUserBookings(format, userId);
+    }
+
+    @GetMapping("/owner/export")
+    public ResponseEntity<StreamingResponseBody> exportOwnerItemsBookings(
+            @RequestParam(name = "format", defaultValue = "ndjson") @Pattern(regexp = EXPORT_FORMATS) String format,
+            @RequestHeader(value = USER_HEADER) @Positive Long ownerId) {
+        log.debug("GET request received to export all bookings of items of owner with id = {} as {}", ownerId,
+                format);
+        return bookingClient.exportOwnerItemsBookings(format, ownerId);
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getBookingById(@PathVariable(name = "bookingId") @Positive Long bookingId,
                                                  @RequestHeader(value = USER_HEADER) @Positive Long userId) {
@@ -55,10 +107,11 @@ public class BookingController {
             @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
             @RequestHeader(value = USER_HEADER) @Positive Long userId,
             @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero int from,
-            @RequestParam(name = "size", defaultValue = "10") @Positive int size) {
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size,
+            @RequestParam(name = "total", defaultValue = "false") boolean total) {
         log.debug("GET request received to get all bookings by user with id = {} and with state = {}", userId,
                 bookingStatus);
-        return bookingClient.getAllUserBookingsByStatus(bookingStatus, userId, from, size);
+        return bookingClient.getAllUserBookingsByStatus(bookingStatus, userId, from, size, total);
     }
 
     @GetMapping("/owner")
@@ -66,9 +119,32 @@ public class BookingController {
             @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
             @RequestHeader(value = USER_HEADER) @Positive Long ownerId,
             @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero int from,
-            @RequestParam(name = "size", defaultValue = "10") @Positive int size) {
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size,
+            @RequestParam(name = "total", defaultValue = "false") boolean total) {
         log.debug("GET request received to get all bookings by owner with id = {} and with state = {}", ownerId,
                 bookingStatus);
-        return bookingClient.getAllOwnerItemsBookingsByStatus(bookingStatus, ownerId, from, size);
+        return bookingClient.getAllOwnerItemsBookingsByStatus(bookingStatus, ownerId, from, size, total);
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<Object> getAllUserBookingsByStatusAfter(
+            @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
+            @RequestHeader(value = USER_HEADER) @Positive Long userId,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size) {
+        log.debug("GET request received to get bookings by user with id = {} and with state = {} after cursor {}",
+                userId, bookingStatus, cursor);
+        return bookingClient.getAllUserBookingsByStatusAfter(bookingStatus, userId, cursor, size);
+    }
+
+    @GetMapping(path = "/owner", params = "cursor")
+    public ResponseEntity<Object> getAllOwnerItemsBookingsByStatusAfter(
+            @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
+            @RequestHeader(value = USER_HEADER) @Positive Long ownerId,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size) {
+        log.debug("GET request received to get bookings by owner with id = {} and with state = {} after cursor {}",
+                ownerId, bookingStatus, cursor);
+        return bookingClient.getAllOwnerItemsBookingsByStatusAfter(bookingStatus, ownerId, cursor, size);
     }
 }
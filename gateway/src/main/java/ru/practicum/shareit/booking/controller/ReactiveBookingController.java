@@ -0,0 +1,153 @@
+package ru.practicum.shareit.booking.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.client.ReactiveBookingClient;
+import ru.practicum.shareit.booking.dto.BookingBatchDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingStatusBatchDto;
+import ru.practicum.shareit.validation.OnCreate;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.groups.Default;
+
+@Slf4j
+@Validated
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@RequestMapping(path = "/bookings")
+public class ReactiveBookingController {
+    private final ReactiveBookingClient bookingClient;
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final String EXPORT_FORMATS = "(?i)ndjson|csv";
+
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> createBooking(
+            @Validated({OnCreate.class, Default.class}) @RequestBody BookingDto bookingDto,
+            @Positive @RequestHeader(value = USER_HEADER) Long bookerId) {
+        log.debug("POST request received to create a new booking {} of the item with id = {} by user with id = {}",
+                bookingDto, bookingDto.getItemId(), bookerId);
+        return bookingClient.createBooking(bookingDto, bookerId);
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<byte[]>> createBookings(
+            @Validated({OnCreate.class, Default.class}) @RequestBody BookingBatchDto bookingBatchDto,
+            @Positive @RequestHeader(value = USER_HEADER) Long bookerId) {
+        log.debug("POST request received to create a batch of {} bookings by user with id = {}",
+                bookingBatchDto.getBookings().size(), bookerId);
+        return bookingClient.createBookings(bookingBatchDto, bookerId);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> changeBookingStatus(
+            @PathVariable(name = "bookingId") @Positive Long bookingId,
+            @RequestParam(name = "approved") Boolean approved,
+            @RequestHeader(value = USER_HEADER) @Positive Long ownerId) {
+        log.debug("PATCH request received to {} booking by id = {} from user with id = {}",
+                approved ? "approve" : "disapprove", bookingId, ownerId);
+        return bookingClient.changeBookingStatus(bookingId, approved, ownerId);
+    }
+
+    @PatchMapping("/batch")
+    public Mono<ResponseEntity<byte[]>> changeBookingStatuses(
+            @Valid @RequestBody BookingStatusBatchDto bookingStatusBatchDto,
+            @RequestParam(name = "approved") Boolean approved,
+            @RequestHeader(value = USER_HEADER) @Positive Long ownerId) {
+        log.debug("PATCH request received to {} bookings {} from user with id = {}",
+                approved ? "approve" : "disapprove", bookingStatusBatchDto, ownerId);
+        return bookingClient.changeBookingStatuses(bookingStatusBatchDto, approved, ownerId);
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamBookingEvents(
+            @RequestHeader(value = USER_HEADER) @Positive Long userId) {
+        log.debug("GET request received to stream booking events of user with id = {}", userId);
+        return bookingClient.streamBookingEvents(userId);
+    }
+
+    @GetMapping("/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportUserBookings(
+            @RequestParam(name = "format", defaultValue = "ndjson") @Pattern(regexp = EXPORT_FORMATS) String format,
+            @RequestHeader(value = USER_HEADER) @Positive Long userId) {
+        log.debug("GET request received to export all bookings of user with id = {} as {}", userId, format);
+        return bookingClient.exportUserBookings(format, userId);
+    }
+
+    @GetMapping("/owner/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportOwnerItemsBookings(
+            @RequestParam(name = "format", defaultValue = "ndjson") @Pattern(regexp = EXPORT_FORMATS) String format,
+            @RequestHeader(value = USER_HEADER) @Positive Long ownerId) {
+        log.debug("GET request received to export all bookings of items of owner with id = {} as {}", ownerId,
+                format);
+        return bookingClient.exportOwnerItemsBookings(format, ownerId);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> getBookingById(@PathVariable(name = "bookingId") @Positive Long bookingId,
+                                                       @RequestHeader(value = USER_HEADER) @Positive Long userId) {
+        log.debug("GET request received to get booking by id = {} by user with id = {}", bookingId, userId);
+        return bookingClient.getBookingById(bookingId, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getAllUserBookingsByStatus(
+            @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
+            @RequestHeader(value = USER_HEADER) @Positive Long userId,
+            @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size,
+            @RequestParam(name = "total", defaultValue = "false") boolean total) {
+        log.debug("GET request received to get all bookings by user with id = {} and with state = {}", userId,
+                bookingStatus);
+        return bookingClient.getAllUserBookingsByStatus(bookingStatus, userId, from, size, total);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<byte[]>> getAllOwnerItemsBookingsByStatus(
+            @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
+            @RequestHeader(value = USER_HEADER) @Positive Long ownerId,
+            @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size,
+            @RequestParam(name = "total", defaultValue = "false") boolean total) {
+        log.debug("GET request received to get all bookings by owner with id = {} and with state = {}", ownerId,
+                bookingStatus);
+        return bookingClient.getAllOwnerItemsBookingsByStatus(bookingStatus, ownerId, from, size, total);
+    }
+
+    @GetMapping(params = "cursor")
+    public Mono<ResponseEntity<byte[]>> getAllUserBookingsByStatusAfter(
+            @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
+            @RequestHeader(value = USER_HEADER) @Positive Long userId,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size) {
+        log.debug("GET request received to get bookings by user with id = {} and with state = {} after cursor {}",
+                userId, bookingStatus, cursor);
+        return bookingClient.getAllUserBookingsByStatusAfter(bookingStatus, userId, cursor, size);
+    }
+
+    @GetMapping(path = "/owner", params = "cursor")
+    public Mono<ResponseEntity<byte[]>> getAllOwnerItemsBookingsByStatusAfter(
+            @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
+            @RequestHeader(value = USER_HEADER) @Positive Long ownerId,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size) {
+        log.debug("GET request received to get bookings by owner with id = {} and with state = {} after cursor {}",
+                ownerId, bookingStatus, cursor);
+        return bookingClient.getAllOwnerItemsBookingsByStatusAfter(bookingStatus, ownerId, cursor, size);
+    }
+}
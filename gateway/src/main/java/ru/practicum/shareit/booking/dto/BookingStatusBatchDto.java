@@ -0,0 +1,35 @@
+package ru.practicum.shareit.booking.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Bookings whose status is changed at once: the listed ids, or all WAITING bookings of the item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingStatusBatchDto {
+    @Size(min = 1, max = 500, message = "Number of booking ids must be between 1 and 500")
+    private List<@NotNull(message = "Booking id can't be empty") @Positive(message = "Booking id must be positive")
+            Long> bookingIds;
+
+    @Positive(message = "Item id must be positive")
+    private Long itemId;
+
+    @JsonIgnore
+    @AssertTrue(message = "Either booking ids or item id must be set")
+    public boolean isTargetSet() {
+        return (bookingIds == null) != (itemId == null);
+    }
+}
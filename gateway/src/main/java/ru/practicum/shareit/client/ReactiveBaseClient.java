@@ -0,0 +1,139 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link BaseClient}: relays the server response bytes and end-to-end headers
+ * without holding a thread while the server answers.
+ */
+public class ReactiveBaseClient {
+    protected final WebClient webClient;
+    @Nullable
+    private final WebClient streamingWebClient;
+    @Nullable
+    private final StreamLimiter streamLimiter;
+
+    public ReactiveBaseClient(WebClient webClient) {
+        this(webClient, null, null);
+    }
+
+    public ReactiveBaseClient(WebClient webClient, @Nullable WebClient streamingWebClient,
+                              @Nullable StreamLimiter streamLimiter) {
+        this.webClient = webClient;
+        this.streamingWebClient = streamingWebClient;
+        this.streamLimiter = streamLimiter;
+    }
+
+    protected Mono<ResponseEntity<byte[]>> get(String path) {
+        return get(path, null, null);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> get(String path, long userId) {
+        return get(path, userId, null);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> post(String path, T body) {
+        return post(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> post(String path, long userId, T body) {
+        return post(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> post(String path, Long userId,
+                                                    @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> patch(String path, T body) {
+        return patch(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> patch(String path, long userId, T body) {
+        return patch(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> patch(String path, Long userId,
+                                                     @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> delete(String path) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, null, null, null);
+    }
+
+    /**
+     * Relays a streamed response, such as Server-Sent Events or a booking export, accepting {@code mediaType}
+     * or JSON for errors: the body buffers are passed on as they arrive, error responses as is.
+     * The stream goes through the streaming client and holds a {@link StreamLimiter} slot of the user until it ends.
+     */
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> stream(String path, long userId,
+                                                            @Nullable Map<String, Object> parameters,
+                                                            MediaType mediaType) {
+        if (streamingWebClient == null || streamLimiter == null) {
+            throw new IllegalStateException("Streaming client is not configured");
+        }
+        return Mono.defer(() -> {
+            Runnable release = streamLimiter.acquire(userId);
+            return streamingWebClient.get()
+                    .uri(path, parameters == null ? Map.of() : parameters)
+                    .headers(headers -> {
+                        headers.setAccept(List.of(mediaType, MediaType.APPLICATION_JSON));
+                        headers.set("X-Sharer-User-Id", String.valueOf(userId));
+                    })
+                    .retrieve()
+                    .onStatus(status -> true, response -> Mono.empty())
+                    .toEntityFlux(DataBuffer.class)
+                    .map(response -> ResponseEntity.status(response.getStatusCode())
+                            .headers(BaseClient.endToEndHeaders(response.getHeaders()))
+                            .body(response.getBody().doFinally(signal -> release.run())))
+                    .doOnError(e -> release.run())
+                    .doOnCancel(release);
+        });
+    }
+
+    private <T> Mono<ResponseEntity<byte[]>> makeAndSendRequest(HttpMethod method, String path, Long userId,
+                                                                @Nullable Map<String, Object> parameters,
+                                                                @Nullable T body) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> defaultHeaders(headers, userId));
+        WebClient.RequestHeadersSpec<?> requestWithBody = body != null ? request.bodyValue(body) : request;
+        return requestWithBody.exchangeToMono(response -> response.toEntity(byte[].class))
+                .map(ReactiveBaseClient::prepareGatewayResponse);
+    }
+
+    private static void defaultHeaders(HttpHeaders headers, Long userId) {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (userId != null) {
+            headers.set("X-Sharer-User-Id", String.valueOf(userId));
+        }
+    }
+
+    private static ResponseEntity<byte[]> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode())
+                .headers(BaseClient.endToEndHeaders(response.getHeaders()));
+
+        if (response.hasBody()) {
+            return responseBuilder.body(response.getBody());
+        }
+
+        return responseBuilder.build();
+    }
+}
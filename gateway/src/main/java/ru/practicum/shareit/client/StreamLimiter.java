@@ -0,0 +1,65 @@
+package ru.practicum.shareit.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.exception.ServiceUnavailableException;
+import ru.practicum.shareit.exception.TooManyRequestsException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounds the streams relayed at once, per user and in total, so long-lived streams can't take all
+ * streaming connections: a user over the limit gets 429, everyone gets 503 while the gateway is full.
+ */
+@Slf4j
+@Component
+public class StreamLimiter {
+    private final int maxTotal;
+    private final int maxPerUser;
+    private final Map<Long, Integer> userStreams = new HashMap<>();
+    private int totalStreams;
+
+    public StreamLimiter(@Value("${shareit-gateway.streams.max-total:200}") int maxTotal,
+                         @Value("${shareit-gateway.streams.max-per-user:5}") int maxPerUser) {
+        this.maxTotal = maxTotal;
+        this.maxPerUser = maxPerUser;
+    }
+
+    /**
+     * Takes a stream slot of the user.
+     *
+     * @return the release of the slot, which may be run more than once
+     */
+    public synchronized Runnable acquire(long userId) {
+        if (totalStreams >= maxTotal) {
+            log.warn("{} streams are open, the stream of user with id = {} is refused", totalStreams, userId);
+            throw new ServiceUnavailableException("Too many open streams, try again later");
+        }
+        int streams = userStreams.getOrDefault(userId, 0);
+        if (streams >= maxPerUser) {
+            log.warn("User with id = {} has {} open streams", userId, streams);
+            throw new TooManyRequestsException(String.format("User with id = %d has %d open streams", userId,
+                    streams));
+        }
+        userStreams.put(userId, streams + 1);
+        totalStreams++;
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                release(userId);
+            }
+        };
+    }
+
+    public synchronized int getOpenStreams() {
+        return totalStreams;
+    }
+
+    private synchronized void release(long userId) {
+        userStreams.computeIfPresent(userId, (id, streams) -> streams > 1 ? streams - 1 : null);
+        totalStreams--;
+    }
+}
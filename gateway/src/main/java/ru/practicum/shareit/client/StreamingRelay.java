@@ -0,0 +1,110 @@
+package ru.practicum.shareit.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Relays a streamed server response, such as Server-Sent Events or a booking export, chunk by chunk:
+ * the body is flushed as it arrives, never buffered whole, and the server connection is aborted,
+ * not drained, when the client goes away.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StreamingRelay {
+    private final CloseableHttpClient httpClient;
+    private final StreamLimiter streamLimiter;
+    private final String serverUrl;
+
+    public StreamingRelay(@Qualifier("shareItServerStreamingHttpClient") CloseableHttpClient httpClient,
+                          StreamLimiter streamLimiter, @Value("${shareit-server.url}") String serverUrl) {
+        this.httpClient = httpClient;
+        this.streamLimiter = streamLimiter;
+        this.serverUrl = serverUrl;
+    }
+
+    /**
+     * Sends a GET request accepting {@code mediaType}, or JSON for errors, and relays the response.
+     * The stream holds a {@link StreamLimiter} slot of the user until it ends.
+     */
+    public ResponseEntity<StreamingResponseBody> relay(String path, long userId, @Nullable Map<String, ?> parameters,
+                                                       MediaType mediaType) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(serverUrl + path)
+                .buildAndExpand(parameters == null ? Map.of() : parameters)
+                .encode()
+                .toUri();
+        HttpGet request = new HttpGet(uri);
+        request.setHeader(HttpHeaders.ACCEPT, MediaType.toString(List.of(mediaType, MediaType.APPLICATION_JSON)));
+        request.setHeader("X-Sharer-User-Id", String.valueOf(userId));
+        Runnable release = streamLimiter.acquire(userId);
+        CloseableHttpResponse response;
+        try {
+            response = httpClient.execute(request);
+        } catch (IOException e) {
+            release.run();
+            throw new ResourceAccessException("I/O error on GET request for \"" + request.getURI() + "\": "
+                    + e.getMessage(), e);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        for (Header header : response.getAllHeaders()) {
+            headers.add(header.getName(), header.getValue());
+        }
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusLine().getStatusCode())
+                .headers(BaseClient.endToEndHeaders(headers));
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            close(response);
+            release.run();
+            return responseBuilder.build();
+        }
+        return responseBuilder.body(outputStream -> {
+            boolean relayed = false;
+            try {
+                InputStream body = entity.getContent();
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                    outputStream.flush();
+                }
+                relayed = true;
+            } finally {
+                if (!relayed) {
+                    log.debug("Stream {} is closed by the client", path);
+                    request.abort();
+                }
+                close(response);
+                release.run();
+            }
+        });
+    }
+
+    private static void close(CloseableHttpResponse response) {
+        try {
+            response.close();
+        } catch (IOException e) {
+            log.debug("Server response is not closed: {}", e.getMessage());
+        }
+    }
+}
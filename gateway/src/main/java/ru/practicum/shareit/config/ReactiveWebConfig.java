@@ -0,0 +1,74 @@
+package ru.practicum.shareit.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.shareit.booking.util.converter.StringToBookingStatusConverter;
+
+import java.time.Duration;
+
+/**
+ * Reactive gateway mode, enabled by {@code spring.main.web-application-type=reactive}: requests are served
+ * by Netty and proxied with {@code WebClient}, so waiting for the server does not hold a thread.
+ * The connection pool to the server uses the same {@code shareit-server.*} settings as the servlet mode.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig implements WebFluxConfigurer {
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(new StringToBookingStatusConverter());
+    }
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    @Primary
+    public ClientHttpConnector shareItServerConnector(
+            @Value("${shareit-server.pool.max-total:200}") int maxConnections,
+            @Value("${shareit-server.pool.acquire-timeout:1s}") Duration acquireTimeout,
+            @Value("${shareit-server.pool.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${shareit-server.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${shareit-server.read-timeout:10s}") Duration readTimeout) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("shareit-server")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(acquireTimeout)
+                .maxIdleTime(idleTimeout)
+                .evictInBackground(idleTimeout)
+                .metrics(true)
+                .build();
+        return new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout));
+    }
+
+    /**
+     * Streams hold a connection for minutes, so they get their own pool and no response timeout.
+     */
+    @Bean
+    public ClientHttpConnector shareItServerStreamingConnector(
+            @Value("${shareit-server.streaming.max-connections:200}") int maxConnections,
+            @Value("${shareit-server.pool.acquire-timeout:1s}") Duration acquireTimeout,
+            @Value("${shareit-server.connect-timeout:2s}") Duration connectTimeout) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("shareit-server-streaming")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(acquireTimeout)
+                .metrics(true)
+                .build();
+        return new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis()));
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import ru.practicum.shareit.exception.*;
 
 import javax.validation.ConstraintViolationException;
@@ -21,7 +22,8 @@ public class ErrorHandler {
         return new ErrorResponse("Object not found", exception.getMessage());
     }
 
-    @ExceptionHandler({ConstraintViolationException.class, MethodArgumentNotValidException.class})
+    @ExceptionHandler({ConstraintViolationException.class, MethodArgumentNotValidException.class,
+            WebExchangeBindException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleConstraintViolationException(final Exception exception) {
         log.warn("Validation error. {}", exception.getMessage());
@@ -79,4 +81,18 @@ public class ErrorHandler {
         log.warn("Incorrect parameters were transmitted. {}", exception.getMessage());
         return new ErrorResponse("Incorrect parameters were transmitted", exception.getMessage());
     }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorResponse handleTooManyRequestsException(final TooManyRequestsException exception) {
+        log.warn("Too many requests. {}", exception.getMessage());
+        return new ErrorResponse("Too many requests", exception.getMessage());
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleServiceUnavailableException(final ServiceUnavailableException exception) {
+        log.warn("Service unavailable. {}", exception.getMessage());
+        return new ErrorResponse("Service unavailable", exception.getMessage());
+    }
 }
@@ -2,12 +2,14 @@ package ru.practicum.shareit.item.client;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ConditionalGetCache;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
@@ -15,15 +17,18 @@ import java.util.List;
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory, ConditionalGetCache conditionalGetCache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .requestFactory(() -> requestFactory)
+                        .additionalInterceptors(conditionalGetCache)
                         .build()
         );
     }
@@ -32,12 +37,21 @@ public class ItemClient extends BaseClient {
         return post("", userId, itemDto);
     }
 
-    public ResponseEntity<Object> getAllUserItems(Long userId, int from, int size) {
+    public ResponseEntity<Object> getAllUserItems(Long userId, int from, int size, boolean total) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
+                "size", size,
+                "total", total
+        );
+        return get("?from={from}&size={size}&total={total}", userId, parameters);
+    }
+
+    public ResponseEntity<Object> getAllUserItemsAfter(Long userId, String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
                 "size", size
         );
-        return get("?from={from}&size={size}", userId, parameters);
+        return get("?cursor={cursor}&size={size}", userId, parameters);
     }
 
     public ResponseEntity<Object> getItemById(Long itemId, Long userId) {
@@ -48,16 +62,29 @@ public class ItemClient extends BaseClient {
         return patch("/" + itemId, ownerId, itemDto);
     }
 
-    public ResponseEntity<Object> searchItems(String text, int from, int size) {
+    public ResponseEntity<Object> searchItems(String text, int from, int size, boolean total) {
         if (text.isBlank()) {
             return ResponseEntity.ok().body(List.of());
         }
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size,
+                "total", total,
+                "text", text
+        );
+        return get("/search?from={from}&size={size}&total={total}&text={text}", null, parameters);
+    }
+
+    public ResponseEntity<Object> searchItemsAfter(String text, String cursor, int size) {
+        if (text.isBlank()) {
+            return ResponseEntity.ok().body(List.of());
+        }
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size,
                 "text", text
         );
-        return get("/search?from={from}&size={size}&text={text}", null, parameters);
+        return get("/search?cursor={cursor}&size={size}&text={text}", null, parameters);
     }
 
     public ResponseEntity<Object> createComment(CommentDto commentDto, Long authorId, Long itemId) {
@@ -0,0 +1,87 @@
+package ru.practicum.shareit.item.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/items";
+
+    @Autowired
+    public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<byte[]>> createItem(ItemDto itemDto, Long userId) {
+        return post("", userId, itemDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAllUserItems(Long userId, int from, int size, boolean total) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size,
+                "total", total
+        );
+        return get("?from={from}&size={size}&total={total}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAllUserItemsAfter(Long userId, String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size
+        );
+        return get("?cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemById(Long itemId, Long userId) {
+        return get("/" + itemId, userId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> updateItem(Long itemId, ItemDto itemDto, Long ownerId) {
+        return patch("/" + itemId, ownerId, itemDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> searchItems(String text, int from, int size, boolean total) {
+        if (text.isBlank()) {
+            return Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                    .body("[]".getBytes(StandardCharsets.UTF_8)));
+        }
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size,
+                "total", total,
+                "text", text
+        );
+        return get("/search?from={from}&size={size}&total={total}&text={text}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> searchItemsAfter(String text, String cursor, int size) {
+        if (text.isBlank()) {
+            return Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                    .body("[]".getBytes(StandardCharsets.UTF_8)));
+        }
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size,
+                "text", text
+        );
+        return get("/search?cursor={cursor}&size={size}&text={text}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> createComment(CommentDto commentDto, Long authorId, Long itemId) {
+        return post("/" + itemId + "/comment", authorId, commentDto);
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.item.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -20,6 +21,7 @@ import javax.validation.groups.Default;
 @Slf4j
 @Validated
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @RequestMapping("/items")
 public class ItemController {
@@ -39,9 +41,19 @@ public class ItemController {
                                                   @RequestParam(name = "from", defaultValue = "0")
                                                   @PositiveOrZero int from,
                                                   @RequestParam(name = "size", defaultValue = "10")
-                                                  @Positive int size) {
+                                                  @Positive int size,
+                                                  @RequestParam(name = "total", defaultValue = "false") boolean total) {
         log.debug("GET request received to get all items of the user with id = {}", userId);
-        return itemClient.getAllUserItems(userId, from, size);
+        return itemClient.getAllUserItems(userId, from, size, total);
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<Object> getAllUserItemsAfter(@RequestHeader(value = USER_HEADER) @Positive @NotNull Long userId,
+                                                       @RequestParam(name = "cursor") String cursor,
+                                                       @RequestParam(name = "size", defaultValue = "10")
+                                                       @Positive int size) {
+        log.debug("GET request received to get items of the user with id = {} after cursor {}", userId, cursor);
+        return itemClient.getAllUserItemsAfter(userId, cursor, size);
     }
 
     @GetMapping("/{itemId}")
@@ -63,9 +75,18 @@ public class ItemController {
     @GetMapping("/search")
     public ResponseEntity<Object> searchItems(@RequestParam("text") String text,
                                               @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero int from,
-                                              @RequestParam(name = "size", defaultValue = "10") @Positive int size) {
+                                              @RequestParam(name = "size", defaultValue = "10") @Positive int size,
+                                              @RequestParam(name = "total", defaultValue = "false") boolean total) {
         log.debug("GET request received to search items by text = {}", text);
-        return itemClient.searchItems(text, from, size);
+        return itemClient.searchItems(text, from, size, total);
+    }
+
+    @GetMapping(path = "/search", params = "cursor")
+    public ResponseEntity<Object> searchItemsAfter(@RequestParam("text") String text,
+                                                   @RequestParam(name = "cursor") String cursor,
+                                                   @RequestParam(name = "size", defaultValue = "10") @Positive int size) {
+        log.debug("GET request received to search items by text = {} after cursor {}", text, cursor);
+        return itemClient.searchItemsAfter(text, cursor, size);
     }
 
     @PostMapping("/{itemId}/comment")
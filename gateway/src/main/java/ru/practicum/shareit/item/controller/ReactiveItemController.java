@@ -0,0 +1,106 @@
+package ru.practicum.shareit.item.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.client.ReactiveItemClient;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.validation.OnCreate;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.groups.Default;
+
+@Slf4j
+@Validated
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@RequestMapping("/items")
+public class ReactiveItemController {
+    private final ReactiveItemClient itemClient;
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> createItem(
+            @Validated({OnCreate.class, Default.class}) @RequestBody ItemDto itemDto,
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long userId) {
+        log.debug("POST request received to create a new item {} from user with id = {}", itemDto, userId);
+        return itemClient.createItem(itemDto, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getAllUserItems(
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long userId,
+            @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size,
+            @RequestParam(name = "total", defaultValue = "false") boolean total) {
+        log.debug("GET request received to get all items of the user with id = {}", userId);
+        return itemClient.getAllUserItems(userId, from, size, total);
+    }
+
+    @GetMapping(params = "cursor")
+    public Mono<ResponseEntity<byte[]>> getAllUserItemsAfter(
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long userId,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size) {
+        log.debug("GET request received to get items of the user with id = {} after cursor {}", userId, cursor);
+        return itemClient.getAllUserItemsAfter(userId, cursor, size);
+    }
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<byte[]>> getItemById(
+            @PathVariable(name = "itemId") @Positive @NotNull Long itemId,
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long userId) {
+        log.debug("GET request received to get item by id = {} from user with id = {}", itemId, userId);
+        return itemClient.getItemById(itemId, userId);
+    }
+
+    @PatchMapping("/{itemId}")
+    public Mono<ResponseEntity<byte[]>> updateItem(
+            @PathVariable(name = "itemId") @Positive @NotNull Long itemId,
+            @Valid @RequestBody ItemDto itemDto,
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long ownerId) {
+        log.debug("PATCH request received to update item by id = {} " +
+                "from user with id = {}", itemId, ownerId);
+        return itemClient.updateItem(itemId, itemDto, ownerId);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<byte[]>> searchItems(
+            @RequestParam("text") String text,
+            @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size,
+            @RequestParam(name = "total", defaultValue = "false") boolean total) {
+        log.debug("GET request received to search items by text = {}", text);
+        return itemClient.searchItems(text, from, size, total);
+    }
+
+    @GetMapping(path = "/search", params = "cursor")
+    public Mono<ResponseEntity<byte[]>> searchItemsAfter(
+            @RequestParam("text") String text,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size) {
+        log.debug("GET request received to search items by text = {} after cursor {}", text, cursor);
+        return itemClient.searchItemsAfter(text, cursor, size);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<byte[]>> createComment(
+            @Validated({OnCreate.class, Default.class}) @RequestBody CommentDto commentDto,
+            @PathVariable(name = "itemId") @Positive Long itemId,
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long authorId) {
+        log.debug("POST request received to create a new comment {} from user with id = {} and item with id = {}",
+                commentDto, authorId, itemId);
+        return itemClient.createComment(commentDto, authorId, itemId);
+    }
+}
@@ -2,26 +2,31 @@ package ru.practicum.shareit.request.client;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ConditionalGetCache;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             ClientHttpRequestFactory requestFactory, ConditionalGetCache conditionalGetCache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .requestFactory(() -> requestFactory)
+                        .additionalInterceptors(conditionalGetCache)
                         .build()
         );
     }
@@ -34,12 +39,21 @@ public class ItemRequestClient extends BaseClient {
         return get("", requestorId);
     }
 
-    public ResponseEntity<Object> getSeveralItemRequestsPaginated(int from, int size, Long requestorId) {
+    public ResponseEntity<Object> getSeveralItemRequestsPaginated(int from, int size, boolean total, Long requestorId) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
+                "size", size,
+                "total", total
+        );
+        return get("/all?from={from}&size={size}&total={total}", requestorId, parameters);
+    }
+
+    public ResponseEntity<Object> getSeveralItemRequestsAfter(String cursor, int size, Long requestorId) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
                 "size", size
         );
-        return get("/all?from={from}&size={size}", requestorId, parameters);
+        return get("/all?cursor={cursor}&size={size}", requestorId, parameters);
     }
 
     public ResponseEntity<Object> getItemRequestById(Long requestId, Long ownerId) {
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.request.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/requests";
+
+    @Autowired
+    public ReactiveItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<byte[]>> createItemRequest(ItemRequestDto itemRequestDto, Long requestorId) {
+        return post("", requestorId, itemRequestDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAllItemRequestsByRequestor(Long requestorId) {
+        return get("", requestorId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getSeveralItemRequestsPaginated(int from, int size, boolean total,
+                                                                        Long requestorId) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size,
+                "total", total
+        );
+        return get("/all?from={from}&size={size}&total={total}", requestorId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getSeveralItemRequestsAfter(String cursor, int size, Long requestorId) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size
+        );
+        return get("/all?cursor={cursor}&size={size}", requestorId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemRequestById(Long requestId, Long ownerId) {
+        return get("/" + requestId, ownerId);
+    }
+}
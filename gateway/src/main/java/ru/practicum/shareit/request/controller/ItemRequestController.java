@@ -2,6 +2,7 @@ package ru.practicum.shareit.request.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -19,6 +20,7 @@ import javax.validation.groups.Default;
 @Slf4j
 @Validated
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @RequestMapping(path = "/requests")
 public class ItemRequestController {
@@ -46,10 +48,21 @@ public class ItemRequestController {
     public ResponseEntity<Object> getSeveralItemRequestsPaginated(
             @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero int from,
             @RequestParam(name = "size", defaultValue = "10") @Positive int size,
+            @RequestParam(name = "total", defaultValue = "false") boolean total,
             @RequestHeader(value = USER_HEADER) @Positive @NotNull Long requestorId) {
         log.debug("GET request received from user with id = {} to get {} items' requests beginning with {} ",
                 requestorId, size, from);
-        return itemRequestClient.getSeveralItemRequestsPaginated(from, size, requestorId);
+        return itemRequestClient.getSeveralItemRequestsPaginated(from, size, total, requestorId);
+    }
+
+    @GetMapping(path = "/all", params = "cursor")
+    public ResponseEntity<Object> getSeveralItemRequestsAfter(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size,
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long requestorId) {
+        log.debug("GET request received from user with id = {} to get {} items' requests after cursor {}",
+                requestorId, size, cursor);
+        return itemRequestClient.getSeveralItemRequestsAfter(cursor, size, requestorId);
     }
 
     @GetMapping("/{requestId}")
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.request.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.request.client.ReactiveItemRequestClient;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.validation.OnCreate;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.groups.Default;
+
+
+@Slf4j
+@Validated
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@RequestMapping(path = "/requests")
+public class ReactiveItemRequestController {
+    private final ReactiveItemRequestClient itemRequestClient;
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> createItemRequest(
+            @Validated({OnCreate.class, Default.class}) @RequestBody ItemRequestDto itemRequestDto,
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long requestorId) {
+        log.debug("POST request received to create a new item's request {} from user with id = {}",
+                itemRequestDto, requestorId);
+        return itemRequestClient.createItemRequest(itemRequestDto, requestorId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getAllItemRequestsByRequestor(
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long requestorId) {
+        log.debug("GET request received to get all items' requests of the user with id = {}", requestorId);
+        return itemRequestClient.getAllItemRequestsByRequestor(requestorId);
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<byte[]>> getSeveralItemRequestsPaginated(
+            @RequestParam(name = "from", defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size,
+            @RequestParam(name = "total", defaultValue = "false") boolean total,
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long requestorId) {
+        log.debug("GET request received from user with id = {} to get {} items' requests beginning with {} ",
+                requestorId, size, from);
+        return itemRequestClient.getSeveralItemRequestsPaginated(from, size, total, requestorId);
+    }
+
+    @GetMapping(path = "/all", params = "cursor")
+    public Mono<ResponseEntity<byte[]>> getSeveralItemRequestsAfter(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") @Positive int size,
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long requestorId) {
+        log.debug("GET request received from user with id = {} to get {} items' requests after cursor {}",
+                requestorId, size, cursor);
+        return itemRequestClient.getSeveralItemRequestsAfter(cursor, size, requestorId);
+    }
+
+    @GetMapping("/{requestId}")
+    public Mono<ResponseEntity<byte[]>> getItemRequestById(
+            @PathVariable(name = "requestId") @Positive Long requestId,
+            @RequestHeader(value = USER_HEADER) @Positive @NotNull Long ownerId) {
+        log.debug("GET request received to get items' request by id = {} from user with id = {}", requestId, ownerId);
+        return itemRequestClient.getItemRequestById(requestId, ownerId);
+    }
+}
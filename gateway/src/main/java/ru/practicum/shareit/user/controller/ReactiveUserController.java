@@ -0,0 +1,59 @@
+package ru.practicum.shareit.user.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.client.ReactiveUserClient;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.validation.OnCreate;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.groups.Default;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@RequestMapping(path = "/users")
+public class ReactiveUserController {
+    private final ReactiveUserClient userClient;
+
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> createUser(
+            @Validated({OnCreate.class, Default.class}) @RequestBody UserDto userDto) {
+        log.debug("POST request received to create a new user {}", userDto);
+        return userClient.createUser(userDto);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getAllUsers() {
+        log.debug("GET request received to get all users");
+        return userClient.getAllUsers();
+    }
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<byte[]>> getUserById(@PathVariable(name = "userId") @Positive Long userId) {
+        log.debug("GET request received to get user by id = {}", userId);
+        return userClient.getUserById(userId);
+    }
+
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<byte[]>> updateUser(@PathVariable(name = "userId") @Positive Long userId,
+                                                   @Valid @RequestBody UserDto userDto) {
+        log.debug("PATCH request received to update user by id = {}", userId);
+        return userClient.updateUser(userId, userDto);
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<ResponseEntity<byte[]>> deleteUser(@PathVariable(name = "userId") @Positive Long userId) {
+        log.debug("DELETE request received to delete user by id = {}", userId);
+        return userClient.deleteUser(userId);
+    }
+}
@@ -0,0 +1,42 @@
+// k6 test of how many concurrent connections the gateway sustains.
+// Start the gateway once per mode and run the same scenario against each:
+//   SPRING_MAIN_WEB_APPLICATION_TYPE=servlet  (Tomcat, 200 worker threads, RestTemplate)
+//   SPRING_MAIN_WEB_APPLICATION_TYPE=reactive (Netty event loop, WebClient)
+//   k6 run -e BASE_URL=http://localhost:8080 -e MAX_VUS=2000 load-test/gateway-concurrency.js
+// Compare the VU level where http_req_duration p(95) breaks the threshold and http_reqs/s stops growing.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MAX_VUS = Number(__ENV.MAX_VUS || 2000);
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 50,
+            stages: [
+                { duration: '30s', target: MAX_VUS / 4 },
+                { duration: '30s', target: MAX_VUS / 2 },
+                { duration: '30s', target: MAX_VUS },
+                { duration: '1m', target: MAX_VUS },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<500'],
+    },
+};
+
+export function setup() {
+    const user = http.post(`${BASE_URL}/users`,
+        JSON.stringify({ name: 'reader', email: `reader${Date.now()}@load.test` }),
+        { headers: { 'Content-Type': 'application/json' } });
+    return { userId: user.json('id') };
+}
+
+export default function (data) {
+    const response = http.get(`${BASE_URL}/users/${data.userId}`);
+    check(response, { 'user 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,46 @@
+// k6 load test of the gateway -> server proxy path.
+// Run against a started docker-compose stack:
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=100 load-test/gateway-items.js
+// Compare http_reqs/s and http_req_duration with the default pool settings and with
+// SHAREIT_SERVER_POOL_MAX_PER_ROUTE=2 (the per-route limit of the previous, unpooled setup).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ITEMS = 50;
+
+export const options = {
+    scenarios: {
+        items: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 100),
+            duration: __ENV.DURATION || '1m',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const json = { headers: { 'Content-Type': 'application/json' } };
+
+export function setup() {
+    const suffix = Date.now();
+    const owner = http.post(`${BASE_URL}/users`,
+        JSON.stringify({ name: 'owner', email: `owner${suffix}@load.test` }), json).json('id');
+    const items = [];
+    for (let i = 0; i < ITEMS; i++) {
+        items.push(http.post(`${BASE_URL}/items`,
+            JSON.stringify({ name: `item${i}`, description: `load test item ${i}`, available: true }),
+            { headers: { 'Content-Type': 'application/json', 'X-Sharer-User-Id': `${owner}` } }).json('id'));
+    }
+    return { owner, items };
+}
+
+export default function (data) {
+    const headers = { headers: { 'X-Sharer-User-Id': `${data.owner}` } };
+    const itemId = data.items[Math.floor(Math.random() * data.items.length)];
+    check(http.get(`${BASE_URL}/items/${itemId}`, headers), { 'item 200': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/items?from=0&size=10`, headers), { 'items 200': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/users/${data.owner}`), { 'user 200': (r) => r.status === 200 });
+}
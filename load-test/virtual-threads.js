@@ -0,0 +1,47 @@
+// k6 comparison of platform and virtual thread request handling at 1k+ concurrent clients.
+// Run the docker-compose stack (Java 21 images) twice, with SHAREIT_VIRTUAL_THREADS_ENABLED=false and =true
+// for server and gateway, and compare http_reqs/s and the http_req_duration percentiles of both runs:
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=1500 load-test/virtual-threads.js
+// The mix is dominated by blocking waits: gateway -> server HTTP and server -> PostgreSQL JDBC.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 1500);
+
+export const options = {
+    scenarios: {
+        clients: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const json = { 'Content-Type': 'application/json' };
+
+export function setup() {
+    const suffix = Date.now();
+    const owner = http.post(`${BASE_URL}/users`,
+        JSON.stringify({ name: 'owner', email: `owner${suffix}@load.test` }), { headers: json }).json('id');
+    const booker = http.post(`${BASE_URL}/users`,
+        JSON.stringify({ name: 'booker', email: `booker${suffix}@load.test` }), { headers: json }).json('id');
+    const item = http.post(`${BASE_URL}/items`,
+        JSON.stringify({ name: 'drill', description: 'load test drill', available: true }),
+        { headers: Object.assign({ 'X-Sharer-User-Id': `${owner}` }, json) }).json('id');
+    return { owner, booker, item };
+}
+
+export default function (data) {
+    const owner = { headers: { 'X-Sharer-User-Id': `${data.owner}` } };
+    const booker = { headers: { 'X-Sharer-User-Id': `${data.booker}` } };
+    check(http.get(`${BASE_URL}/items/${data.item}`, owner), { 'item 200': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/items?from=0&size=10`, owner), { 'items 200': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/bookings?state=ALL&from=0&size=10`, booker),
+        { 'bookings 200': (r) => r.status === 200 });
+}
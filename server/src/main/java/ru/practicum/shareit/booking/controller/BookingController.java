@@ -2,12 +2,22 @@ package ru.practicum.shareit.booking.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingBatchDto;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusBatchDto;
+import ru.practicum.shareit.booking.dto.BookingStatusResultDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.util.export.BookingExportFormat;
 import ru.practicum.shareit.booking.util.mapper.BookingMapper;
+import ru.practicum.shareit.util.TotalCount;
 
 import java.util.List;
 
@@ -30,6 +40,14 @@ public class BookingController {
         return bookingService.createBooking(booking, bookerId, bookingDto.getItemId());
     }
 
+    @PostMapping("/batch")
+    public List<BookingBatchResultDto> createBookings(@RequestBody BookingBatchDto bookingBatchDto,
+                                                      @RequestHeader(value = USER_HEADER) Long bookerId) {
+        log.debug("POST request received to create a batch of {} bookings by user with id = {}",
+                bookingBatchDto.getBookings().size(), bookerId);
+        return bookingService.createBookings(bookingBatchDto.getBookings(), bookerId);
+    }
+
     @PatchMapping("/{bookingId}")
     public BookingDto changeBookingStatus(@PathVariable(name = "bookingId") Long bookingId,
                                           @RequestParam(name = "approved") Boolean approved,
@@ -39,6 +57,45 @@ public class BookingController {
         return bookingService.changeBookingStatus(bookingId, approved, ownerId);
     }
 
+    @PatchMapping("/batch")
+    public List<BookingStatusResultDto> changeBookingStatuses(@RequestBody BookingStatusBatchDto bookingStatusBatchDto,
+                                                              @RequestParam(name = "approved") Boolean approved,
+                                                              @RequestHeader(value = USER_HEADER) Long ownerId) {
+        log.debug("PATCH request received to {} bookings {} from user with id = {}",
+                approved ? "approve" : "disapprove", bookingStatusBatchDto, ownerId);
+        return bookingService.changeBookingStatuses(bookingStatusBatchDto.getBookingIds(),
+                bookingStatusBatchDto.getItemId(), approved, ownerId);
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBookingEvents(@RequestHeader(value = USER_HEADER) Long userId) {
+        log.debug("GET request received to stream booking events of user with id = {}", userId);
+        return bookingService.subscribeToBookingEvents(userId);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUserBookings(
+            @RequestHeader(value = USER_HEADER) Long userId,
+            @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+        log.debug("GET request received to export all bookings of user with id = {} as {}", userId, format);
+        BookingExportFormat exportFormat = BookingExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(bookingService.exportUserBookings(userId, exportFormat));
+    }
+
+    @GetMapping("/owner/export")
+    public ResponseEntity<StreamingResponseBody> exportOwnerItemsBookings(
+            @RequestHeader(value = USER_HEADER) Long ownerId,
+            @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+        log.debug("GET request received to export all bookings of items of owner with id = {} as {}", ownerId,
+                format);
+        BookingExportFormat exportFormat = BookingExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(bookingService.exportOwnerItemsBookings(ownerId, exportFormat));
+    }
+
     @GetMapping("/{bookingId}")
     public BookingDto getBookingById(@PathVariable(name = "bookingId") Long bookingId,
                                      @RequestHeader(value = USER_HEADER) Long userId) {
@@ -47,24 +104,52 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingDto> getAllUserBookingsByStatus(
+    public ResponseEntity<List<BookingDto>> getAllUserBookingsByStatus(
             @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
             @RequestHeader(value = USER_HEADER) Long userId,
             @RequestParam(name = "from", defaultValue = "0") int from,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "total", defaultValue = "false") boolean total) {
         log.debug("GET request received to get all bookings by user with id = {} and with state = {}", userId,
                 bookingStatus);
-        return bookingService.getAllUserBookingsByStatus(bookingStatus, userId, from, size);
+        return TotalCount.toResponseEntity(bookingService.getAllUserBookingsByStatus(bookingStatus, userId, from, size),
+                total, () -> bookingService.countUserBookingsByStatus(bookingStatus, userId));
     }
 
     @GetMapping("/owner")
-    public List<BookingDto> getAllOwnerItemsBookingsByStatus(
+    public ResponseEntity<List<BookingDto>> getAllOwnerItemsBookingsByStatus(
             @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
             @RequestHeader(value = USER_HEADER) Long ownerId,
             @RequestParam(name = "from", defaultValue = "0") int from,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "total", defaultValue = "false") boolean total) {
         log.debug("GET request received to get all bookings by owner with id = {} and with state = {}", ownerId,
                 bookingStatus);
-        return bookingService.getAllOwnerItemsBookingsByStatus(bookingStatus, ownerId, from, size);
+        return TotalCount.toResponseEntity(
+                bookingService.getAllOwnerItemsBookingsByStatus(bookingStatus, ownerId, from, size),
+                total, () -> bookingService.countOwnerItemsBookingsByStatus(bookingStatus, ownerId));
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<List<BookingDto>> getAllUserBookingsByStatusAfter(
+            @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
+            @RequestHeader(value = USER_HEADER) Long userId,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        log.debug("GET request received to get bookings by user with id = {} and with state = {} after cursor {}",
+                userId, bookingStatus, cursor);
+        return bookingService.getAllUserBookingsByStatusAfter(bookingStatus, userId, cursor, size).toResponseEntity();
+    }
+
+    @GetMapping(path = "/owner", params = "cursor")
+    public ResponseEntity<List<BookingDto>> getAllOwnerItemsBookingsByStatusAfter(
+            @RequestParam(name = "state", required = false, defaultValue = "ALL") BookingStatus bookingStatus,
+            @RequestHeader(value = USER_HEADER) Long ownerId,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        log.debug("GET request received to get bookings by owner with id = {} and with state = {} after cursor {}",
+                ownerId, bookingStatus, cursor);
+        return bookingService.getAllOwnerItemsBookingsByStatusAfter(bookingStatus, ownerId, cursor, size)
+                .toResponseEntity();
     }
 }
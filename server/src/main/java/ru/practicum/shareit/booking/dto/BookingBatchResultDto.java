@@ -0,0 +1,38 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.http.HttpStatus;
+import ru.practicum.shareit.exception.ErrorResponse;
+
+/**
+ * Outcome of one entry of a booking batch: the created booking, or the error the single-booking
+ * endpoint would have answered with. {@code index} is the position of the entry in the request.
+ */
+@Data
+@Builder
+public class BookingBatchResultDto {
+    private int index;
+
+    private int status;
+
+    private BookingDto booking;
+
+    private ErrorResponse error;
+
+    public static BookingBatchResultDto created(int index, BookingDto booking) {
+        return BookingBatchResultDto.builder()
+                .index(index)
+                .status(HttpStatus.CREATED.value())
+                .booking(booking)
+                .build();
+    }
+
+    public static BookingBatchResultDto failed(int index, HttpStatus status, ErrorResponse error) {
+        return BookingBatchResultDto.builder()
+                .index(index)
+                .status(status.value())
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+/**
+ * Booking event streamed to the booker and the item owner: {@code CREATED} or {@code STATUS_CHANGED}.
+ */
+@Data
+@Builder
+public class BookingEventDto {
+    private Type type;
+
+    private Long bookingId;
+
+    private Long itemId;
+
+    private Long bookerId;
+
+    private Long ownerId;
+
+    private BookingStatus status;
+
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED
+    }
+}
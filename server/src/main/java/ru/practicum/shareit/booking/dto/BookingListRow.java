@@ -0,0 +1,28 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat row of the booking list queries: exactly the columns of {@link BookingDto} with its booker and item,
+ * selected by a JPQL constructor expression instead of loading the entities into the persistence context.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingListRow {
+    private final Long id;
+    private final BookingStatus status;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final Long bookerId;
+    private final String bookerName;
+    private final String bookerEmail;
+    private final Long itemId;
+    private final String itemName;
+    private final String itemDescription;
+    private final Boolean itemAvailable;
+    private final Long itemRequestId;
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.http.HttpStatus;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.exception.ErrorResponse;
+
+/**
+ * Outcome of the status change of one booking: its new status, or the error the single-booking
+ * endpoint would have answered with.
+ */
+@Data
+@Builder
+public class BookingStatusResultDto {
+    private Long bookingId;
+
+    private int status;
+
+    private BookingStatus bookingStatus;
+
+    private ErrorResponse error;
+
+    public static BookingStatusResultDto changed(Long bookingId, BookingStatus bookingStatus) {
+        return BookingStatusResultDto.builder()
+                .bookingId(bookingId)
+                .status(HttpStatus.OK.value())
+                .bookingStatus(bookingStatus)
+                .build();
+    }
+
+    public static BookingStatusResultDto failed(Long bookingId, HttpStatus status, ErrorResponse error) {
+        return BookingStatusResultDto.builder()
+                .bookingId(bookingId)
+                .status(status.value())
+                .error(error)
+                .build();
+    }
+}
@@ -1,97 +1,221 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.dto.BookingListRow;
+import ru.practicum.shareit.booking.dto.BookingStatusView;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
-import ru.practicum.shareit.user.model.User;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+    String AFTER_CURSOR = "AND b.start <= :cursorStart AND (b.start < :cursorStart OR b.id < :cursorId) ";
+    String CURSOR_ORDER = "ORDER BY b.start DESC, b.id DESC";
+    String LIST_ROW_SELECT = "SELECT new ru.practicum.shareit.booking.dto.BookingListRow(b.id, b.status, b.start, " +
+            "b.end, bk.id, bk.name, bk.email, i.id, i.name, i.description, i.available, r.id) " +
+            "FROM Booking AS b JOIN b.booker AS bk JOIN b.item AS i LEFT JOIN i.itemRequest AS r ";
+    String LIST_ROW_COUNT = "SELECT COUNT(b) FROM Booking AS b JOIN b.item AS i ";
+    String CURRENT = "AND b.start < :now AND b.end > :now";
+    String PAST = "AND b.end < :now";
+    String FUTURE = "AND b.start > :now";
+    String EXPORT_FETCH_SIZE = "500";
+
     @EntityGraph(attributePaths = {"booker", "item"})
     Optional<Booking> findById(Long bookingId);
 
-    @EntityGraph(attributePaths = {"booker", "item"})
-    Page<Booking> findByBookerId(Long userId, Pageable pageable);
+    @Query(LIST_ROW_SELECT + "WHERE b.booker.id = :bookerId")
+    Slice<BookingListRow> findAllRowsByBookerId(Long bookerId, Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + "WHERE b.booker.id = :bookerId " + CURRENT)
+    Slice<BookingListRow> findAllCurrentRowsByBookerId(Long bookerId, LocalDateTime now, Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + "WHERE b.booker.id = :bookerId " + PAST)
+    Slice<BookingListRow> findAllPastRowsByBookerId(Long bookerId, LocalDateTime now, Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + "WHERE b.booker.id = :bookerId " + FUTURE)
+    Slice<BookingListRow> findAllFutureRowsByBookerId(Long bookerId, LocalDateTime now, Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + "WHERE b.booker.id = :bookerId AND b.status = :status")
+    Slice<BookingListRow> findAllRowsByBookerIdAndStatus(Long bookerId, BookingStatus status, Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + "WHERE i.owner.id = :ownerId")
+    Slice<BookingListRow> findAllRowsByItemOwnerId(Long ownerId, Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + "WHERE i.owner.id = :ownerId " + CURRENT)
+    Slice<BookingListRow> findAllCurrentRowsByItemOwnerId(Long ownerId, LocalDateTime now, Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + "WHERE i.owner.id = :ownerId " + PAST)
+    Slice<BookingListRow> findAllPastRowsByItemOwnerId(Long ownerId, LocalDateTime now, Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + "WHERE i.owner.id = :ownerId " + FUTURE)
+    Slice<BookingListRow> findAllFutureRowsByItemOwnerId(Long ownerId, LocalDateTime now, Pageable pageable);
+
+    @Query(LIST_ROW_SELECT + "WHERE i.owner.id = :ownerId AND b.status = :status")
+    Slice<BookingListRow> findAllRowsByItemOwnerIdAndStatus(Long ownerId, BookingStatus status, Pageable pageable);
+
+    /**
+     * Reads all bookings of the booker through a forward-only cursor, {@code EXPORT_FETCH_SIZE} rows at a time;
+     * the stream has to be consumed and closed within a transaction.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(LIST_ROW_SELECT + "WHERE b.booker.id = :bookerId " + CURSOR_ORDER)
+    Stream<BookingListRow> streamAllRowsByBookerId(Long bookerId);
+
+    /**
+     * Reads all bookings of the owner's items through a forward-only cursor, see {@link #streamAllRowsByBookerId}.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(LIST_ROW_SELECT + "WHERE i.owner.id = :ownerId " + CURSOR_ORDER)
+    Stream<BookingListRow> streamAllRowsByItemOwnerId(Long ownerId);
+
+    @Query(LIST_ROW_COUNT + "WHERE b.booker.id = :bookerId")
+    long countAllByBookerId(Long bookerId);
+
+    @Query(LIST_ROW_COUNT + "WHERE b.booker.id = :bookerId " + CURRENT)
+    long countAllCurrentByBookerId(Long bookerId, LocalDateTime now);
+
+    @Query(LIST_ROW_COUNT + "WHERE b.booker.id = :bookerId " + PAST)
+    long countAllPastByBookerId(Long bookerId, LocalDateTime now);
+
+    @Query(LIST_ROW_COUNT + "WHERE b.booker.id = :bookerId " + FUTURE)
+    long countAllFutureByBookerId(Long bookerId, LocalDateTime now);
+
+    @Query(LIST_ROW_COUNT + "WHERE b.booker.id = :bookerId AND b.status = :status")
+    long countAllByBookerIdAndStatus(Long bookerId, BookingStatus status);
+
+    @Query(LIST_ROW_COUNT + "WHERE i.owner.id = :ownerId")
+    long countAllByItemOwnerId(Long ownerId);
+
+    @Query(LIST_ROW_COUNT + "WHERE i.owner.id = :ownerId " + CURRENT)
+    long countAllCurrentByItemOwnerId(Long ownerId, LocalDateTime now);
+
+    @Query(LIST_ROW_COUNT + "WHERE i.owner.id = :ownerId " + PAST)
+    long countAllPastByItemOwnerId(Long ownerId, LocalDateTime now);
+
+    @Query(LIST_ROW_COUNT + "WHERE i.owner.id = :ownerId " + FUTURE)
+    long countAllFutureByItemOwnerId(Long ownerId, LocalDateTime now);
+
+    @Query(LIST_ROW_COUNT + "WHERE i.owner.id = :ownerId AND b.status = :status")
+    long countAllByItemOwnerIdAndStatus(Long ownerId, BookingStatus status);
 
     @EntityGraph(attributePaths = {"booker", "item"})
     @Query("SELECT b FROM Booking AS b " +
-            "WHERE b.booker.id = :bookerId AND b.start < CURRENT_TIMESTAMP AND b.end > CURRENT_TIMESTAMP")
-    Page<Booking> findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long bookerId, Pageable pageable);
+            "WHERE b.booker.id = :bookerId " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findAllByBookerIdAfterCursor(Long bookerId, LocalDateTime cursorStart, Long cursorId,
+                                               Pageable pageable);
 
     @EntityGraph(attributePaths = {"booker", "item"})
     @Query("SELECT b FROM Booking AS b " +
-            "WHERE b.booker.id = :bookerId AND b.end < CURRENT_TIMESTAMP")
-    Page<Booking> findAllByBookerIdAndEndBeforeOrderByStartDesc(Long bookerId, Pageable pageable);
+            "WHERE b.booker.id = :bookerId " + CURRENT + " " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findAllCurrentByBookerIdAfterCursor(Long bookerId, LocalDateTime now,
+                                                      LocalDateTime cursorStart, Long cursorId,
+                                                      Pageable pageable);
 
     @EntityGraph(attributePaths = {"booker", "item"})
     @Query("SELECT b FROM Booking AS b " +
-            "WHERE b.booker.id = :bookerId AND b.start > CURRENT_TIMESTAMP")
-    Page<Booking> findAllByBookerIdAndStartAfterOrderByStartDesc(Long bookerId, Pageable pageable);
+            "WHERE b.booker.id = :bookerId " + PAST + " " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findAllPastByBookerIdAfterCursor(Long bookerId, LocalDateTime now,
+                                                   LocalDateTime cursorStart, Long cursorId,
+                                                   Pageable pageable);
 
     @EntityGraph(attributePaths = {"booker", "item"})
-    Page<Booking> findAllByBookerIdAndStatusOrderByStartDesc(Long bookerId, BookingStatus bookingStatus,
-                                                             Pageable pageable);
+    @Query("SELECT b FROM Booking AS b " +
+            "WHERE b.booker.id = :bookerId " + FUTURE + " " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findAllFutureByBookerIdAfterCursor(Long bookerId, LocalDateTime now,
+                                                     LocalDateTime cursorStart, Long cursorId,
+                                                     Pageable pageable);
 
     @EntityGraph(attributePaths = {"booker", "item"})
-    Page<Booking> findAllByItemOwnerOrderByStartDesc(User owner, Pageable pageable);
+    @Query("SELECT b FROM Booking AS b " +
+            "WHERE b.booker.id = :bookerId AND b.status = :status " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findAllByBookerIdAndStatusAfterCursor(Long bookerId, BookingStatus status,
+                                                        LocalDateTime cursorStart, Long cursorId,
+                                                        Pageable pageable);
 
     @EntityGraph(attributePaths = {"booker", "item"})
     @Query("SELECT b FROM Booking AS b " +
-            "WHERE b.item.owner.id = :ownerId AND b.start < CURRENT_TIMESTAMP AND b.end > CURRENT_TIMESTAMP")
-    Page<Booking> findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long ownerId, Pageable pageable);
+            "WHERE b.item.owner.id = :ownerId " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findAllByItemOwnerIdAfterCursor(Long ownerId, LocalDateTime cursorStart, Long cursorId,
+                                                  Pageable pageable);
 
     @EntityGraph(attributePaths = {"booker", "item"})
     @Query("SELECT b FROM Booking AS b " +
-            "WHERE b.item.owner.id = :ownerId AND b.end < CURRENT_TIMESTAMP")
-    Page<Booking> findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(Long ownerId, Pageable pageable);
+            "WHERE b.item.owner.id = :ownerId " + CURRENT + " " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findAllCurrentByItemOwnerIdAfterCursor(Long ownerId, LocalDateTime now,
+                                                         LocalDateTime cursorStart, Long cursorId,
+                                                         Pageable pageable);
 
     @EntityGraph(attributePaths = {"booker", "item"})
     @Query("SELECT b FROM Booking AS b " +
-            "WHERE b.item.owner.id = :ownerId AND b.start > CURRENT_TIMESTAMP")
-    Page<Booking> findAllByItemOwnerIdAndStartAfterOrderByStartDesc(Long ownerId, Pageable pageable);
+            "WHERE b.item.owner.id = :ownerId " + PAST + " " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findAllPastByItemOwnerIdAfterCursor(Long ownerId, LocalDateTime now,
+                                                      LocalDateTime cursorStart, Long cursorId,
+                                                      Pageable pageable);
 
     @EntityGraph(attributePaths = {"booker", "item"})
-    Page<Booking> findAllByItemOwnerIdAndStatusOrderByStartDesc(Long ownerId, BookingStatus bookingStatus,
-                                                                Pageable pageable);
-
     @Query("SELECT b FROM Booking AS b " +
-            "JOIN FETCH b.item " +
-            "JOIN FETCH b.booker " +
-            "WHERE b.item.owner.id = :ownerId AND b.start < CURRENT_TIMESTAMP AND NOT b.status = 'REJECTED' " +
-            "ORDER BY b.end DESC")
-    List<Booking> findUserLastBookingsForEachItem(@Param("ownerId") Long userId);
+            "WHERE b.item.owner.id = :ownerId " + FUTURE + " " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findAllFutureByItemOwnerIdAfterCursor(Long ownerId, LocalDateTime now,
+                                                        LocalDateTime cursorStart, Long cursorId,
+                                                        Pageable pageable);
 
+    @EntityGraph(attributePaths = {"booker", "item"})
     @Query("SELECT b FROM Booking AS b " +
-            "JOIN FETCH b.item " +
-            "JOIN FETCH b.booker " +
-            "WHERE b.item.owner.id = :ownerId AND b.start > CURRENT_TIMESTAMP AND NOT b.status = 'REJECTED' " +
-            "ORDER BY b.start ASC")
-    List<Booking> findUserNextBookingsForEachItem(@Param("ownerId") Long userId);
+            "WHERE b.item.owner.id = :ownerId AND b.status = :status " + AFTER_CURSOR + CURSOR_ORDER)
+    List<Booking> findAllByItemOwnerIdAndStatusAfterCursor(Long ownerId, BookingStatus status,
+                                                           LocalDateTime cursorStart, Long cursorId,
+                                                           Pageable pageable);
+
+    @Query(value = "SELECT ranked.booking_id AS \"id\", ranked.status AS \"status\", " +
+            "ranked.start_date AS \"start\", ranked.end_date AS \"end\", ranked.item_id AS \"itemId\", " +
+            "ranked.booker_id AS \"bookerId\", ranked.is_last AS \"last\" " +
+            "FROM (SELECT b.*, b.start_date < :now AS is_last, " +
+            "ROW_NUMBER() OVER (PARTITION BY b.item_id, b.start_date < :now " +
+            "ORDER BY CASE WHEN b.start_date < :now THEN b.end_date END DESC, b.start_date) AS position " +
+            "FROM bookings AS b " +
+            "WHERE b.item_id IN (:itemIds) AND b.status <> 'REJECTED' AND b.start_date <> :now) AS ranked " +
+            "WHERE ranked.position = 1",
+            nativeQuery = true)
+    List<ItemBookingView> findLastAndNextBookingsForItems(Collection<Long> itemIds, LocalDateTime now);
 
     @Query("SELECT b FROM Booking AS b " +
             "WHERE b.booker.id = :userId AND b.item.id = :itemId AND b.end < CURRENT_TIMESTAMP")
     List<Booking> findAllFinishedBookingsByUserAndItem(Long userId, Long itemId);
 
-    @Query("SELECT b FROM Booking AS b " +
-            "JOIN FETCH b.item " +
-            "JOIN FETCH b.booker " +
-            "WHERE b.item.id = :itemId AND b.start < CURRENT_TIMESTAMP AND NOT b.status = 'REJECTED' " +
-            "ORDER BY b.end DESC")
-    List<Booking> findUserLastBooking(@Param("itemId") Long itemId);
-
-    @Query("SELECT b FROM Booking AS b " +
-            "JOIN FETCH b.item " +
-            "JOIN FETCH b.booker " +
-            "WHERE b.item.id = :itemId AND b.start > CURRENT_TIMESTAMP AND NOT b.status = 'REJECTED' " +
-            "ORDER BY b.start ASC")
-    List<Booking> findUserNextBooking(@Param("itemId") Long itemId);
+    @Query("SELECT b.id AS id, b.item.id AS itemId, b.start AS start, b.end AS end FROM Booking AS b " +
+            "WHERE b.end > :now AND b.status IN :statuses")
+    List<BookingIntervalView> findAllActiveBookingIntervals(Collection<BookingStatus> statuses, LocalDateTime now);
+
+    @Query("SELECT b.id AS id, b.item.id AS itemId, b.item.owner.id AS ownerId, b.booker.id AS bookerId, " +
+            "b.status AS status, b.start AS start FROM Booking AS b " +
+            "WHERE b.id IN :bookingIds")
+    List<BookingStatusView> findAllStatusViewsByIdIn(Collection<Long> bookingIds);
+
+    @Query("SELECT b.id AS id, b.item.id AS itemId, b.item.owner.id AS ownerId, b.booker.id AS bookerId, " +
+            "b.status AS status, b.start AS start FROM Booking AS b " +
+            "WHERE b.item.id = :itemId AND b.status = :status " +
+            "ORDER BY b.start")
+    List<BookingStatusView> findAllStatusViewsByItemIdAndStatus(Long itemId, BookingStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Booking AS b SET b.status = :status " +
+            "WHERE b.id IN :bookingIds AND b.status = 'WAITING'")
+    int updateStatusOfWaitingBookings(Collection<Long> bookingIds, BookingStatus status);
 }
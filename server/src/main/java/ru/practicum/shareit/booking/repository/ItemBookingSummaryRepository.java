@@ -0,0 +1,39 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ItemBookingSummaryRepository extends JpaRepository<ItemBookingSummary, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<ItemBookingSummary> findAllByItemIdInOrderByItemId(Collection<Long> itemIds);
+
+    @Query("SELECT s.itemId FROM ItemBookingSummary AS s " +
+            "WHERE s.refreshAt <= :now " +
+            "ORDER BY s.refreshAt")
+    List<Long> findItemIdsToRefresh(LocalDateTime now, Pageable pageable);
+
+    /**
+     * Last and next bookings of the items whose summary is up to date. Such an item without bookings is returned
+     * as one row with {@code null} booking columns; items with outdated or missing summaries are not returned.
+     * {@code now} comes from the application clock, which also sets {@code refresh_at}, not from the database.
+     */
+    @Query(value = "SELECT s.item_id AS \"itemId\", b.booking_id AS \"id\", b.status AS \"status\", " +
+            "b.start_date AS \"start\", b.end_date AS \"end\", b.booker_id AS \"bookerId\", " +
+            "CASE WHEN b.booking_id = s.last_booking_id THEN TRUE ELSE FALSE END AS \"last\" " +
+            "FROM item_booking_summary AS s " +
+            "LEFT JOIN bookings AS b ON b.booking_id = s.last_booking_id OR b.booking_id = s.next_booking_id " +
+            "WHERE s.item_id IN (:itemIds) AND (s.refresh_at IS NULL OR s.refresh_at > :now)",
+            nativeQuery = true)
+    List<ItemBookingView> findLastAndNextBookings(Collection<Long> itemIds, LocalDateTime now);
+}
@@ -1,19 +1,46 @@
 package ru.practicum.shareit.booking.service;
 
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusResultDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.util.export.BookingExportFormat;
+import ru.practicum.shareit.util.CursorPage;
 
 import java.util.List;
 
 public interface BookingService {
     BookingDto createBooking(Booking booking, Long bookerId, Long itemId);
 
+    List<BookingBatchResultDto> createBookings(List<BookingDto> bookingDtos, Long bookerId);
+
     BookingDto changeBookingStatus(Long bookingId, Boolean approved, Long bookerId);
 
+    List<BookingStatusResultDto> changeBookingStatuses(List<Long> bookingIds, Long itemId, Boolean approved,
+                                                       Long ownerId);
+
     BookingDto getBookingById(Long bookingId, Long userId);
 
     List<BookingDto> getAllUserBookingsByStatus(BookingStatus bookingStatus, Long userId, int from, int size);
 
     List<BookingDto> getAllOwnerItemsBookingsByStatus(BookingStatus bookingStatus, Long ownerId, int from, int size);
+
+    long countUserBookingsByStatus(BookingStatus bookingStatus, Long userId);
+
+    long countOwnerItemsBookingsByStatus(BookingStatus bookingStatus, Long ownerId);
+
+    CursorPage<BookingDto> getAllUserBookingsByStatusAfter(BookingStatus bookingStatus, Long userId, String cursor,
+                                                           int size);
+
+    CursorPage<BookingDto> getAllOwnerItemsBookingsByStatusAfter(BookingStatus bookingStatus, Long ownerId,
+                                                                 String cursor, int size);
+
+    SseEmitter subscribeToBookingEvents(Long userId);
+
+    StreamingResponseBody exportUserBookings(Long userId, BookingExportFormat format);
+
+    StreamingResponseBody exportOwnerItemsBookings(Long ownerId, BookingExportFormat format);
 }
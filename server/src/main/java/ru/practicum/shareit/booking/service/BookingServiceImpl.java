@@ -2,24 +2,48 @@ package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingEventDto;
+import ru.practicum.shareit.booking.dto.BookingListRow;
+import ru.practicum.shareit.booking.dto.BookingStatusResultDto;
+import ru.practicum.shareit.booking.dto.BookingStatusView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.util.cache.BookingListCache;
+import ru.practicum.shareit.booking.util.event.BookingEventBus;
+import ru.practicum.shareit.booking.util.export.BookingExportFormat;
+import ru.practicum.shareit.booking.util.export.BookingExporter;
+import ru.practicum.shareit.booking.util.index.BookingIntervalIndex;
 import ru.practicum.shareit.booking.util.mapper.BookingMapper;
+import ru.practicum.shareit.booking.util.summary.ItemBookingSummaryUpdater;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.outbox.model.OutboxEvent;
+import ru.practicum.shareit.outbox.service.OutboxWriter;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+import ru.practicum.shareit.util.BucketedClock;
+import ru.practicum.shareit.util.CursorPage;
+import ru.practicum.shareit.util.PageCursor;
 import ru.practicum.shareit.util.ShareItPageRequest;
 
-import java.util.List;
-import java.util.Objects;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,8 +52,16 @@ import java.util.stream.Collectors;
 public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final UserExistenceChecker userExistenceChecker;
     private final ItemRepository itemRepository;
     private final BookingMapper bookingMapper;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final BookingListCache bookingListCache;
+    private final BucketedClock bucketedClock;
+    private final ItemBookingSummaryUpdater itemBookingSummaryUpdater;
+    private final BookingEventBus bookingEventBus;
+    private final OutboxWriter outboxWriter;
+    private final BookingExporter bookingExporter;
 
     @Override
     @Transactional
@@ -44,69 +76,243 @@ public class BookingServiceImpl implements BookingService {
             return new NotFoundException(String.format("Item with id = %d not found", itemId));
         });
         log.debug("Item with id = {} found", itemId);
-        if (Objects.equals(booker.getId(), item.getOwner().getId())) {
-            log.warn("User with id = {} can't book his own item", bookerId);
-            throw new PermissionException(String.format("User with id = %d can't book his own item", bookerId));
-        }
-        if (!item.getAvailable() || booking.getEnd().isBefore(booking.getStart())
-                || booking.getEnd().equals(booking.getStart())) {
-            log.warn("Item with id = {} can not be booked", itemId);
-            throw new AlreadyBookedException(String.format("Item with id = %d can not be booked", itemId));
-        }
+        checkBookable(booking, booker, item);
         booking.setStatus(BookingStatus.WAITING);
         booking.setBooker(booker);
         booking.setItem(item);
-        return bookingMapper.bookingToBookingDto(bookingRepository.save(booking));
+        Booking savedBooking = bookingRepository.save(booking);
+        if (!bookingIntervalIndex.tryAdd(itemId, savedBooking.getId(), booking.getStart(), booking.getEnd())) {
+            log.warn("Item with id = {} was booked from {} to {} by a concurrent request", itemId,
+                    booking.getStart(), booking.getEnd());
+            throw new AlreadyBookedException(String.format("Item with id = %d is already booked from %s to %s",
+                    itemId, booking.getStart(), booking.getEnd()));
+        }
+        itemBookingSummaryUpdater.bookingsCreated(List.of(savedBooking));
+        bookingListCache.invalidate(List.of(bookerId, item.getOwner().getId()));
+        publishBookingEvents(List.of(toBookingEvent(BookingEventDto.Type.CREATED, savedBooking)));
+        return bookingMapper.bookingToBookingDto(savedBooking);
     }
 
     @Override
     @Transactional
-    public BookingDto changeBookingStatus(Long bookingId, Boolean approved, Long ownerId) {
-        User owner = userRepository.findById(ownerId).orElseThrow(() -> {
-            log.warn("User with id = {} not found", ownerId);
-            return new NotFoundException(String.format("User with id = %d not found", ownerId));
+    public List<BookingBatchResultDto> createBookings(List<BookingDto> bookingDtos, Long bookerId) {
+        User booker = userRepository.findById(bookerId).orElseThrow(() -> {
+            log.warn("User with id = {} not found", bookerId);
+            return new NotFoundException(String.format("User with id = %d not found", bookerId));
         });
-        log.debug("User with id = {} found", ownerId);
+        log.debug("User with id = {} found", bookerId);
+        Set<Long> itemIds = bookingDtos.stream()
+                .map(BookingDto::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        log.debug("{} of {} items of the booking batch found", items.size(), itemIds.size());
+
+        BookingBatchResultDto[] results = new BookingBatchResultDto[bookingDtos.size()];
+        Map<Long, NavigableMap<LocalDateTime, LocalDateTime>> batchPeriods = new HashMap<>();
+        List<Booking> bookings = new ArrayList<>();
+        List<Integer> bookingIndexes = new ArrayList<>();
+        for (int i = 0; i < bookingDtos.size(); i++) {
+            Long itemId = bookingDtos.get(i).getItemId();
+            Booking booking = bookingMapper.bookingDtoToBooking(bookingDtos.get(i));
+            try {
+                Item item = items.get(itemId);
+                if (item == null) {
+                    log.warn("Item with id = {} not found", itemId);
+                    throw new NotFoundException(String.format("Item with id = %d not found", itemId));
+                }
+                checkBookable(booking, booker, item);
+                if (!tryAddPeriod(batchPeriods.computeIfAbsent(itemId, id -> new TreeMap<>()), booking)) {
+                    log.warn("Item with id = {} is booked twice in the batch from {} to {}", itemId,
+                            booking.getStart(), booking.getEnd());
+                    throw new AlreadyBookedException(String.format("Item with id = %d is already booked from %s to %s",
+                            itemId, booking.getStart(), booking.getEnd()));
+                }
+            } catch (NotFoundException exception) {
+                results[i] = BookingBatchResultDto.failed(i, HttpStatus.NOT_FOUND,
+                        new ErrorResponse("Object not found", exception.getMessage()));
+                continue;
+            } catch (PermissionException exception) {
+                results[i] = BookingBatchResultDto.failed(i, HttpStatus.NOT_FOUND,
+                        new ErrorResponse("Permission denied", exception.getMessage()));
+                continue;
+            } catch (AlreadyBookedException exception) {
+                results[i] = BookingBatchResultDto.failed(i, HttpStatus.BAD_REQUEST,
+                        new ErrorResponse("This item is already booked", exception.getMessage()));
+                continue;
+            }
+            booking.setStatus(BookingStatus.WAITING);
+            booking.setBooker(booker);
+            booking.setItem(items.get(itemId));
+            bookings.add(booking);
+            bookingIndexes.add(i);
+        }
+
+        List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+        log.debug("{} of {} bookings of the batch saved", savedBookings.size(), bookingDtos.size());
+        for (int i = 0; i < savedBookings.size(); i++) {
+            Booking savedBooking = savedBookings.get(i);
+            Long itemId = savedBooking.getItem().getId();
+            if (!bookingIntervalIndex.tryAdd(itemId, savedBooking.getId(), savedBooking.getStart(),
+                    savedBooking.getEnd())) {
+                log.warn("Item with id = {} was booked from {} to {} by a concurrent request", itemId,
+                        savedBooking.getStart(), savedBooking.getEnd());
+                throw new AlreadyBookedException(String.format("Item with id = %d is already booked from %s to %s",
+                        itemId, savedBooking.getStart(), savedBooking.getEnd()));
+            }
+            int index = bookingIndexes.get(i);
+            results[index] = BookingBatchResultDto.created(index, bookingMapper.bookingToBookingDto(savedBooking));
+        }
+        if (!savedBookings.isEmpty()) {
+            itemBookingSummaryUpdater.bookingsCreated(savedBookings);
+            Set<Long> userIds = savedBookings.stream()
+                    .map(savedBooking -> savedBooking.getItem().getOwner().getId())
+                    .collect(Collectors.toCollection(HashSet::new));
+            userIds.add(bookerId);
+            bookingListCache.invalidate(userIds);
+            publishBookingEvents(savedBookings.stream()
+                    .map(savedBooking -> toBookingEvent(BookingEventDto.Type.CREATED, savedBooking))
+                    .collect(Collectors.toList()));
+        }
+        return List.of(results);
+    }
+
+    @Override
+    @Transactional
+    public BookingDto changeBookingStatus(Long bookingId, Boolean approved, Long ownerId) {
+        userExistenceChecker.checkUserExists(ownerId);
         Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> {
             log.warn("Booking with id = {} not found", bookingId);
             return new NotFoundException(String.format("Booking with id = %d not found", bookingId));
         });
         log.debug("Booking with id = {} found", bookingId);
-        if (!Objects.equals(booking.getItem().getOwner().getId(), owner.getId())) {
+        if (!Objects.equals(booking.getItem().getOwner().getId(), ownerId)) {
             log.warn("User with id = {} has no permission to change status of booking with id = {}",
-                    owner.getId(), booking.getId());
+                    ownerId, booking.getId());
             throw new PermissionException(String.format("User with id = %d has no permission to change status of " +
-                    "booking with id = %d", owner.getId(), booking.getId()));
+                    "booking with id = %d", ownerId, booking.getId()));
         }
         if (approved == Boolean.TRUE && booking.getStatus().equals(BookingStatus.WAITING)) {
             booking.setStatus(BookingStatus.APPROVED);
         } else if (approved == Boolean.FALSE && booking.getStatus().equals(BookingStatus.WAITING)) {
             booking.setStatus(BookingStatus.REJECTED);
+            bookingIntervalIndex.remove(booking.getItem().getId(), booking.getId(), booking.getStart());
         } else {
             throw new ChangeStatusException(String.format("Booking status with id = %s already approved", bookingId));
         }
+        itemBookingSummaryUpdater.waitingBookingsChanged(Map.of(booking.getItem().getId(), List.of(bookingId)),
+                booking.getStatus());
+        bookingListCache.invalidate(List.of(ownerId, booking.getBooker().getId()));
+        publishBookingEvents(List.of(toBookingEvent(BookingEventDto.Type.STATUS_CHANGED, booking)));
         return bookingMapper.bookingToBookingDto(bookingRepository.save(booking));
     }
 
+    @Override
+    @Transactional
+    public List<BookingStatusResultDto> changeBookingStatuses(List<Long> bookingIds, Long itemId, Boolean approved,
+                                                              Long ownerId) {
+        userExistenceChecker.checkUserExists(ownerId);
+        BookingStatus newStatus = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        List<BookingStatusView> bookings;
+        if (itemId != null) {
+            Item item = itemRepository.findById(itemId).orElseThrow(() -> {
+                log.warn("Item with id = {} not found", itemId);
+                return new NotFoundException(String.format("Item with id = %d not found", itemId));
+            });
+            if (!Objects.equals(item.getOwner().getId(), ownerId)) {
+                log.warn("User with id = {} has no permission to change status of bookings of item with id = {}",
+                        ownerId, itemId);
+                throw new PermissionException(String.format("User with id = %d has no permission to change status " +
+                        "of bookings of item with id = %d", ownerId, itemId));
+            }
+            bookings = bookingRepository.findAllStatusViewsByItemIdAndStatus(itemId, BookingStatus.WAITING);
+        } else {
+            bookings = bookingRepository.findAllStatusViewsByIdIn(bookingIds);
+        }
+        Map<Long, BookingStatusView> bookingsById = bookings.stream()
+                .collect(Collectors.toMap(BookingStatusView::getId, Function.identity()));
+        log.debug("{} bookings found for the status change", bookingsById.size());
+
+        Collection<Long> requestedIds = itemId != null ? bookingsById.keySet() : new LinkedHashSet<>(bookingIds);
+        List<BookingStatusResultDto> results = new ArrayList<>(requestedIds.size());
+        List<BookingStatusView> waitingBookings = new ArrayList<>();
+        for (Long bookingId : requestedIds) {
+            BookingStatusView booking = bookingsById.get(bookingId);
+            if (booking == null) {
+                log.warn("Booking with id = {} not found", bookingId);
+                results.add(BookingStatusResultDto.failed(bookingId, HttpStatus.NOT_FOUND, new ErrorResponse(
+                        "Object not found", String.format("Booking with id = %d not found", bookingId))));
+            } else if (!Objects.equals(booking.getOwnerId(), ownerId)) {
+                log.warn("User with id = {} has no permission to change status of booking with id = {}",
+                        ownerId, bookingId);
+                results.add(BookingStatusResultDto.failed(bookingId, HttpStatus.NOT_FOUND, new ErrorResponse(
+                        "Permission denied", String.format("User with id = %d has no permission to change " +
+                        "status of booking with id = %d", ownerId, bookingId))));
+            } else if (booking.getStatus() != BookingStatus.WAITING) {
+                log.warn("Booking with id = {} is already {}", bookingId, booking.getStatus());
+                results.add(BookingStatusResultDto.failed(bookingId, HttpStatus.BAD_REQUEST, new ErrorResponse(
+                        "Can't change booking status",
+                        String.format("Booking status with id = %s already approved", bookingId))));
+            } else {
+                waitingBookings.add(booking);
+                results.add(BookingStatusResultDto.changed(bookingId, newStatus));
+            }
+        }
+        if (waitingBookings.isEmpty()) {
+            return results;
+        }
+
+        List<Long> waitingIds = waitingBookings.stream()
+                .map(BookingStatusView::getId)
+                .collect(Collectors.toList());
+        int updated = bookingRepository.updateStatusOfWaitingBookings(waitingIds, newStatus);
+        if (updated != waitingIds.size()) {
+            log.warn("Only {} of {} bookings were still waiting, the status change is rolled back", updated,
+                    waitingIds.size());
+            throw new ChangeStatusException("Status of some bookings was changed by a concurrent request");
+        }
+        log.debug("Status of {} bookings changed to {}", updated, newStatus);
+        if (newStatus == BookingStatus.REJECTED) {
+            waitingBookings.forEach(booking -> bookingIntervalIndex.remove(booking.getItemId(), booking.getId(),
+                    booking.getStart()));
+        }
+        itemBookingSummaryUpdater.waitingBookingsChanged(waitingBookings.stream()
+                .collect(Collectors.groupingBy(BookingStatusView::getItemId,
+                        Collectors.mapping(BookingStatusView::getId, Collectors.toList()))), newStatus);
+        Set<Long> userIds = waitingBookings.stream()
+                .map(BookingStatusView::getBookerId)
+                .collect(Collectors.toCollection(HashSet::new));
+        userIds.add(ownerId);
+        bookingListCache.invalidate(userIds);
+        publishBookingEvents(waitingBookings.stream()
+                .map(booking -> BookingEventDto.builder()
+                        .type(BookingEventDto.Type.STATUS_CHANGED)
+                        .bookingId(booking.getId())
+                        .itemId(booking.getItemId())
+                        .bookerId(booking.getBookerId())
+                        .ownerId(booking.getOwnerId())
+                        .status(newStatus)
+                        .build())
+                .collect(Collectors.toList()));
+        return results;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public BookingDto getBookingById(Long bookingId, Long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> {
-            log.warn("User with id = {} not found", userId);
-            return new NotFoundException(String.format("User with id = %d not found", userId));
-        });
-        log.debug("User with id = {} found", userId);
+        userExistenceChecker.checkUserExists(userId);
         Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> {
             log.warn("Booking with id = {} not found", bookingId);
             return new NotFoundException(String.format("Booking with id = %d not found", bookingId));
         });
         log.debug("Booking with id = {} found", bookingId);
-        if (!(Objects.equals(booking.getBooker().getId(), user.getId())
-                || Objects.equals(booking.getItem().getOwner().getId(), user.getId()))) {
+        if (!(Objects.equals(booking.getBooker().getId(), userId)
+                || Objects.equals(booking.getItem().getOwner().getId(), userId))) {
             log.warn("User with id = {} has no permission to see data about booking with id = {}",
-                    user.getId(), booking.getId());
+                    userId, booking.getId());
             throw new PermissionException(String.format("User with id = %d has no permission to see data about " +
-                    "booking with id = %d", user.getId(), booking.getId()));
+                    "booking with id = %d", userId, booking.getId()));
         }
         return bookingMapper.bookingToBookingDto(booking);
     }
@@ -114,83 +320,301 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public List<BookingDto> getAllUserBookingsByStatus(BookingStatus bookingStatus, Long userId, int from, int size) {
-        User user = userRepository.findById(userId).orElseThrow(() -> {
-            log.warn("User with id = {} not found", userId);
-            return new NotFoundException(String.format("User with id = %d not found", userId));
-        });
-        log.debug("User with id = {} found", userId);
+        userExistenceChecker.checkUserExists(userId);
+        LocalDateTime now = bucketedClock.now();
+        return bookingListCache.getBookerPage(userId, bookingStatus, from, size, now,
+                () -> findUserBookings(bookingStatus, userId, from, size, now));
+    }
+
+    private List<BookingDto> findUserBookings(BookingStatus bookingStatus, Long userId, int from, int size,
+                                              LocalDateTime now) {
         ShareItPageRequest pageRequest = new ShareItPageRequest(from, size, Sort.by("start").descending());
-        Page<Booking> bookingsPage;
+        Slice<BookingListRow> bookingsSlice;
         switch (bookingStatus) {
             case ALL:
-                bookingsPage = bookingRepository.findByBookerId(user.getId(), pageRequest);
+                bookingsSlice = bookingRepository.findAllRowsByBookerId(userId, pageRequest);
                 break;
             case CURRENT:
-                bookingsPage = bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(
-                        user.getId(), pageRequest);
+                bookingsSlice = bookingRepository.findAllCurrentRowsByBookerId(userId, now, pageRequest);
                 break;
             case PAST:
-                bookingsPage = bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDesc(user.getId(),
-                        pageRequest);
+                bookingsSlice = bookingRepository.findAllPastRowsByBookerId(userId, now, pageRequest);
                 break;
             case FUTURE:
-                bookingsPage = bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDesc(user.getId(),
-                        pageRequest);
+                bookingsSlice = bookingRepository.findAllFutureRowsByBookerId(userId, now, pageRequest);
                 break;
             case WAITING:
             case REJECTED:
-                bookingsPage = bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(user.getId(), bookingStatus,
+                bookingsSlice = bookingRepository.findAllRowsByBookerIdAndStatus(userId, bookingStatus,
                         pageRequest);
                 break;
             default:
-                log.warn("Received incorrect booking status = {} from user with id = {}", bookingStatus, user.getId());
+                log.warn("Received incorrect booking status = {} from user with id = {}", bookingStatus, userId);
                 throw new IncorrectDataException(String.format("Received incorrect booking status = %s from user " +
-                        "with id = %d", bookingStatus, user.getId()));
+                        "with id = %d", bookingStatus, userId));
         }
-        return bookingsPage.getContent().stream()
-                .map(bookingMapper::bookingToBookingDto)
+        return bookingsSlice.getContent().stream()
+                .map(bookingMapper::bookingListRowToBookingDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TOTALS, keyGenerator = CacheConfig.METHOD_KEY_GENERATOR)
+    public long countUserBookingsByStatus(BookingStatus bookingStatus, Long userId) {
+        switch (bookingStatus) {
+            case ALL:
+                return bookingRepository.countAllByBookerId(userId);
+            case CURRENT:
+                return bookingRepository.countAllCurrentByBookerId(userId, bucketedClock.now());
+            case PAST:
+                return bookingRepository.countAllPastByBookerId(userId, bucketedClock.now());
+            case FUTURE:
+                return bookingRepository.countAllFutureByBookerId(userId, bucketedClock.now());
+            case WAITING:
+            case REJECTED:
+                return bookingRepository.countAllByBookerIdAndStatus(userId, bookingStatus);
+            default:
+                log.warn("Received incorrect booking status = {} from user with id = {}", bookingStatus, userId);
+                throw new IncorrectDataException(String.format("Received incorrect booking status = %s from user " +
+                        "with id = %d", bookingStatus, userId));
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<BookingDto> getAllOwnerItemsBookingsByStatus(BookingStatus bookingStatus, Long ownerId, int from,
                                                              int size) {
-        User owner = userRepository.findById(ownerId).orElseThrow(() -> {
-            log.warn("User with id = {} not found", ownerId);
-            return new NotFoundException(String.format("User with id = %d not found", ownerId));
-        });
-        log.debug("User with id = {} found", ownerId);
+        userExistenceChecker.checkUserExists(ownerId);
+        LocalDateTime now = bucketedClock.now();
+        return bookingListCache.getOwnerPage(ownerId, bookingStatus, from, size, now,
+                () -> findOwnerItemsBookings(bookingStatus, ownerId, from, size, now));
+    }
+
+    private List<BookingDto> findOwnerItemsBookings(BookingStatus bookingStatus, Long ownerId, int from, int size,
+                                                    LocalDateTime now) {
         ShareItPageRequest pageRequest = new ShareItPageRequest(from, size, Sort.by("start").descending());
-        Page<Booking> bookingPage;
+        Slice<BookingListRow> bookingSlice;
         switch (bookingStatus) {
             case ALL:
-                bookingPage = bookingRepository.findAllByItemOwnerOrderByStartDesc(owner, pageRequest);
+                bookingSlice = bookingRepository.findAllRowsByItemOwnerId(ownerId, pageRequest);
                 break;
             case CURRENT:
-                bookingPage = bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(
-                        owner.getId(), pageRequest);
+                bookingSlice = bookingRepository.findAllCurrentRowsByItemOwnerId(ownerId, now, pageRequest);
                 break;
             case PAST:
-                bookingPage = bookingRepository.findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(owner.getId(),
-                        pageRequest);
+                bookingSlice = bookingRepository.findAllPastRowsByItemOwnerId(ownerId, now, pageRequest);
                 break;
             case FUTURE:
-                bookingPage = bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(owner.getId(),
-                        pageRequest);
+                bookingSlice = bookingRepository.findAllFutureRowsByItemOwnerId(ownerId, now, pageRequest);
                 break;
             case WAITING:
             case REJECTED:
-                bookingPage = bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(owner.getId(),
+                bookingSlice = bookingRepository.findAllRowsByItemOwnerIdAndStatus(ownerId,
                         bookingStatus, pageRequest);
                 break;
             default:
-                log.warn("Received incorrect booking status = {} from user with id = {}", bookingStatus, owner.getId());
+                log.warn("Received incorrect booking status = {} from user with id = {}", bookingStatus, ownerId);
                 throw new IncorrectDataException(String.format("Received incorrect booking status = %s from user " +
-                        "with id = %d", bookingStatus, owner.getId()));
+                        "with id = %d", bookingStatus, ownerId));
         }
-        return bookingPage.getContent().stream()
-                .map(bookingMapper::bookingToBookingDto)
+        return bookingSlice.getContent().stream()
+                .map(bookingMapper::bookingListRowToBookingDto)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TOTALS, keyGenerator = CacheConfig.METHOD_KEY_GENERATOR)
+    public long countOwnerItemsBookingsByStatus(BookingStatus bookingStatus, Long ownerId) {
+        switch (bookingStatus) {
+            case ALL:
+                return bookingRepository.countAllByItemOwnerId(ownerId);
+            case CURRENT:
+                return bookingRepository.countAllCurrentByItemOwnerId(ownerId, bucketedClock.now());
+            case PAST:
+                return bookingRepository.countAllPastByItemOwnerId(ownerId, bucketedClock.now());
+            case FUTURE:
+                return bookingRepository.countAllFutureByItemOwnerId(ownerId, bucketedClock.now());
+            case WAITING:
+            case REJECTED:
+                return bookingRepository.countAllByItemOwnerIdAndStatus(ownerId, bookingStatus);
+            default:
+                log.warn("Received incorrect booking status = {} from user with id = {}", bookingStatus, ownerId);
+                throw new IncorrectDataException(String.format("Received incorrect booking status = %s from user " +
+                        "with id = %d", bookingStatus, ownerId));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookingDto> getAllUserBookingsByStatusAfter(BookingStatus bookingStatus, Long userId,
+                                                                  String cursor, int size) {
+        userExistenceChecker.checkUserExists(userId);
+        PageCursor pageCursor = PageCursor.decodeTimestampCursor(cursor);
+        PageRequest pageRequest = PageRequest.ofSize(size);
+        LocalDateTime now = bucketedClock.now();
+        List<Booking> bookings;
+        switch (bookingStatus) {
+            case ALL:
+                bookings = bookingRepository.findAllByBookerIdAfterCursor(userId, pageCursor.getTimestamp(),
+                        pageCursor.getId(), pageRequest);
+                break;
+            case CURRENT:
+                bookings = bookingRepository.findAllCurrentByBookerIdAfterCursor(userId, now,
+                        pageCursor.getTimestamp(), pageCursor.getId(), pageRequest);
+                break;
+            case PAST:
+                bookings = bookingRepository.findAllPastByBookerIdAfterCursor(userId, now,
+                        pageCursor.getTimestamp(), pageCursor.getId(), pageRequest);
+                break;
+            case FUTURE:
+                bookings = bookingRepository.findAllFutureByBookerIdAfterCursor(userId, now,
+                        pageCursor.getTimestamp(), pageCursor.getId(), pageRequest);
+                break;
+            case WAITING:
+            case REJECTED:
+                bookings = bookingRepository.findAllByBookerIdAndStatusAfterCursor(userId, bookingStatus,
+                        pageCursor.getTimestamp(), pageCursor.getId(), pageRequest);
+                break;
+            default:
+                log.warn("Received incorrect booking status = {} from user with id = {}", bookingStatus, userId);
+                throw new IncorrectDataException(String.format("Received incorrect booking status = %s from user " +
+                        "with id = %d", bookingStatus, userId));
+        }
+        return toCursorPage(bookings, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookingDto> getAllOwnerItemsBookingsByStatusAfter(BookingStatus bookingStatus, Long ownerId,
+                                                                        String cursor, int size) {
+        userExistenceChecker.checkUserExists(ownerId);
+        PageCursor pageCursor = PageCursor.decodeTimestampCursor(cursor);
+        PageRequest pageRequest = PageRequest.ofSize(size);
+        LocalDateTime now = bucketedClock.now();
+        List<Booking> bookings;
+        switch (bookingStatus) {
+            case ALL:
+                bookings = bookingRepository.findAllByItemOwnerIdAfterCursor(ownerId, pageCursor.getTimestamp(),
+                        pageCursor.getId(), pageRequest);
+                break;
+            case CURRENT:
+                bookings = bookingRepository.findAllCurrentByItemOwnerIdAfterCursor(ownerId, now,
+                        pageCursor.getTimestamp(), pageCursor.getId(), pageRequest);
+                break;
+            case PAST:
+                bookings = bookingRepository.findAllPastByItemOwnerIdAfterCursor(ownerId, now,
+                        pageCursor.getTimestamp(), pageCursor.getId(), pageRequest);
+                break;
+            case FUTURE:
+                bookings = bookingRepository.findAllFutureByItemOwnerIdAfterCursor(ownerId, now,
+                        pageCursor.getTimestamp(), pageCursor.getId(), pageRequest);
+                break;
+            case WAITING:
+            case REJECTED:
+                bookings = bookingRepository.findAllByItemOwnerIdAndStatusAfterCursor(ownerId, bookingStatus,
+                        pageCursor.getTimestamp(), pageCursor.getId(), pageRequest);
+                break;
+            default:
+                log.warn("Received incorrect booking status = {} from user with id = {}", bookingStatus, ownerId);
+                throw new IncorrectDataException(String.format("Received incorrect booking status = %s from user " +
+                        "with id = %d", bookingStatus, ownerId));
+        }
+        return toCursorPage(bookings, size);
+    }
+
+    @Override
+    public SseEmitter subscribeToBookingEvents(Long userId) {
+        userExistenceChecker.checkUserExists(userId);
+        return bookingEventBus.subscribe(userId);
+    }
+
+    /**
+     * Checks the user and takes an export slot before the response is committed; the history is then read
+     * and written in a transaction of the async thread streaming the body, which releases the slot.
+     */
+    @Override
+    public StreamingResponseBody exportUserBookings(Long userId, BookingExportFormat format) {
+        userExistenceChecker.checkUserExists(userId);
+        Runnable release = bookingExporter.acquire();
+        return outputStream -> {
+            try {
+                bookingExporter.writeUserBookings(userId, format, outputStream);
+            } finally {
+                release.run();
+            }
+        };
+    }
+
+    @Override
+    public StreamingResponseBody exportOwnerItemsBookings(Long ownerId, BookingExportFormat format) {
+        userExistenceChecker.checkUserExists(ownerId);
+        Runnable release = bookingExporter.acquire();
+        return outputStream -> {
+            try {
+                bookingExporter.writeOwnerItemsBookings(ownerId, format, outputStream);
+            } finally {
+                release.run();
+            }
+        };
+    }
+
+    /**
+     * Writes the events to the outbox within the booking transaction and streams them to the subscribers.
+     */
+    private void publishBookingEvents(List<BookingEventDto> events) {
+        events.forEach(event -> outboxWriter.append(OutboxEvent.AggregateType.BOOKING, event.getBookingId(),
+                event.getType().name(), event));
+        bookingEventBus.publish(events);
+    }
+
+    private BookingEventDto toBookingEvent(BookingEventDto.Type type, Booking booking) {
+        return BookingEventDto.builder()
+                .type(type)
+                .bookingId(booking.getId())
+                .itemId(booking.getItem().getId())
+                .bookerId(booking.getBooker().getId())
+                .ownerId(booking.getItem().getOwner().getId())
+                .status(booking.getStatus())
+                .build();
+    }
+
+    private CursorPage<BookingDto> toCursorPage(List<Booking> bookings, int size) {
+        String nextCursor = null;
+        if (bookings.size() == size) {
+            Booking lastBooking = bookings.get(bookings.size() - 1);
+            nextCursor = PageCursor.encode(lastBooking.getStart(), lastBooking.getId());
+        }
+        return new CursorPage<>(bookings.stream()
+                .map(bookingMapper::bookingToBookingDto)
+                .collect(Collectors.toList()), nextCursor);
+    }
+
+    private void checkBookable(Booking booking, User booker, Item item) {
+        if (Objects.equals(booker.getId(), item.getOwner().getId())) {
+            log.warn("User with id = {} can't book his own item", booker.getId());
+            throw new PermissionException(String.format("User with id = %d can't book his own item", booker.getId()));
+        }
+        if (!item.getAvailable() || booking.getEnd().isBefore(booking.getStart())
+                || booking.getEnd().equals(booking.getStart())) {
+            log.warn("Item with id = {} can not be booked", item.getId());
+            throw new AlreadyBookedException(String.format("Item with id = %d can not be booked", item.getId()));
+        }
+        if (!bookingIntervalIndex.isFree(item.getId(), booking.getStart(), booking.getEnd())) {
+            log.warn("Item with id = {} is already booked from {} to {}", item.getId(), booking.getStart(),
+                    booking.getEnd());
+            throw new AlreadyBookedException(String.format("Item with id = %d is already booked from %s to %s",
+                    item.getId(), booking.getStart(), booking.getEnd()));
+        }
+    }
+
+    private static boolean tryAddPeriod(NavigableMap<LocalDateTime, LocalDateTime> periods, Booking booking) {
+        Map.Entry<LocalDateTime, LocalDateTime> previous = periods.lowerEntry(booking.getEnd());
+        if (previous != null && previous.getValue().isAfter(booking.getStart())) {
+            return false;
+        }
+        periods.put(booking.getStart(), booking.getEnd());
+        return true;
+    }
 }
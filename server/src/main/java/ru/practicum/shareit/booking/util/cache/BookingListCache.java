@@ -0,0 +1,142 @@
+package ru.practicum.shareit.booking.util.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.config.CacheConfig;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pages of booker and owner booking lists cached per (user, state, page), and per time bucket for the states
+ * relative to now. Every user has a version in the key which is replaced after a transaction changing one of
+ * the user's bookings commits, so outdated pages are never read again and just expire. Versions are kept in a
+ * bounded cache expiring after the pages; a user whose version is gone gets a new one, never used before.
+ * Pages also show items and bookers, so edits of those replace a generation shared by all the keys instead.
+ * Without a cache manager pages are not cached.
+ */
+@Slf4j
+@Component
+public class BookingListCache {
+    private static final String BOOKER = "booker";
+    private static final String OWNER = "owner";
+
+    private static final String DEFAULT_VERSIONS_SPEC = "maximumSize=100000,expireAfterAccess=2m";
+    private static final Set<BookingStatus> TIME_INDEPENDENT_STATES = EnumSet.of(BookingStatus.ALL,
+            BookingStatus.WAITING, BookingStatus.REJECTED);
+
+    private final Cache pages;
+    private final com.github.benmanes.caffeine.cache.Cache<Long, Long> versions;
+    private final AtomicLong lastVersion = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param versionsSpec Caffeine spec of the versions; keep {@code expireAfterAccess} at least
+     *                     the expiry of {@code shareit.cache.booking-lists-spec}
+     */
+    @Autowired
+    public BookingListCache(ObjectProvider<CacheManager> cacheManager,
+                            @Value("${shareit.cache.booking-list-versions-spec:" + DEFAULT_VERSIONS_SPEC + "}")
+                            String versionsSpec) {
+        this(cacheManager.stream()
+                .map(manager -> manager.getCache(CacheConfig.BOOKING_LISTS))
+                .findFirst()
+                .orElse(null), versionsSpec);
+    }
+
+    public BookingListCache(@Nullable Cache pages) {
+        this(pages, DEFAULT_VERSIONS_SPEC);
+    }
+
+    BookingListCache(@Nullable Cache pages, String versionsSpec) {
+        this.pages = pages;
+        this.versions = Caffeine.from(versionsSpec).build();
+    }
+
+    public List<BookingDto> getBookerPage(Long bookerId, BookingStatus state, int from, int size, LocalDateTime now,
+                                          Supplier<List<BookingDto>> loader) {
+        return get(BOOKER, bookerId, state, from, size, now, loader);
+    }
+
+    public List<BookingDto> getOwnerPage(Long ownerId, BookingStatus state, int from, int size, LocalDateTime now,
+                                         Supplier<List<BookingDto>> loader) {
+        return get(OWNER, ownerId, state, from, size, now, loader);
+    }
+
+    /**
+     * Drops cached pages of the users once the current transaction commits, or at once outside of a transaction.
+     */
+    public void invalidate(Collection<Long> userIds) {
+        if (pages == null || userIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> bumpVersions(userIds));
+    }
+
+    /**
+     * Drops all cached pages once the current transaction commits, or at once outside of a transaction;
+     * used when an item or a user shown in the pages is edited.
+     */
+    public void invalidateAll() {
+        if (pages == null) {
+            return;
+        }
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            log.debug("All cached booking lists invalidated");
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private List<BookingDto> get(String role, Long userId, BookingStatus state, int from, int size,
+                                 LocalDateTime now, Supplier<List<BookingDto>> loader) {
+        if (pages == null) {
+            return loader.get();
+        }
+        Long version = versions.get(userId, id -> lastVersion.incrementAndGet());
+        SimpleKey key = new SimpleKey(role, userId, generation.get(), version, state, from, size,
+                TIME_INDEPENDENT_STATES.contains(state) ? null : now);
+        try {
+            return pages.get(key, loader::get);
+        } catch (Cache.ValueRetrievalException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private void bumpVersions(Collection<Long> userIds) {
+        userIds.forEach(userId -> versions.put(userId, lastVersion.incrementAndGet()));
+        log.debug("Cached booking lists of users {} invalidated", userIds);
+    }
+}
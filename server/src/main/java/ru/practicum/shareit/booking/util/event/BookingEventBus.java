@@ -0,0 +1,265 @@
+package ru.practicum.shareit.booking.util.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.booking.dto.BookingEventDto;
+import ru.practicum.shareit.exception.ServiceUnavailableException;
+import ru.practicum.shareit.exception.TooManyRequestsException;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process bus of booking events streamed over Server-Sent Events to the bookers and owners subscribed to them.
+ * Events are published once the booking transaction commits. Every subscriber has a bounded buffer drained
+ * by the sender threads, so a slow client never blocks the publisher: when its buffer is full the subscriber
+ * is dropped and its client reconnects and re-reads its bookings. A send blocked on a stalled client for longer
+ * than {@code shareit.booking-events.send-timeout} drops the subscriber too and frees its sender thread.
+ * Subscribers are capped per user (429) and in total (503), as every open stream holds a connection.
+ */
+@Slf4j
+@Component
+public class BookingEventBus {
+    /**
+     * Buffered as an event and sent as an SSE comment, so that idle streams are kept open by proxies.
+     */
+    private static final BookingEventDto HEARTBEAT = BookingEventDto.builder().build();
+
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Executor senders;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerUser;
+    private final long sendTimeoutNanos;
+    private final Counter sentEvents;
+    private final Counter droppedSubscribers;
+
+    @Autowired
+    public BookingEventBus(MeterRegistry meterRegistry,
+                           @Value("${shareit.booking-events.buffer-size:256}") int bufferSize,
+                           @Value("${shareit.booking-events.timeout:30m}") Duration timeout,
+                           @Value("${shareit.booking-events.max-subscribers:1000}") int maxSubscribers,
+                           @Value("${shareit.booking-events.max-subscribers-per-user:5}") int maxSubscribersPerUser,
+                           @Value("${shareit.booking-events.send-timeout:5s}") Duration sendTimeout,
+                           @Value("${shareit.booking-events.sender-threads:4}") int senderThreads) {
+        this(meterRegistry, bufferSize, timeout, maxSubscribers, maxSubscribersPerUser, sendTimeout,
+                Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("booking-events-")));
+    }
+
+    BookingEventBus(MeterRegistry meterRegistry, int bufferSize, Duration timeout, int maxSubscribers,
+                    int maxSubscribersPerUser, Duration sendTimeout, Executor senders) {
+        this.senders = senders;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerUser = maxSubscribersPerUser;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        sentEvents = Counter.builder("shareit.booking-events.sent")
+                .description("Booking events sent to subscribers")
+                .register(meterRegistry);
+        droppedSubscribers = Counter.builder("shareit.booking-events.dropped")
+                .description("Subscribers dropped because their event buffer was full or a send stalled")
+                .register(meterRegistry);
+        Gauge.builder("shareit.booking-events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open booking event streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        Subscriber subscriber = new Subscriber(userId, new SseEmitter(timeout.toMillis()),
+                new ArrayBlockingQueue<>(bufferSize));
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+        subscribers.compute(userId, (id, userSubscribers) -> {
+            if (userSubscribers != null && userSubscribers.size() >= maxSubscribersPerUser) {
+                log.warn("User with id = {} has {} booking event streams", userId, userSubscribers.size());
+                throw new TooManyRequestsException(String.format("User with id = %d has %d open event streams",
+                        userId, userSubscribers.size()));
+            }
+            if (subscriberCount.incrementAndGet() > maxSubscribers) {
+                subscriberCount.decrementAndGet();
+                log.warn("{} booking event streams are open, user with id = {} is refused", maxSubscribers, userId);
+                throw new ServiceUnavailableException("Too many open event streams, try again later");
+            }
+            Set<Subscriber> updated = userSubscribers != null ? userSubscribers : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        log.debug("User with id = {} subscribed to booking events", userId);
+        return subscriber.emitter;
+    }
+
+    /**
+     * Sends the events to their bookers and owners once the current transaction commits,
+     * or at once outside of a transaction.
+     */
+    public void publish(Collection<BookingEventDto> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(events);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.booking-events.heartbeat:PT5S}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber ->
+                offer(subscriber, HEARTBEAT)));
+        dropStalledSubscribers();
+    }
+
+    /**
+     * Drops the subscribers whose send is blocked for longer than the send timeout: the blocked sender thread
+     * is interrupted, which fails the write, so the other subscribers are not kept waiting.
+     */
+    void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            synchronized (subscriber) {
+                if (subscriber.sender != null && now - subscriber.sendStartedNanos > sendTimeoutNanos
+                        && subscriber.closed.compareAndSet(false, true)) {
+                    log.warn("Booking events send to user with id = {} is stalled, the subscriber is dropped",
+                            subscriber.userId);
+                    droppedSubscribers.increment();
+                    remove(subscriber);
+                    subscriber.sender.interrupt();
+                }
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber ->
+                subscriber.emitter.complete()));
+        if (senders instanceof ExecutorService) {
+            ((ExecutorService) senders).shutdownNow();
+        }
+    }
+
+    private void dispatch(Collection<BookingEventDto> events) {
+        for (BookingEventDto event : events) {
+            subscribers.getOrDefault(event.getBookerId(), Collections.emptySet())
+                    .forEach(subscriber -> offer(subscriber, event));
+            if (!Objects.equals(event.getOwnerId(), event.getBookerId())) {
+                subscribers.getOrDefault(event.getOwnerId(), Collections.emptySet())
+                        .forEach(subscriber -> offer(subscriber, event));
+            }
+        }
+    }
+
+    private void offer(Subscriber subscriber, BookingEventDto event) {
+        if (!subscriber.buffer.offer(event) && subscriber.closed.compareAndSet(false, true)) {
+            log.warn("Booking events buffer of user with id = {} is full, the subscriber is dropped",
+                    subscriber.userId);
+            droppedSubscribers.increment();
+            remove(subscriber);
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            BookingEventDto event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                if (subscriber.closed.get()) {
+                    subscriber.emitter.complete();
+                    return;
+                }
+                if (!send(subscriber, event)) {
+                    return;
+                }
+            }
+            if (subscriber.closed.get()) {
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, BookingEventDto event) {
+        synchronized (subscriber) {
+            subscriber.sendStartedNanos = System.nanoTime();
+            subscriber.sender = Thread.currentThread();
+        }
+        try {
+            if (event == HEARTBEAT) {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name(event.getType().name())
+                        .data(event, MediaType.APPLICATION_JSON));
+                sentEvents.increment();
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Booking events stream of user with id = {} is closed: {}", subscriber.userId,
+                    e.getMessage());
+            remove(subscriber);
+            return false;
+        } finally {
+            synchronized (subscriber) {
+                subscriber.sender = null;
+            }
+            // an interrupt of a stalled send must not fail the next subscriber's send on this thread
+            Thread.interrupted();
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.userId, (userId, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    private static class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<BookingEventDto> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private long sendStartedNanos;
+        private Thread sender;
+
+        private Subscriber(Long userId, SseEmitter emitter, BlockingQueue<BookingEventDto> buffer) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.booking.util.export;
+
+/**
+ * Format of the booking history export with its content type.
+ */
+public enum BookingExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    BookingExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static BookingExportFormat from(String format) {
+        try {
+            return valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Unknown export format: %s", format), e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package ru.practicum.shareit.booking.util.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingListRow;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.util.mapper.BookingMapper;
+import ru.practicum.shareit.exception.TooManyRequestsException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+/**
+ * Writes the whole booking history of a booker or an owner row by row as it is read from the database cursor,
+ * so memory use does not depend on the size of the history; output is flushed only when the buffer is full.
+ * NDJSON lines are {@code BookingDto}s, CSV rows are the flat {@link BookingListRow} columns.
+ * An export holds a pooled connection while it runs, so exports at once are capped well below the pool size
+ * and each is cut off after {@code shareit.booking-export.max-duration}.
+ */
+@Slf4j
+@Component
+public class BookingExporter {
+    static final String CSV_HEADER = "id,status,start,end,bookerId,bookerName,bookerEmail,itemId,itemName," +
+            "itemDescription,itemAvailable,itemRequestId";
+
+    private final BookingRepository bookingRepository;
+    private final BookingMapper bookingMapper;
+    private final ObjectMapper objectMapper;
+    private final Semaphore exports;
+    private final Duration maxDuration;
+
+    public BookingExporter(BookingRepository bookingRepository, BookingMapper bookingMapper, ObjectMapper objectMapper,
+                           @Value("${shareit.booking-export.max-concurrent:4}") int maxConcurrent,
+                           @Value("${shareit.booking-export.max-duration:10m}") Duration maxDuration) {
+        this.bookingRepository = bookingRepository;
+        this.bookingMapper = bookingMapper;
+        this.objectMapper = objectMapper;
+        this.exports = new Semaphore(maxConcurrent);
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * Takes an export slot before the response is committed.
+     *
+     * @return the release of the slot, which may be run more than once
+     * @throws TooManyRequestsException when all slots are taken
+     */
+    public Runnable acquire() {
+        if (!exports.tryAcquire()) {
+            log.warn("All booking export slots are taken");
+            throw new TooManyRequestsException("Too many booking exports are running, try again later");
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                exports.release();
+            }
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public void writeUserBookings(Long userId, BookingExportFormat format, OutputStream outputStream) {
+        try (Stream<BookingListRow> rows = bookingRepository.streamAllRowsByBookerId(userId)) {
+            log.debug("{} bookings of user with id = {} exported", write(rows, format, outputStream), userId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeOwnerItemsBookings(Long ownerId, BookingExportFormat format, OutputStream outputStream) {
+        try (Stream<BookingListRow> rows = bookingRepository.streamAllRowsByItemOwnerId(ownerId)) {
+            log.debug("{} bookings of items of owner with id = {} exported", write(rows, format, outputStream),
+                    ownerId);
+        }
+    }
+
+    private long write(Stream<BookingListRow> rows, BookingExportFormat format, OutputStream outputStream) {
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        ObjectWriter lineWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        long count = 0;
+        try {
+            if (format == BookingExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write("\r\n");
+            }
+            for (Iterator<BookingListRow> iterator = rows.iterator(); iterator.hasNext(); count++) {
+                if (System.nanoTime() - deadline > 0) {
+                    log.warn("Booking export is cut off after {} rows, it took longer than {}", count, maxDuration);
+                    throw new IllegalStateException("Booking export took longer than " + maxDuration);
+                }
+                BookingListRow row = iterator.next();
+                if (format == BookingExportFormat.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    lineWriter.writeValue(writer, bookingMapper.bookingListRowToBookingDto(row));
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, BookingListRow row) throws IOException {
+        Object[] values = {row.getId(), row.getStatus(), ISO_LOCAL_DATE_TIME.format(row.getStart()),
+                ISO_LOCAL_DATE_TIME.format(row.getEnd()), row.getBookerId(), row.getBookerName(),
+                row.getBookerEmail(), row.getItemId(), row.getItemName(), row.getItemDescription(),
+                row.getItemAvailable(), row.getItemRequestId()};
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes a field containing separators, quotes or line breaks as RFC 4180 does.
+     */
+    static String csvField(Object value) {
+        String field = Objects.toString(value, "");
+        if (field.chars().noneMatch(c -> c == ',' || c == '"' || c == '\r' || c == '\n')) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.booking.util.index;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Periods [start, end) occupied by WAITING and APPROVED bookings, per item.
+ * Periods of one item never overlap, so only the closest one starting before {@code end} has to be checked.
+ * Within a transaction the index follows its outcome: a period added is removed again if the transaction
+ * rolls back, and a period is removed only once the transaction commits.
+ * The index is loaded once all singletons are created, before the web server starts taking bookings.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingIntervalIndex implements SmartInitializingSingleton {
+    public static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.WAITING, BookingStatus.APPROVED);
+
+    private final BookingRepository bookingRepository;
+    private final Clock clock;
+    private final Map<Long, NavigableMap<LocalDateTime, Interval>> itemIntervals = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    public void load() {
+        List<BookingIntervalView> bookings = bookingRepository.findAllActiveBookingIntervals(ACTIVE_STATUSES,
+                LocalDateTime.now(clock));
+        for (BookingIntervalView booking : bookings) {
+            if (!tryAdd(booking.getItemId(), booking.getId(), booking.getStart(), booking.getEnd())) {
+                log.warn("Booking with id = {} overlaps another booking of the item with id = {} and is not indexed",
+                        booking.getId(), booking.getItemId());
+            }
+        }
+        log.debug("Booking interval index loaded with {} bookings", bookings.size());
+    }
+
+    public boolean isFree(Long itemId, LocalDateTime start, LocalDateTime end) {
+        NavigableMap<LocalDateTime, Interval> intervals = itemIntervals.get(itemId);
+        if (intervals == null) {
+            return true;
+        }
+        synchronized (intervals) {
+            return isFree(intervals, start, end);
+        }
+    }
+
+    public boolean tryAdd(Long itemId, Long bookingId, LocalDateTime start, LocalDateTime end) {
+        NavigableMap<LocalDateTime, Interval> intervals = itemIntervals.computeIfAbsent(itemId, id -> new TreeMap<>());
+        synchronized (intervals) {
+            evictFinished(intervals);
+            if (!isFree(intervals, start, end)) {
+                return false;
+            }
+            intervals.put(start, new Interval(bookingId, end));
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        log.debug("Booking with id = {} is rolled back and removed from the index", bookingId);
+                        removeNow(itemId, bookingId, start);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    public void remove(Long itemId, Long bookingId, LocalDateTime start) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removeNow(itemId, bookingId, start);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removeNow(itemId, bookingId, start);
+            }
+        });
+    }
+
+    private void removeNow(Long itemId, Long bookingId, LocalDateTime start) {
+        NavigableMap<LocalDateTime, Interval> intervals = itemIntervals.get(itemId);
+        if (intervals == null) {
+            return;
+        }
+        synchronized (intervals) {
+            Interval interval = intervals.get(start);
+            if (interval != null && interval.bookingId.equals(bookingId)) {
+                intervals.remove(start);
+            }
+        }
+    }
+
+    private static boolean isFree(NavigableMap<LocalDateTime, Interval> intervals, LocalDateTime start,
+                                  LocalDateTime end) {
+        Map.Entry<LocalDateTime, Interval> previous = intervals.lowerEntry(end);
+        return previous == null || !previous.getValue().end.isAfter(start);
+    }
+
+    private void evictFinished(NavigableMap<LocalDateTime, Interval> intervals) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        while (!intervals.isEmpty() && !intervals.firstEntry().getValue().end.isAfter(now)) {
+            intervals.pollFirstEntry();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Interval {
+        private final Long bookingId;
+        private final LocalDateTime end;
+    }
+}
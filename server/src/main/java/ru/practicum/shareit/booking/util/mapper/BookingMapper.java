@@ -3,9 +3,13 @@ package ru.practicum.shareit.booking.util.mapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingListRow;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
 import ru.practicum.shareit.item.util.mapper.ItemMapper;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.util.mapper.UserMapper;
 
 @Component
@@ -34,6 +38,26 @@ public class BookingMapper {
                 .build();
     }
 
+    public BookingDto bookingListRowToBookingDto(BookingListRow row) {
+        return BookingDto.builder()
+                .id(row.getId())
+                .status(row.getStatus())
+                .start(row.getStart())
+                .end(row.getEnd())
+                .booker(UserDto.builder()
+                        .id(row.getBookerId())
+                        .name(row.getBookerName())
+                        .email(row.getBookerEmail())
+                        .build())
+                .item(ItemDto.builder()
+                        .id(row.getItemId())
+                        .name(row.getItemName())
+                        .description(row.getItemDescription())
+                        .available(row.getItemAvailable())
+                        .requestId(row.getItemRequestId())
+                        .build())
+                .build();
+    }
 
     public ItemInfoDto.BookingDto bookingToItemInfoDtoBookingDto(Booking booking) {
         return ItemInfoDto.BookingDto.builder()
@@ -45,4 +69,15 @@ public class BookingMapper {
                 .bookerId(booking.getBooker().getId())
                 .build();
     }
+
+    public ItemInfoDto.BookingDto itemBookingViewToItemInfoDtoBookingDto(ItemBookingView booking) {
+        return ItemInfoDto.BookingDto.builder()
+                .id(booking.getId())
+                .status(booking.getStatus())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .itemId(booking.getItemId())
+                .bookerId(booking.getBookerId())
+                .build();
+    }
 }
@@ -0,0 +1,149 @@
+package ru.practicum.shareit.booking.util.summary;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.ItemBookingSummaryRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@link ItemBookingSummary} rows up to date within the transactions writing bookings.
+ * Counts change on every write; the last and next booking are recomputed only when a write can move them
+ * and, by a scheduled job, once the next booking has started. Summaries are locked in item id order,
+ * so concurrent writes to the bookings of one item update its summary one after another.
+ */
+@Slf4j
+@Component
+public class ItemBookingSummaryUpdater {
+    private final ItemBookingSummaryRepository itemBookingSummaryRepository;
+    private final BookingRepository bookingRepository;
+    private final Clock clock;
+    private final int refreshBatchSize;
+
+    public ItemBookingSummaryUpdater(ItemBookingSummaryRepository itemBookingSummaryRepository,
+                                     BookingRepository bookingRepository, Clock clock,
+                                     @Value("${shareit.item-booking-summary.refresh-batch-size:500}")
+                                     int refreshBatchSize) {
+        this.itemBookingSummaryRepository = itemBookingSummaryRepository;
+        this.bookingRepository = bookingRepository;
+        this.clock = clock;
+        this.refreshBatchSize = refreshBatchSize;
+    }
+
+    /**
+     * Counts new WAITING bookings; a booking starting before the next booking of its item becomes the next one.
+     */
+    public void bookingsCreated(Collection<Booking> bookings) {
+        Map<Long, List<Booking>> bookingsByItem = bookings.stream()
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ItemBookingSummary> moved = new ArrayList<>();
+        for (ItemBookingSummary summary : lock(bookingsByItem.keySet())) {
+            List<Booking> itemBookings = bookingsByItem.get(summary.getItemId());
+            summary.setWaitingCount(summary.getWaitingCount() + itemBookings.size());
+            if (summary.getRefreshAt() == null || !summary.getRefreshAt().isAfter(now) || itemBookings.stream()
+                    .anyMatch(booking -> booking.getStart().isBefore(summary.getRefreshAt()))) {
+                moved.add(summary);
+            }
+        }
+        refreshLastAndNext(moved, now);
+    }
+
+    /**
+     * Moves WAITING bookings, grouped by item, to {@code status}; a rejected last or next booking is replaced.
+     */
+    public void waitingBookingsChanged(Map<Long, ? extends Collection<Long>> bookingIdsByItem, BookingStatus status) {
+        List<ItemBookingSummary> moved = new ArrayList<>();
+        for (ItemBookingSummary summary : lock(bookingIdsByItem.keySet())) {
+            Collection<Long> bookingIds = bookingIdsByItem.get(summary.getItemId());
+            summary.setWaitingCount(summary.getWaitingCount() - bookingIds.size());
+            switch (status) {
+                case APPROVED:
+                    summary.setApprovedCount(summary.getApprovedCount() + bookingIds.size());
+                    break;
+                case REJECTED:
+                    summary.setRejectedCount(summary.getRejectedCount() + bookingIds.size());
+                    if (bookingIds.stream().anyMatch(bookingId -> bookingId.equals(summary.getLastBookingId())
+                            || bookingId.equals(summary.getNextBookingId()))) {
+                        moved.add(summary);
+                    }
+                    break;
+                case CANCELED:
+                    summary.setCanceledCount(summary.getCanceledCount() + bookingIds.size());
+                    break;
+                default:
+                    log.warn("Booking status can't be changed to {}", status);
+                    throw new IllegalArgumentException(String.format("Booking status can't be changed to %s",
+                            status));
+            }
+        }
+        refreshLastAndNext(moved, LocalDateTime.now(clock));
+    }
+
+    /**
+     * Recomputes the last and next booking of items whose next booking has started.
+     */
+    @Scheduled(fixedDelayString = "${shareit.item-booking-summary.refresh-delay:PT1S}")
+    @Transactional
+    public void refreshStarted() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> itemIds = itemBookingSummaryRepository.findItemIdsToRefresh(now,
+                PageRequest.ofSize(refreshBatchSize));
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        refreshLastAndNext(lock(itemIds), now);
+        log.debug("Last and next bookings of {} items refreshed", itemIds.size());
+    }
+
+    private List<ItemBookingSummary> lock(Collection<Long> itemIds) {
+        List<ItemBookingSummary> summaries = itemBookingSummaryRepository.findAllByItemIdInOrderByItemId(itemIds);
+        if (summaries.size() != itemIds.size()) {
+            Set<Long> missingIds = new HashSet<>(itemIds);
+            summaries.forEach(summary -> missingIds.remove(summary.getItemId()));
+            log.warn("Booking summaries of items {} not found, their bookings are read without summaries",
+                    missingIds);
+        }
+        return summaries;
+    }
+
+    /**
+     * Reads the last and next bookings as of {@code now} of the application clock, the same clock that
+     * the summaries are compared with, so a next booking and its {@code refresh_at} never disagree.
+     */
+    private void refreshLastAndNext(List<ItemBookingSummary> summaries, LocalDateTime now) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        Map<Long, ItemBookingSummary> summariesByItem = summaries.stream()
+                .collect(Collectors.toMap(ItemBookingSummary::getItemId, Function.identity()));
+        summaries.forEach(summary -> {
+            summary.setLastBookingId(null);
+            summary.setNextBookingId(null);
+            summary.setRefreshAt(null);
+        });
+        for (ItemBookingView booking : bookingRepository.findLastAndNextBookingsForItems(summariesByItem.keySet(),
+                now)) {
+            ItemBookingSummary summary = summariesByItem.get(booking.getItemId());
+            if (booking.getLast()) {
+                summary.setLastBookingId(booking.getId());
+            } else {
+                summary.setNextBookingId(booking.getId());
+                summary.setRefreshAt(booking.getStart());
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Caffeine caches of {@code UserDto}s and {@code ItemRow}s by id and of known user ids, never of entities,
+ * a short-lived cache of list totals, so an opt-in total count is approximate by up to its expiry,
+ * and pages of booking lists (see {@code BookingListCache}).
+ * Puts and evictions are applied after the surrounding transaction commits,
+ * so a rolled back update never reaches the cache. Turned off by {@code shareit.cache.enabled=false}.
+ */
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "shareit.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+    public static final String USERS = "users";
+    public static final String USER_IDS = "userIds";
+    public static final String ITEMS = "items";
+    public static final String TOTALS = "totals";
+    public static final String BOOKING_LISTS = "bookingLists";
+    public static final String METHOD_KEY_GENERATOR = "methodKeyGenerator";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${shareit.cache.spec:maximumSize=10000,expireAfterWrite=10m}")
+                                     String spec,
+                                     @Value("${shareit.cache.totals-spec:maximumSize=10000,expireAfterWrite=30s}")
+                                     String totalsSpec,
+                                     @Value("${shareit.cache.booking-lists-spec:maximumSize=10000,expireAfterWrite=1m}")
+                                     String bookingListsSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.from(spec).recordStats());
+        cacheManager.setCacheNames(List.of(USERS, USER_IDS, ITEMS));
+        cacheManager.registerCustomCache(TOTALS, Caffeine.from(totalsSpec).recordStats().build());
+        cacheManager.registerCustomCache(BOOKING_LISTS, Caffeine.from(bookingListsSpec).recordStats().build());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    /**
+     * Keys by method name and arguments, so different counts with the same arguments share the totals cache.
+     */
+    @Bean(METHOD_KEY_GENERATOR)
+    public KeyGenerator methodKeyGenerator() {
+        return (target, method, params) -> new SimpleKey(method.getName(), SimpleKeyGenerator.generateKey(params));
+    }
+}
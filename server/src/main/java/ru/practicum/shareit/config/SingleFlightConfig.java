@@ -0,0 +1,22 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.util.SingleFlight;
+
+/**
+ * Single flights of hot reads; concurrent identical reads share one computation.
+ */
+@Configuration
+public class SingleFlightConfig {
+    /**
+     * Item details keyed by item id and whether the viewer is the owner, the only part of the viewer they depend on.
+     */
+    @Bean
+    public SingleFlight<SimpleKey, ItemInfoDto> itemInfoSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("itemInfo", meterRegistry);
+    }
+}
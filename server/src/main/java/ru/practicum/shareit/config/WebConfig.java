@@ -1,7 +1,10 @@
 package ru.practicum.shareit.config;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import ru.practicum.shareit.booking.util.converter.StringToBookingStatusConverter;
 
@@ -11,4 +14,16 @@ public class WebConfig implements WebMvcConfigurer {
     public void addFormatters(FormatterRegistry registry) {
         registry.addConverter(new StringToBookingStatusConverter());
     }
+
+    /**
+     * Adds ETags to GET responses of users, items and requests and answers matching
+     * {@code If-None-Match} with 304, so the gateway can revalidate its cached copy without the body.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/users/*", "/items/*", "/requests/*");
+        return registration;
+    }
 }
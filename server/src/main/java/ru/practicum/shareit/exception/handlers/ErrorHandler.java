@@ -70,4 +70,18 @@ public class ErrorHandler {
         log.warn("Incorrect parameters were transmitted. {}", exception.getMessage());
         return new ErrorResponse("Incorrect parameters were transmitted", exception.getMessage());
     }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorResponse handleTooManyRequestsException(final TooManyRequestsException exception) {
+        log.warn("Too many requests. {}", exception.getMessage());
+        return new ErrorResponse("Too many requests", exception.getMessage());
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleServiceUnavailableException(final ServiceUnavailableException exception) {
+        log.warn("Service unavailable. {}", exception.getMessage());
+        return new ErrorResponse("Service unavailable", exception.getMessage());
+    }
 }
@@ -2,6 +2,7 @@ package ru.practicum.shareit.item.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -11,6 +12,7 @@ import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.item.util.mapper.CommentMapper;
 import ru.practicum.shareit.item.util.mapper.ItemMapper;
+import ru.practicum.shareit.util.TotalCount;
 
 import java.util.List;
 
@@ -35,11 +37,23 @@ public class ItemController {
     }
 
     @GetMapping
-    public List<ItemInfoDto> getAllUserItems(@RequestHeader(value = USER_HEADER) Long userId,
-                                             @RequestParam(name = "from", defaultValue = "0") int from,
-                                             @RequestParam(name = "size", defaultValue = "10") int size) {
+    public ResponseEntity<List<ItemInfoDto>> getAllUserItems(@RequestHeader(value = USER_HEADER) Long userId,
+                                                             @RequestParam(name = "from", defaultValue = "0") int from,
+                                                             @RequestParam(name = "size", defaultValue = "10") int size,
+                                                             @RequestParam(name = "total", defaultValue = "false")
+                                                             boolean total) {
         log.debug("GET request received to get all items of the user with id = {}", userId);
-        return itemService.getAllUserItems(userId, from, size);
+        return TotalCount.toResponseEntity(itemService.getAllUserItems(userId, from, size), total,
+                () -> itemService.countUserItems(userId));
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<List<ItemInfoDto>> getAllUserItemsAfter(@RequestHeader(value = USER_HEADER) Long userId,
+                                                                  @RequestParam(name = "cursor") String cursor,
+                                                                  @RequestParam(name = "size", defaultValue = "10")
+                                                                  int size) {
+        log.debug("GET request received to get items of the user with id = {} after cursor {}", userId, cursor);
+        return itemService.getAllUserItemsAfter(userId, cursor, size).toResponseEntity();
     }
 
     @GetMapping("/{itemId}")
@@ -61,11 +75,22 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public List<ItemDto> searchItems(@RequestParam("text") String text,
-                                     @RequestParam(name = "from", defaultValue = "0") int from,
-                                     @RequestParam(name = "size", defaultValue = "10") int size) {
+    public ResponseEntity<List<ItemDto>> searchItems(@RequestParam("text") String text,
+                                                     @RequestParam(name = "from", defaultValue = "0") int from,
+                                                     @RequestParam(name = "size", defaultValue = "10") int size,
+                                                     @RequestParam(name = "total", defaultValue = "false")
+                                                     boolean total) {
         log.debug("GET request received to search items by text = {}", text);
-        return itemService.searchItems(text, from, size);
+        return TotalCount.toResponseEntity(itemService.searchItems(text, from, size), total,
+                () -> itemService.countSearchItems(text));
+    }
+
+    @GetMapping(path = "/search", params = "cursor")
+    public ResponseEntity<List<ItemDto>> searchItemsAfter(@RequestParam("text") String text,
+                                                          @RequestParam(name = "cursor") String cursor,
+                                                          @RequestParam(name = "size", defaultValue = "10") int size) {
+        log.debug("GET request received to search items by text = {} after cursor {}", text, cursor);
+        return itemService.searchItemsAfter(text, cursor, size).toResponseEntity();
     }
 
     @PostMapping("/{itemId}/comment")
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Comment event written to the outbox when a comment is created.
+ */
+@Data
+@Builder
+public class CommentEventDto {
+    private Long commentId;
+
+    private Long itemId;
+
+    private Long authorId;
+
+    private String text;
+
+    private LocalDateTime created;
+}
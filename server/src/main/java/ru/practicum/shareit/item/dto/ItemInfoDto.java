@@ -24,6 +24,8 @@ public class ItemInfoDto {
 
     private List<CommentDto> comments;
 
+    private Long commentsCount;
+
     @Builder
     @Data
     public static class BookingDto {
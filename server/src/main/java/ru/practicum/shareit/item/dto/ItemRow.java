@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable row of an item with its owner id, selected by a JPQL constructor expression, so it can be cached
+ * and shared across requests, unlike a managed {@code Item} with lazy associations.
+ */
+@Getter
+@AllArgsConstructor
+public class ItemRow {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final Boolean available;
+    private final Long ownerId;
+}
@@ -2,10 +2,11 @@ package ru.practicum.shareit.item.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.dto.CommentView;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,8 +17,16 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "WHERE c.item.id = :itemId")
     List<Comment> findAllCommentsByItemId(Long itemId);
 
-    @Query("SELECT c FROM Comment AS c " +
-            "JOIN FETCH c.item " +
-            "WHERE c.item.owner.id = :ownerId")
-    List<Comment> findAllCommentsLeftOnOwnerItemsWithId(@Param("ownerId") Long userId);
+    @Query(value = "SELECT ranked.comment_id AS \"id\", ranked.text AS \"text\", ranked.name AS \"authorName\", " +
+            "ranked.created_date AS \"created\", ranked.item_id AS \"itemId\", ranked.total AS \"total\" " +
+            "FROM (SELECT c.comment_id, c.text, u.name, c.created_date, c.item_id, " +
+            "COUNT(*) OVER (PARTITION BY c.item_id) AS total, " +
+            "ROW_NUMBER() OVER (PARTITION BY c.item_id ORDER BY c.created_date DESC, c.comment_id DESC) AS position " +
+            "FROM comments AS c " +
+            "JOIN users AS u ON u.user_id = c.author_id " +
+            "WHERE c.item_id IN (:itemIds)) AS ranked " +
+            "WHERE ranked.position <= :limit " +
+            "ORDER BY ranked.item_id, ranked.created_date, ranked.comment_id",
+            nativeQuery = true)
+    List<CommentView> findLatestCommentsForItems(Collection<Long> itemIds, int limit);
 }
@@ -1,24 +1,66 @@
 package ru.practicum.shareit.item.repository;
 
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.config.CacheConfig;
+import ru.practicum.shareit.item.dto.ItemRow;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.model.ItemRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    Page<Item> findAllByOwnerIdOrderById(Long userId, Pageable pageable);
+    @Cacheable(cacheNames = CacheConfig.ITEMS, unless = "#result == null")
+    @Query("SELECT new ru.practicum.shareit.item.dto.ItemRow(i.id, i.name, i.description, i.available, " +
+            "i.owner.id) FROM Item AS i WHERE i.id = :itemId")
+    Optional<ItemRow> findRowById(@Param("itemId") Long itemId);
+
+    Slice<Item> findAllByOwnerIdOrderById(Long userId, Pageable pageable);
+
+    long countByOwnerId(Long userId);
 
     @Query("SELECT i FROM Item AS i WHERE i.available = true " +
             "AND (LOWER(i.name) like LOWER(CONCAT('%', :text, '%')) " +
             "OR LOWER(i.description) like LOWER(CONCAT('%', :text, '%')))")
-    Page<Item> searchItems(String text, Pageable pageable);
+    Slice<Item> searchItems(String text, Pageable pageable);
+
+    @Query("SELECT COUNT(i) FROM Item AS i WHERE i.available = true " +
+            "AND (LOWER(i.name) like LOWER(CONCAT('%', :text, '%')) " +
+            "OR LOWER(i.description) like LOWER(CONCAT('%', :text, '%')))")
+    long countSearchItems(String text);
+
+    List<Item> findAllByOwnerIdAndIdGreaterThanOrderById(Long userId, Long cursorId, Pageable pageable);
+
+    @Query("SELECT i FROM Item AS i WHERE i.available = true " +
+            "AND (LOWER(i.name) like LOWER(CONCAT('%', :text, '%')) " +
+            "OR LOWER(i.description) like LOWER(CONCAT('%', :text, '%'))) " +
+            "AND i.id > :cursorId ORDER BY i.id")
+    List<Item> searchItemsAfterCursor(String text, Long cursorId, Pageable pageable);
+
+    @Query(value = "SELECT i.* FROM items AS i WHERE i.is_available " +
+            "AND (i.name ILIKE CONCAT('%', :text, '%') OR i.description ILIKE CONCAT('%', :text, '%')) " +
+            "ORDER BY GREATEST(word_similarity(:text, i.name), word_similarity(:text, i.description)) DESC, " +
+            "i.item_id",
+            nativeQuery = true)
+    Slice<Item> searchItemsByTrigram(String text, Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM items AS i WHERE i.is_available " +
+            "AND (i.name ILIKE CONCAT('%', :text, '%') OR i.description ILIKE CONCAT('%', :text, '%'))",
+            nativeQuery = true)
+    long countSearchItemsByTrigram(String text);
+
+    @Query(value = "SELECT i.* FROM items AS i WHERE i.is_available " +
+            "AND (i.name ILIKE CONCAT('%', :text, '%') OR i.description ILIKE CONCAT('%', :text, '%')) " +
+            "AND i.item_id > :cursorId ORDER BY i.item_id",
+            nativeQuery = true)
+    List<Item> searchItemsByTrigramAfterCursor(String text, Long cursorId, Pageable pageable);
 
     List<Item> findAllByItemRequestIn(@Param("requests") List<ItemRequest> requests);
 
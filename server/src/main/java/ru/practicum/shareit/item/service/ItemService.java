@@ -5,6 +5,7 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.CursorPage;
 
 import java.util.List;
 
@@ -19,5 +20,13 @@ public interface ItemService {
 
     List<ItemDto> searchItems(String text, int from, int size);
 
+    long countUserItems(Long userId);
+
+    long countSearchItems(String text);
+
     CommentDto createComment(Comment comment, Long authorId, Long itemId);
+
+    CursorPage<ItemInfoDto> getAllUserItemsAfter(Long userId, String cursor, int size);
+
+    CursorPage<ItemDto> searchItemsAfter(String text, String cursor, int size);
 }
@@ -1,48 +1,115 @@
 package ru.practicum.shareit.item.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.shareit.booking.model.Booking;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.ItemBookingSummaryRepository;
+import ru.practicum.shareit.booking.util.cache.BookingListCache;
 import ru.practicum.shareit.booking.util.mapper.BookingMapper;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.exception.AccessToAddCommentDeniedException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.CommentEventDto;
+import ru.practicum.shareit.item.dto.CommentView;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.item.dto.ItemRow;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.item.util.mapper.CommentMapper;
 import ru.practicum.shareit.item.util.mapper.ItemMapper;
+import ru.practicum.shareit.item.util.search.ItemSearchEngine;
+import ru.practicum.shareit.outbox.model.OutboxEvent;
+import ru.practicum.shareit.outbox.service.OutboxWriter;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.util.feed.RequestFeedUpdater;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+import ru.practicum.shareit.util.CursorPage;
+import ru.practicum.shareit.util.PageCursor;
 import ru.practicum.shareit.util.ShareItPageRequest;
+import ru.practicum.shareit.util.SingleFlight;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final UserExistenceChecker userExistenceChecker;
     private final BookingRepository bookingRepository;
+    private final ItemBookingSummaryRepository itemBookingSummaryRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final RequestFeedUpdater requestFeedUpdater;
+    private final OutboxWriter outboxWriter;
     private final ItemMapper itemMapper;
     private final BookingMapper bookingMapper;
     private final CommentMapper commentMapper;
+    private final ItemSearchEngine itemSearchEngine;
+    private final SingleFlight<SimpleKey, ItemInfoDto> itemInfoSingleFlight;
+    private final BookingListCache bookingListCache;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Clock clock;
+    private final int commentsPerItem;
+
+    public ItemServiceImpl(ItemRepository itemRepository, UserRepository userRepository,
+                           UserExistenceChecker userExistenceChecker, BookingRepository bookingRepository,
+                           ItemBookingSummaryRepository itemBookingSummaryRepository,
+                           CommentRepository commentRepository, ItemRequestRepository itemRequestRepository,
+                           RequestFeedUpdater requestFeedUpdater, OutboxWriter outboxWriter, ItemMapper itemMapper,
+                           BookingMapper bookingMapper, CommentMapper commentMapper,
+                           ItemSearchEngine itemSearchEngine,
+                           SingleFlight<SimpleKey, ItemInfoDto> itemInfoSingleFlight,
+                           BookingListCache bookingListCache,
+                           PlatformTransactionManager transactionManager, Clock clock,
+                           @Value("${shareit.items.comments-per-item:0}") int commentsPerItem) {
+        this.itemRepository = itemRepository;
+        this.userRepository = userRepository;
+        this.userExistenceChecker = userExistenceChecker;
+        this.bookingRepository = bookingRepository;
+        this.itemBookingSummaryRepository = itemBookingSummaryRepository;
+        this.commentRepository = commentRepository;
+        this.itemRequestRepository = itemRequestRepository;
+        this.requestFeedUpdater = requestFeedUpdater;
+        this.outboxWriter = outboxWriter;
+        this.itemMapper = itemMapper;
+        this.bookingMapper = bookingMapper;
+        this.commentMapper = commentMapper;
+        this.itemSearchEngine = itemSearchEngine;
+        this.itemInfoSingleFlight = itemInfoSingleFlight;
+        this.bookingListCache = bookingListCache;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.clock = clock;
+        this.commentsPerItem = commentsPerItem;
+    }
 
     @Override
     @Transactional
@@ -60,103 +127,159 @@ public class ItemServiceImpl implements ItemService {
         }
         item.setOwner(owner);
         item.setAvailable(Boolean.TRUE);
-        return itemMapper.itemToItemDto(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        itemBookingSummaryRepository.save(ItemBookingSummary.builder().itemId(savedItem.getId()).build());
+        requestFeedUpdater.itemSaved(savedItem);
+        return itemMapper.itemToItemDto(savedItem);
     }
 
     @Override
     @Transactional
     public List<ItemInfoDto> getAllUserItems(Long userId, int from, int size) {
-        userRepository.findById(userId).orElseThrow(() -> {
-            log.warn("User with id {} not found", userId);
-            return new NotFoundException(String.format("User with id %d not found", userId));
-        });
-        log.debug("User with id = {} found", userId);
+        userExistenceChecker.checkUserExists(userId);
         ShareItPageRequest pageRequest = new ShareItPageRequest(from, size);
-        Page<Item> itemsPage = itemRepository.findAllByOwnerIdOrderById(userId, pageRequest);
-        if (itemsPage.isEmpty()) {
+        Slice<Item> itemsSlice = itemRepository.findAllByOwnerIdOrderById(userId, pageRequest);
+        if (itemsSlice.isEmpty()) {
             log.warn("Items not found");
             return Collections.emptyList();
         }
-        Map<Long, ItemInfoDto.BookingDto> lastBookingDtoForItem = bookingRepository
-                .findUserLastBookingsForEachItem(userId)
-                .stream()
-                .collect(Collectors.toMap(booking -> booking.getItem().getId(),
-                        bookingMapper::bookingToItemInfoDtoBookingDto,
-                        (present, another) -> present));
-        Map<Long, ItemInfoDto.BookingDto> nextBookingDtoForItem = bookingRepository
-                .findUserNextBookingsForEachItem(userId)
-                .stream()
-                .collect(Collectors.toMap(booking -> booking.getItem().getId(),
-                        bookingMapper::bookingToItemInfoDtoBookingDto,
-                        (present, another) -> present));
-        Map<Long, List<Comment>> comments = commentRepository
-                .findAllCommentsLeftOnOwnerItemsWithId(userId)
+        return toItemInfoDtos(itemsSlice.getContent());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TOTALS, keyGenerator = CacheConfig.METHOD_KEY_GENERATOR)
+    public long countUserItems(Long userId) {
+        return itemRepository.countByOwnerId(userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ItemInfoDto> getAllUserItemsAfter(Long userId, String cursor, int size) {
+        userExistenceChecker.checkUserExists(userId);
+        PageCursor pageCursor = PageCursor.decodeIdCursor(cursor);
+        List<Item> items = itemRepository.findAllByOwnerIdAndIdGreaterThanOrderById(userId, pageCursor.getId(),
+                PageRequest.ofSize(size));
+        if (items.isEmpty()) {
+            log.warn("Items not found");
+            return new CursorPage<>(Collections.emptyList(), null);
+        }
+        return new CursorPage<>(toItemInfoDtos(items), nextCursor(items, size));
+    }
+
+    private List<ItemInfoDto> toItemInfoDtos(List<Item> items) {
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        Map<Long, ItemInfoDto.BookingDto> lastBookingDtoForItem = new HashMap<>();
+        Map<Long, ItemInfoDto.BookingDto> nextBookingDtoForItem = new HashMap<>();
+        for (ItemBookingView booking : findLastAndNextBookings(itemIds)) {
+            ItemInfoDto.BookingDto bookingDto = bookingMapper.itemBookingViewToItemInfoDtoBookingDto(booking);
+            if (booking.getLast()) {
+                lastBookingDtoForItem.put(booking.getItemId(), bookingDto);
+            } else {
+                nextBookingDtoForItem.put(booking.getItemId(), bookingDto);
+            }
+        }
+        Map<Long, List<CommentView>> comments = commentRepository
+                .findLatestCommentsForItems(itemIds, commentsPerItem > 0 ? commentsPerItem : Integer.MAX_VALUE)
                 .stream()
-                .collect(Collectors.groupingBy((comment) -> comment.getItem().getId()));
-        return itemsPage.getContent().stream()
+                .collect(Collectors.groupingBy(CommentView::getItemId));
+        return items.stream()
                 .map(item -> {
                     ItemInfoDto itemInfoDto = itemMapper.itemToItemInfoDto(item);
+                    List<CommentView> itemComments = comments.getOrDefault(item.getId(), Collections.emptyList());
                     itemInfoDto.setLastBooking(lastBookingDtoForItem.get(item.getId()));
                     itemInfoDto.setNextBooking(nextBookingDtoForItem.get(item.getId()));
-                    itemInfoDto.setComments(comments.get(itemInfoDto.getId()) == null
-                            ? Collections.emptyList()
-                            : comments.get(itemInfoDto.getId()).stream()
-                            .map(commentMapper::commentToCommentDto)
+                    itemInfoDto.setComments(itemComments.stream()
+                            .map(commentMapper::commentViewToCommentDto)
                             .collect(Collectors.toList()));
+                    itemInfoDto.setCommentsCount(itemComments.isEmpty() ? 0L : itemComments.get(0).getTotal());
                     return itemInfoDto;
                 })
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Last and next bookings from the item booking summaries; items with outdated summaries are read from bookings.
+     */
+    private List<ItemBookingView> findLastAndNextBookings(List<Long> itemIds) {
+        List<ItemBookingView> bookings = new ArrayList<>();
+        Set<Long> summarizedItemIds = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (ItemBookingView booking : itemBookingSummaryRepository.findLastAndNextBookings(itemIds, now)) {
+            summarizedItemIds.add(booking.getItemId());
+            if (booking.getId() != null) {
+                bookings.add(booking);
+            }
+        }
+        List<Long> outdatedItemIds = itemIds.stream()
+                .filter(itemId -> !summarizedItemIds.contains(itemId))
+                .collect(Collectors.toList());
+        if (!outdatedItemIds.isEmpty()) {
+            log.debug("Booking summaries of items {} are outdated", outdatedItemIds);
+            bookings.addAll(bookingRepository.findLastAndNextBookingsForItems(outdatedItemIds, now));
+        }
+        return bookings;
+    }
+
+    /**
+     * Concurrent reads of one item by its owner, or by any other users, share one computation.
+     * The cached item row is looked up before, as its owner decides the viewer class, and the details are read
+     * in a transaction of their own, so callers waiting for a read in flight hold no database connection.
+     */
     @Override
-    @Transactional(readOnly = true)
     public ItemInfoDto getItemById(Long itemId, Long userId) {
-        userRepository.findById(userId).orElseThrow(() -> {
-            log.warn("User with id {} not found", userId);
-            return new NotFoundException(String.format("User with id %d not found", userId));
-        });
-        log.debug("User with id = {} found", userId);
-        Item item = itemRepository.findById(itemId).orElseThrow(() -> {
+        userExistenceChecker.checkUserExists(userId);
+        ItemRow item = itemRepository.findRowById(itemId).orElseThrow(() -> {
             log.warn("Item with id {} not found", itemId);
             return new NotFoundException(String.format("Item with id %d not found", itemId));
         });
         log.debug("Item with id {} found", itemId);
-        List<Comment> comments = commentRepository.findAllCommentsByItemId(itemId);
-        if (!Objects.equals(item.getOwner().getId(), userId)) {
-            ItemInfoDto itemInfoDto = itemMapper.itemToItemInfoDto(item);
+        boolean owner = Objects.equals(item.getOwnerId(), userId);
+        return itemInfoSingleFlight.execute(new SimpleKey(itemId, owner),
+                () -> readOnlyTransactionTemplate.execute(status -> toItemInfoDto(item, owner)));
+    }
+
+    private ItemInfoDto toItemInfoDto(ItemRow item, boolean owner) {
+        List<Comment> comments = commentRepository.findAllCommentsByItemId(item.getId());
+        if (!owner) {
+            ItemInfoDto itemInfoDto = itemMapper.itemRowToItemInfoDto(item);
             itemInfoDto.setComments(comments.stream().map(commentMapper::commentToCommentDto)
                     .collect(Collectors.toList()));
+            itemInfoDto.setCommentsCount((long) comments.size());
             return itemInfoDto;
         }
-        List<Booking> lastBooking = bookingRepository.findUserLastBooking(itemId);
-        List<Booking> nextBooking = bookingRepository.findUserNextBooking(itemId);
-        ItemInfoDto itemInfoDto = itemMapper.itemToItemInfoDto(item);
-        itemInfoDto.setLastBooking(lastBooking.isEmpty() ?
-                null : bookingMapper.bookingToItemInfoDtoBookingDto(lastBooking.get(0)));
-        itemInfoDto.setNextBooking(nextBooking.isEmpty() ?
-                null : bookingMapper.bookingToItemInfoDtoBookingDto(nextBooking.get(0)));
+        ItemInfoDto itemInfoDto = itemMapper.itemRowToItemInfoDto(item);
+        for (ItemBookingView booking : findLastAndNextBookings(List.of(item.getId()))) {
+            if (booking.getLast()) {
+                itemInfoDto.setLastBooking(bookingMapper.itemBookingViewToItemInfoDtoBookingDto(booking));
+            } else {
+                itemInfoDto.setNextBooking(bookingMapper.itemBookingViewToItemInfoDtoBookingDto(booking));
+            }
+        }
         itemInfoDto.setComments(comments.isEmpty() ? Collections.emptyList() : comments.stream()
                 .map(commentMapper::commentToCommentDto)
                 .collect(Collectors.toList()));
+        itemInfoDto.setCommentsCount((long) comments.size());
         return itemInfoDto;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ITEMS, key = "#itemId")
     public ItemDto updateItem(Long itemId, Item item, Long ownerId) {
-        User owner = userRepository.findById(ownerId).orElseThrow(() -> {
-            log.warn("User with id {} not found", ownerId);
-            return new NotFoundException(String.format("User with id %d not found", ownerId));
-        });
-        log.debug("User with id = {} found", ownerId);
+        userExistenceChecker.checkUserExists(ownerId);
         Item existingItem = itemRepository.findById(itemId).orElseThrow(() -> {
             log.warn("Item with id {} not found", itemId);
             return new NotFoundException(String.format("Item with id %d not found", itemId));
         });
         log.debug("Item with id = {} found", itemId);
         item.setId(itemId);
-        item.setOwner(owner);
-        return itemMapper.itemToItemDto(itemRepository.save(itemMapper.updateItem(existingItem, item)));
+        Item savedItem = itemRepository.save(itemMapper.updateItem(existingItem, item));
+        requestFeedUpdater.itemSaved(savedItem);
+        bookingListCache.invalidateAll();
+        return itemMapper.itemToItemDto(savedItem);
     }
 
     @Override
@@ -168,16 +291,42 @@ public class ItemServiceImpl implements ItemService {
         }
         log.debug("Text for search: {}", text);
         ShareItPageRequest pageRequest = new ShareItPageRequest(from, size);
-        Page<Item> itemsPage = itemRepository.searchItems(text, pageRequest);
-        if (itemsPage.isEmpty()) {
+        Slice<Item> itemsSlice = itemSearchEngine.search(text, pageRequest);
+        if (itemsSlice.isEmpty()) {
             log.warn("Items not found");
             return Collections.emptyList();
         }
-        return itemsPage.getContent().stream()
+        return itemsSlice.getContent().stream()
                 .map(itemMapper::itemToItemDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TOTALS, keyGenerator = CacheConfig.METHOD_KEY_GENERATOR)
+    public long countSearchItems(String text) {
+        return text.isEmpty() ? 0 : itemSearchEngine.count(text);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ItemDto> searchItemsAfter(String text, String cursor, int size) {
+        if (text.isEmpty()) {
+            log.debug("Text for search is empty");
+            return new CursorPage<>(Collections.emptyList(), null);
+        }
+        log.debug("Text for search: {}", text);
+        PageCursor pageCursor = PageCursor.decodeIdCursor(cursor);
+        List<Item> items = itemSearchEngine.searchAfter(text, pageCursor.getId(), PageRequest.ofSize(size));
+        return new CursorPage<>(items.stream()
+                .map(itemMapper::itemToItemDto)
+                .collect(Collectors.toList()), nextCursor(items, size));
+    }
+
+    private static String nextCursor(List<Item> items, int size) {
+        return items.size() == size ? PageCursor.encode(items.get(items.size() - 1).getId()) : null;
+    }
+
     @Override
     @Transactional
     public CommentDto createComment(Comment comment, Long authorId, Long itemId) {
@@ -199,6 +348,15 @@ public class ItemServiceImpl implements ItemService {
         comment.setAuthor(author);
         comment.setItem(item);
         comment.setCreated(LocalDateTime.now());
-        return commentMapper.commentToCommentDto(commentRepository.save(comment));
+        Comment savedComment = commentRepository.save(comment);
+        outboxWriter.append(OutboxEvent.AggregateType.COMMENT, savedComment.getId(), "CREATED",
+                CommentEventDto.builder()
+                        .commentId(savedComment.getId())
+                        .itemId(itemId)
+                        .authorId(authorId)
+                        .text(savedComment.getText())
+                        .created(savedComment.getCreated())
+                        .build());
+        return commentMapper.commentToCommentDto(savedComment);
     }
 }
@@ -2,6 +2,7 @@ package ru.practicum.shareit.item.util.mapper;
 
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.CommentView;
 import ru.practicum.shareit.item.model.Comment;
 
 @Component
@@ -22,4 +23,13 @@ public class CommentMapper {
                 .authorName(comment.getAuthor() == null ? null : comment.getAuthor().getName())
                 .build();
     }
+
+    public CommentDto commentViewToCommentDto(CommentView comment) {
+        return CommentDto.builder()
+                .id(comment.getId())
+                .text(comment.getText())
+                .created(comment.getCreated())
+                .authorName(comment.getAuthorName())
+                .build();
+    }
 }
@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.util.mapper;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.item.dto.ItemRow;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
 
@@ -37,6 +38,15 @@ public class ItemMapper {
                 .build();
     }
 
+    public ItemInfoDto itemRowToItemInfoDto(ItemRow item) {
+        return ItemInfoDto.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .available(item.getAvailable())
+                .build();
+    }
+
     public Item updateItem(Item existingItem, Item item) {
         return Item.builder()
                 .id(existingItem.getId())
@@ -44,6 +54,7 @@ public class ItemMapper {
                 .description(item.getDescription() != null ? item.getDescription() : existingItem.getDescription())
                 .available(item.getAvailable() != null ? item.getAvailable() : existingItem.getAvailable())
                 .owner(existingItem.getOwner())
+                .itemRequest(existingItem.getItemRequest())
                 .build();
     }
 
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.item.util.search;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+/**
+ * Search of available items by text in name or description.
+ * The implementation is chosen by the {@code shareit.search.engine} property.
+ */
+public interface ItemSearchEngine {
+    String ENGINE_PROPERTY = "shareit.search.engine";
+
+    Slice<Item> search(String text, Pageable pageable);
+
+    long count(String text);
+
+    List<Item> searchAfter(String text, Long cursorId, Pageable pageable);
+}
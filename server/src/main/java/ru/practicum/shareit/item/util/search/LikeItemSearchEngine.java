@@ -0,0 +1,36 @@
+package ru.practicum.shareit.item.util.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+/**
+ * Portable search with {@code LOWER(...) LIKE '%text%'}, works on any database but scans the whole items table.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = ItemSearchEngine.ENGINE_PROPERTY, havingValue = "like", matchIfMissing = true)
+public class LikeItemSearchEngine implements ItemSearchEngine {
+    private final ItemRepository itemRepository;
+
+    @Override
+    public Slice<Item> search(String text, Pageable pageable) {
+        return itemRepository.searchItems(text, pageable);
+    }
+
+    @Override
+    public long count(String text) {
+        return itemRepository.countSearchItems(text);
+    }
+
+    @Override
+    public List<Item> searchAfter(String text, Long cursorId, Pageable pageable) {
+        return itemRepository.searchItemsAfterCursor(text, cursorId, pageable);
+    }
+}
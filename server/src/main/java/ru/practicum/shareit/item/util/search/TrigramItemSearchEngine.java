@@ -0,0 +1,37 @@
+package ru.practicum.shareit.item.util.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+/**
+ * PostgreSQL search over pg_trgm GIN indexes: {@code ILIKE '%text%'} is answered from the indexes
+ * created by the PostgreSQL migrations and results are ranked by {@code word_similarity} to the search text.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = ItemSearchEngine.ENGINE_PROPERTY, havingValue = "trigram")
+public class TrigramItemSearchEngine implements ItemSearchEngine {
+    private final ItemRepository itemRepository;
+
+    @Override
+    public Slice<Item> search(String text, Pageable pageable) {
+        return itemRepository.searchItemsByTrigram(text, pageable);
+    }
+
+    @Override
+    public long count(String text) {
+        return itemRepository.countSearchItemsByTrigram(text);
+    }
+
+    @Override
+    public List<Item> searchAfter(String text, Long cursorId, Pageable pageable) {
+        return itemRepository.searchItemsByTrigramAfterCursor(text, cursorId, pageable);
+    }
+}
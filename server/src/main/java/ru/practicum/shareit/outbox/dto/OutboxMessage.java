@@ -0,0 +1,28 @@
+package ru.practicum.shareit.outbox.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Builder;
+import lombok.Data;
+import ru.practicum.shareit.outbox.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox event as delivered to the sinks; the id lets consumers drop the events delivered twice.
+ */
+@Data
+@Builder
+public class OutboxMessage {
+    private Long id;
+
+    private OutboxEvent.AggregateType aggregateType;
+
+    private Long aggregateId;
+
+    private String type;
+
+    @JsonRawValue
+    private String payload;
+
+    private LocalDateTime created;
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.outbox.model;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Event of a booking or comment change, written in the transaction making the change and delivered
+ * to the outbox sinks after it commits. {@code attempts} counts the failed deliveries; a pending event is not
+ * dispatched before {@code nextAttempt}, which is both the lease of a claimed event and the backoff of a failed one.
+ */
+@Entity
+@Builder(toBuilder = true)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_events")
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    @Column(name = "event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 32)
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 32)
+    private String type;
+
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime created;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(name = "next_attempt_date")
+    private LocalDateTime nextAttempt;
+
+    public enum AggregateType {
+        BOOKING,
+        COMMENT
+    }
+
+    public enum Status {
+        PENDING,
+        DEAD
+    }
+}
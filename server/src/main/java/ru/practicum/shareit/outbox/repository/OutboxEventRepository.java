@@ -0,0 +1,31 @@
+package ru.practicum.shareit.outbox.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.outbox.model.OutboxEvent;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the oldest pending events due at {@code now}, skipping the ones locked by other dispatcher threads,
+     * so concurrent dispatchers claim different batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent AS e " +
+            "WHERE e.status = :status AND (e.nextAttempt IS NULL OR e.nextAttempt <= :now) " +
+            "ORDER BY e.id")
+    List<OutboxEvent> findOldestForUpdate(@Param("status") OutboxEvent.Status status,
+                                          @Param("now") LocalDateTime now, Pageable pageable);
+}
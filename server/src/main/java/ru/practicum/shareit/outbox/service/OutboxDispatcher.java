@@ -0,0 +1,198 @@
+package ru.practicum.shareit.outbox.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+import ru.practicum.shareit.outbox.model.OutboxEvent;
+import ru.practicum.shareit.outbox.repository.OutboxEventRepository;
+import ru.practicum.shareit.outbox.sink.OutboxSink;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers outbox events to the sinks from a pool of dispatcher threads. Every thread claims a batch of
+ * the oldest due events for a {@code lease} in a short locking transaction, delivers it to all sinks with
+ * no transaction open and then deletes it, so a batch failed by a sink or lost with the server is delivered
+ * again: delivery is at least once. A failed batch is retried after an exponential backoff and is marked
+ * {@code DEAD} after {@code max-attempts}, so it never holds back the events behind it.
+ * A thread sleeps for {@code poll-interval} when there are no full batches waiting or a delivery fails.
+ * Events of one booking are delivered in order only with a single dispatcher thread and no failed deliveries.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int threads;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter dead;
+    private ExecutorService dispatchers;
+    private volatile boolean running;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, List<OutboxSink> sinks,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, Clock clock,
+                            @Value("${shareit.outbox.dispatcher.threads:1}") int threads,
+                            @Value("${shareit.outbox.dispatcher.batch-size:100}") int batchSize,
+                            @Value("${shareit.outbox.dispatcher.poll-interval:PT0.5S}") Duration pollInterval,
+                            @Value("${shareit.outbox.dispatcher.lease:PT1M}") Duration lease,
+                            @Value("${shareit.outbox.dispatcher.max-attempts:10}") int maxAttempts,
+                            @Value("${shareit.outbox.dispatcher.initial-backoff:PT1S}") Duration initialBackoff,
+                            @Value("${shareit.outbox.dispatcher.max-backoff:PT10M}") Duration maxBackoff) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        delivered = Counter.builder("shareit.outbox.events")
+                .description("Outbox events delivered to the sinks or failed")
+                .tag("result", "delivered")
+                .register(meterRegistry);
+        failed = Counter.builder("shareit.outbox.events")
+                .description("Outbox events delivered to the sinks or failed")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        dead = Counter.builder("shareit.outbox.events")
+                .description("Outbox events delivered to the sinks or failed")
+                .tag("result", "dead")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Outbox events are dispatched by {} threads to {} sinks", threads, sinks.size());
+        running = true;
+        dispatchers = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("outbox-dispatcher-"));
+        for (int i = 0; i < threads; i++) {
+            dispatchers.execute(this::dispatch);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        dispatchers.shutdownNow();
+        dispatchers.awaitTermination(pollInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Claims one batch of due events, delivers it and deletes it; a failed batch is kept and rescheduled.
+     *
+     * @return the number of delivered events, or -1 when the delivery failed
+     */
+    int dispatchBatch() {
+        List<OutboxEvent> events = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<OutboxEvent> claimed = outboxEventRepository.findOldestForUpdate(OutboxEvent.Status.PENDING, now,
+                    PageRequest.ofSize(batchSize));
+            claimed.forEach(event -> event.setNextAttempt(now.plus(lease)));
+            return claimed;
+        });
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        List<OutboxMessage> messages = events.stream()
+                .map(OutboxDispatcher::toMessage)
+                .collect(Collectors.toList());
+        List<Long> ids = messages.stream()
+                .map(OutboxMessage::getId)
+                .collect(Collectors.toList());
+        try {
+            sinks.forEach(sink -> sink.deliver(messages));
+        } catch (RuntimeException e) {
+            log.warn("{} outbox events from id = {} are not delivered: {}", events.size(), ids.get(0),
+                    e.getMessage());
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.findAllById(ids).forEach(this::reschedule));
+            failed.increment(events.size());
+            return -1;
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteAllByIdInBatch(ids));
+        delivered.increment(events.size());
+        log.debug("{} outbox events delivered", events.size());
+        return events.size();
+    }
+
+    /**
+     * Counts the failed attempt and retries the event after {@code initial-backoff} doubled for every
+     * previous attempt, up to {@code max-backoff}, or gives it up after {@code max-attempts}.
+     */
+    private void reschedule(OutboxEvent event) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        if (attempts >= maxAttempts) {
+            log.error("Outbox event with id = {} is not delivered in {} attempts and is dead", event.getId(),
+                    attempts);
+            event.setStatus(OutboxEvent.Status.DEAD);
+            event.setNextAttempt(null);
+            dead.increment();
+            return;
+        }
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        event.setNextAttempt(LocalDateTime.now(clock)
+                .plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff));
+    }
+
+    private void dispatch() {
+        while (running) {
+            int count;
+            try {
+                count = dispatchBatch();
+            } catch (RuntimeException e) {
+                log.warn("Outbox events are not dispatched: {}", e.getMessage());
+                count = -1;
+            }
+            if (count < batchSize) {
+                try {
+                    Thread.sleep(pollInterval.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static OutboxMessage toMessage(OutboxEvent event) {
+        return OutboxMessage.builder()
+                .id(event.getId())
+                .aggregateType(event.getAggregateType())
+                .aggregateId(event.getAggregateId())
+                .type(event.getType())
+                .payload(event.getPayload())
+                .created(event.getCreated())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.outbox.sink;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Publishes the events to the {@code @EventListener}s of {@link OutboxMessage} in the dispatcher thread,
+ * within the transaction deleting the delivered events.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.outbox.sink.in-process.enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationEventOutboxSink implements OutboxSink {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) {
+        messages.forEach(applicationEventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.outbox.sink;
+
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Destination of the outbox events. A batch is delivered again, with the events already delivered,
+ * when any sink fails on it, so sinks have to tolerate duplicates.
+ */
+public interface OutboxSink {
+
+    /**
+     * Delivers a batch of events in id order; an exception fails the whole batch.
+     */
+    void deliver(List<OutboxMessage> messages);
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.outbox.sink;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Posts every batch of events to a webhook as a JSON array; a response other than 2xx fails the batch.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.outbox.sink.webhook.url")
+public class WebhookOutboxSink implements OutboxSink {
+    private final RestTemplate restTemplate;
+    private final String url;
+
+    public WebhookOutboxSink(RestTemplateBuilder builder, @Value("${shareit.outbox.sink.webhook.url}") String url,
+                             @Value("${shareit.outbox.sink.webhook.timeout:5s}") Duration timeout) {
+        this.restTemplate = builder
+                .setConnectTimeout(timeout)
+                .setReadTimeout(timeout)
+                .build();
+        this.url = url;
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) {
+        restTemplate.postForEntity(url, messages, Void.class);
+        log.debug("{} outbox events posted to {}", messages.size(), url);
+    }
+}
@@ -2,12 +2,14 @@ package ru.practicum.shareit.request.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.request.util.mapper.ItemRequestMapper;
+import ru.practicum.shareit.util.TotalCount;
 
 import java.util.List;
 
@@ -39,13 +41,25 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public List<ItemRequestInfoDto> getSeveralItemRequestsPaginated(
+    public ResponseEntity<List<ItemRequestInfoDto>> getSeveralItemRequestsPaginated(
             @RequestParam(name = "from", defaultValue = "0") int from,
             @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "total", defaultValue = "false") boolean total,
             @RequestHeader(value = USER_HEADER) Long requestorId) {
         log.debug("GET request received from user with id = {} to get {} items' requests beginning with {} ",
                 requestorId, size, from);
-        return itemRequestService.getSeveralItemRequestsPaginated(from, size, requestorId);
+        return TotalCount.toResponseEntity(itemRequestService.getSeveralItemRequestsPaginated(from, size, requestorId),
+                total, () -> itemRequestService.countSeveralItemRequests(requestorId));
+    }
+
+    @GetMapping(path = "/all", params = "cursor")
+    public ResponseEntity<List<ItemRequestInfoDto>> getSeveralItemRequestsAfter(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestHeader(value = USER_HEADER) Long requestorId) {
+        log.debug("GET request received from user with id = {} to get {} items' requests after cursor {}",
+                requestorId, size, cursor);
+        return itemRequestService.getSeveralItemRequestsAfter(cursor, size, requestorId).toResponseEntity();
     }
 
     @GetMapping("/{requestId}")
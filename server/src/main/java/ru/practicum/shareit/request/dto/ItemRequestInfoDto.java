@@ -1,7 +1,9 @@
 package ru.practicum.shareit.request.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +21,8 @@ public class ItemRequestInfoDto {
 
     @Data
     @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class ItemDto {
         private Long id;
 
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.request.model;
+
+import lombok.*;
+import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
+import ru.practicum.shareit.request.util.feed.RequestFeedItemsConverter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read model of the item requests feed: an item request with the items answering it, so that a page of the feed
+ * is read by one query without joining items.
+ */
+@Entity
+@Builder(toBuilder = true)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "request_feed")
+public class RequestFeedEntry {
+    @Id
+    @Column(name = "request_id")
+    private Long requestId;
+
+    @Column(name = "requestor_id")
+    private Long requestorId;
+
+    @Column(name = "description", nullable = false, length = 512)
+    private String description;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime created;
+
+    @Column(name = "items", nullable = false)
+    @Convert(converter = RequestFeedItemsConverter.class)
+    @Builder.Default
+    private List<ItemRequestInfoDto.ItemDto> items = new ArrayList<>();
+}
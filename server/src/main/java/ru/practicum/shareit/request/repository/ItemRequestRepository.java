@@ -1,7 +1,5 @@
 package ru.practicum.shareit.request.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -13,5 +11,5 @@ public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long>
 
     List<ItemRequest> findRequestByRequestorIdOrderByCreatedDesc(Long requestorId);
 
-    Page<ItemRequest> findByRequestorIdNot(Long requestorId, Pageable pageable);
+    long countByRequestorIdNot(Long requestorId);
 }
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.request.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.request.model.RequestFeedEntry;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RequestFeedRepository extends JpaRepository<RequestFeedEntry, Long> {
+
+    Slice<RequestFeedEntry> findByRequestorIdNot(Long requestorId, Pageable pageable);
+
+    @Query("SELECT f FROM RequestFeedEntry AS f WHERE f.requestorId <> :requestorId " +
+            "AND f.created <= :cursorCreated AND (f.created < :cursorCreated OR f.requestId < :cursorId) " +
+            "ORDER BY f.created DESC, f.requestId DESC")
+    List<RequestFeedEntry> findByRequestorIdNotAfterCursor(Long requestorId, LocalDateTime cursorCreated,
+                                                           Long cursorId, Pageable pageable);
+
+    /**
+     * Locks the entry, so concurrent writes of the items answering one request update it one after another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM RequestFeedEntry AS f WHERE f.requestId = :requestId")
+    Optional<RequestFeedEntry> findByIdForUpdate(Long requestId);
+}
@@ -3,6 +3,7 @@ package ru.practicum.shareit.request.service;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.util.CursorPage;
 
 import java.util.List;
 
@@ -13,5 +14,9 @@ public interface ItemRequestService {
 
     List<ItemRequestInfoDto> getSeveralItemRequestsPaginated(int from, int size, Long requestorId);
 
+    long countSeveralItemRequests(Long requestorId);
+
     ItemRequestInfoDto getItemRequestById(Long requestId, Long ownerId);
+
+    CursorPage<ItemRequestInfoDto> getSeveralItemRequestsAfter(String cursor, int size, Long requestorId);
 }
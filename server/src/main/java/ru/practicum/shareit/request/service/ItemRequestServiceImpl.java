@@ -2,10 +2,13 @@ package ru.practicum.shareit.request.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
@@ -13,10 +16,16 @@ import ru.practicum.shareit.item.util.mapper.ItemMapper;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.RequestFeedEntry;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.RequestFeedRepository;
+import ru.practicum.shareit.request.util.feed.RequestFeedUpdater;
 import ru.practicum.shareit.request.util.mapper.ItemRequestMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+import ru.practicum.shareit.util.CursorPage;
+import ru.practicum.shareit.util.PageCursor;
 import ru.practicum.shareit.util.ShareItPageRequest;
 
 import java.util.Collections;
@@ -29,7 +38,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRequestRepository itemRequestRepository;
+    private final RequestFeedRepository requestFeedRepository;
+    private final RequestFeedUpdater requestFeedUpdater;
     private final UserRepository userRepository;
+    private final UserExistenceChecker userExistenceChecker;
     private final ItemRepository itemRepository;
     private final ItemMapper itemMapper;
     private final ItemRequestMapper itemRequestMapper;
@@ -43,63 +55,68 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         });
         log.debug("User with id = {} found", requestorId);
         itemRequest.setRequestor(requester);
-        return itemRequestMapper.itemRequestToItemRequestDto(itemRequestRepository.save(itemRequest));
+        // flushed to get the creation timestamp of the feed entry
+        ItemRequest savedItemRequest = itemRequestRepository.saveAndFlush(itemRequest);
+        requestFeedUpdater.requestCreated(savedItemRequest);
+        return itemRequestMapper.itemRequestToItemRequestDto(savedItemRequest);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ItemRequestInfoDto> getAllItemRequestsByRequestor(Long requestorId) {
-        User requester = userRepository.findById(requestorId).orElseThrow(() -> {
-            log.warn("User with id {} not found", requestorId);
-            return new NotFoundException(String.format("User with id %d not found", requestorId));
-        });
-        log.debug("User with id = {} found", requestorId);
+        userExistenceChecker.checkUserExists(requestorId);
         List<ItemRequest> itemRequests = itemRequestRepository.findRequestByRequestorIdOrderByCreatedDesc(requestorId);
         if (itemRequests.isEmpty()) {
-            log.warn("User with id = {} hasn't got any item requests", requester.getId());
+            log.warn("User with id = {} hasn't got any item requests", requestorId);
             return Collections.emptyList();
         }
         log.debug("Item requests: {}", itemRequests);
-        List<Item> itemsResponse = itemRepository.findAllByItemRequestIn(itemRequests);
-        log.debug("Items response: {}", itemsResponse);
-        if (itemsResponse.isEmpty()) {
-            log.warn("All requests have no responses");
-            return itemRequests.stream().map((request) -> {
-                ItemRequestInfoDto itemRequestInfoDto =
-                        itemRequestMapper.itemRequestToItemRequestInfoDto(request);
-                itemRequestInfoDto.setItems(Collections.emptyList());
-                return itemRequestInfoDto;
-            }).collect(Collectors.toList());
-        } else {
-            Map<Long, List<Item>> responses = itemsResponse.stream()
-                    .collect(Collectors.groupingBy((item) -> item.getItemRequest().getId()));
-            log.debug("Item responses: {}", responses);
-            return itemRequests.stream().map((request) -> {
-                ItemRequestInfoDto itemRequestInfoDto = itemRequestMapper.itemRequestToItemRequestInfoDto(request);
-                itemRequestInfoDto.setItems(responses.get(request.getId()).stream()
-                        .map(itemMapper::itemToItemRequestInfoDtoItemDto)
-                        .collect(Collectors.toList()));
-                return itemRequestInfoDto;
-            }).collect(Collectors.toList());
-        }
+        return toItemRequestInfoDtos(itemRequests);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ItemRequestInfoDto> getSeveralItemRequestsPaginated(int from, int size, Long requestorId) {
-        userRepository.findById(requestorId).orElseThrow(() -> {
-            log.warn("User with id {} not found", requestorId);
-            return new NotFoundException(String.format("User with id %d not found", requestorId));
-        });
-        log.debug("User with id = {} found", requestorId);
-        ShareItPageRequest pageRequest = new ShareItPageRequest(from, size, Sort.by("created").descending());
-        Page<ItemRequest> itemRequestPage = itemRequestRepository.findByRequestorIdNot(requestorId, pageRequest);
-        if (itemRequestPage.isEmpty()) {
+        userExistenceChecker.checkUserExists(requestorId);
+        ShareItPageRequest pageRequest = new ShareItPageRequest(from, size,
+                Sort.by(Sort.Direction.DESC, "created", "requestId"));
+        Slice<RequestFeedEntry> feedSlice = requestFeedRepository.findByRequestorIdNot(requestorId, pageRequest);
+        if (feedSlice.isEmpty()) {
             log.warn("Item requests not found");
             return Collections.emptyList();
         }
-        List<ItemRequest> itemRequests = itemRequestPage.getContent();
-        log.debug("Item requests: {}", itemRequests);
+        log.debug("Item requests feed entries: {}", feedSlice.getNumberOfElements());
+        return feedSlice.map(itemRequestMapper::requestFeedEntryToItemRequestInfoDto).getContent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TOTALS, keyGenerator = CacheConfig.METHOD_KEY_GENERATOR)
+    public long countSeveralItemRequests(Long requestorId) {
+        return itemRequestRepository.countByRequestorIdNot(requestorId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ItemRequestInfoDto> getSeveralItemRequestsAfter(String cursor, int size, Long requestorId) {
+        userExistenceChecker.checkUserExists(requestorId);
+        PageCursor pageCursor = PageCursor.decodeTimestampCursor(cursor);
+        List<RequestFeedEntry> feedEntries = requestFeedRepository.findByRequestorIdNotAfterCursor(requestorId,
+                pageCursor.getTimestamp(), pageCursor.getId(), PageRequest.ofSize(size));
+        if (feedEntries.isEmpty()) {
+            log.warn("Item requests not found");
+            return new CursorPage<>(Collections.emptyList(), null);
+        }
+        log.debug("Item requests feed entries: {}", feedEntries.size());
+        RequestFeedEntry lastFeedEntry = feedEntries.get(feedEntries.size() - 1);
+        return new CursorPage<>(feedEntries.stream()
+                .map(itemRequestMapper::requestFeedEntryToItemRequestInfoDto)
+                .collect(Collectors.toList()), feedEntries.size() == size
+                ? PageCursor.encode(lastFeedEntry.getCreated(), lastFeedEntry.getRequestId())
+                : null);
+    }
+
+    private List<ItemRequestInfoDto> toItemRequestInfoDtos(List<ItemRequest> itemRequests) {
         List<Item> itemsResponse = itemRepository.findAllByItemRequestIn(itemRequests);
         log.debug("Items response: {}", itemsResponse);
         if (itemsResponse.isEmpty()) {
@@ -117,7 +134,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
             log.debug("Item responses: {}", responses);
             return itemRequests.stream().map((request) -> {
                 ItemRequestInfoDto itemRequestInfoDto = itemRequestMapper.itemRequestToItemRequestInfoDto(request);
-                itemRequestInfoDto.setItems(responses.get(request.getId()).stream()
+                itemRequestInfoDto.setItems(responses.getOrDefault(request.getId(), Collections.emptyList()).stream()
                         .map(itemMapper::itemToItemRequestInfoDtoItemDto)
                         .collect(Collectors.toList()));
                 return itemRequestInfoDto;
@@ -128,11 +145,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Override
     @Transactional(readOnly = true)
     public ItemRequestInfoDto getItemRequestById(Long requestId, Long ownerId) {
-        userRepository.findById(ownerId).orElseThrow(() -> {
-            log.warn("User with id {} not found", ownerId);
-            return new NotFoundException(String.format("User with id %d not found", ownerId));
-        });
-        log.debug("User with id = {} found", ownerId);
+        userExistenceChecker.checkUserExists(ownerId);
         ItemRequest itemRequest = itemRequestRepository.findById(requestId).orElseThrow(() -> {
             log.warn("Item request with id {} not found", requestId);
             return new NotFoundException(
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.request.util.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.List;
+
+/**
+ * Stores the answering items of a {@link ru.practicum.shareit.request.model.RequestFeedEntry} as a JSON array.
+ */
+@Converter
+public class RequestFeedItemsConverter implements AttributeConverter<List<ItemRequestInfoDto.ItemDto>, String> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<ItemRequestInfoDto.ItemDto>> ITEMS_TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<ItemRequestInfoDto.ItemDto> items) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Request feed items can't be written", e);
+        }
+    }
+
+    @Override
+    public List<ItemRequestInfoDto.ItemDto> convertToEntityAttribute(String items) {
+        try {
+            return OBJECT_MAPPER.readValue(items, ITEMS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Request feed items can't be read", e);
+        }
+    }
+}
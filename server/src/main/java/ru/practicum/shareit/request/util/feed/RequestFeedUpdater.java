@@ -0,0 +1,57 @@
+package ru.practicum.shareit.request.util.feed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.util.mapper.ItemMapper;
+import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.RequestFeedEntry;
+import ru.practicum.shareit.request.repository.RequestFeedRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps {@link RequestFeedEntry} rows up to date within the transactions writing item requests and their items.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestFeedUpdater {
+    private final RequestFeedRepository requestFeedRepository;
+    private final ItemMapper itemMapper;
+
+    public void requestCreated(ItemRequest itemRequest) {
+        requestFeedRepository.save(RequestFeedEntry.builder()
+                .requestId(itemRequest.getId())
+                .requestorId(itemRequest.getRequestor().getId())
+                .description(itemRequest.getDescription())
+                .created(itemRequest.getCreated())
+                .build());
+    }
+
+    /**
+     * Adds a created item answering a request to its entry or replaces the updated one.
+     */
+    public void itemSaved(Item item) {
+        if (item.getItemRequest() == null) {
+            return;
+        }
+        Long requestId = item.getItemRequest().getId();
+        RequestFeedEntry entry = requestFeedRepository.findByIdForUpdate(requestId).orElse(null);
+        if (entry == null) {
+            log.warn("Request feed entry with id {} not found", requestId);
+            return;
+        }
+        List<ItemRequestInfoDto.ItemDto> items = new ArrayList<>(entry.getItems());
+        items.removeIf(itemDto -> Objects.equals(itemDto.getId(), item.getId()));
+        items.add(itemMapper.itemToItemRequestInfoDtoItemDto(item));
+        items.sort(Comparator.comparing(ItemRequestInfoDto.ItemDto::getId));
+        entry.setItems(items);
+        log.debug("Request feed entry with id = {} has {} items", requestId, items.size());
+    }
+}
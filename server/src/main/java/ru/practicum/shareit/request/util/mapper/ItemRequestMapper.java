@@ -4,6 +4,7 @@ import org.springframework.stereotype.Component;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.RequestFeedEntry;
 
 @Component
 public class ItemRequestMapper {
@@ -28,4 +29,13 @@ public class ItemRequestMapper {
                 .created(itemRequest.getCreated())
                 .build();
     }
+
+    public ItemRequestInfoDto requestFeedEntryToItemRequestInfoDto(RequestFeedEntry requestFeedEntry) {
+        return ItemRequestInfoDto.builder()
+                .id(requestFeedEntry.getRequestId())
+                .description(requestFeedEntry.getDescription())
+                .created(requestFeedEntry.getCreated())
+                .items(requestFeedEntry.getItems())
+                .build();
+    }
 }
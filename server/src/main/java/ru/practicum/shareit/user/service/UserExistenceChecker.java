@@ -0,0 +1,36 @@
+package ru.practicum.shareit.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+/**
+ * Validates user ids coming from {@code X-Sharer-User-Id} without loading the {@code User} entity.
+ * Every check is counted in {@code shareit.users.existence.checks}: each one is an entity load saved,
+ * and cache hits of {@code existsById} save the query itself.
+ */
+@Slf4j
+@Component
+public class UserExistenceChecker {
+    private final UserRepository userRepository;
+    private final Counter checks;
+
+    public UserExistenceChecker(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.checks = Counter.builder("shareit.users.existence.checks")
+                .description("User entity loads replaced by an existence check")
+                .register(meterRegistry);
+    }
+
+    public void checkUserExists(Long userId) {
+        checks.increment();
+        if (!userRepository.existsById(userId)) {
+            log.warn("User with id {} not found", userId);
+            throw new NotFoundException(String.format("User with id %d not found", userId));
+        }
+        log.debug("User with id = {} found", userId);
+    }
+}
@@ -2,8 +2,12 @@ package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.util.cache.BookingListCache;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
@@ -18,7 +22,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
+    private final UserExistenceChecker userExistenceChecker;
     private final UserMapper userMapper;
+    private final BookingListCache bookingListCache;
 
     @Override
     @Transactional
@@ -32,8 +38,12 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll().stream().map(userMapper::userToUserDto).collect(Collectors.toList());
     }
 
+    /**
+     * Caches the {@link UserDto}, never the entity; callers must not modify the returned DTO.
+     */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#userId")
     public UserDto getUserById(Long userId) {
         return userMapper.userToUserDto(userRepository.findById(userId).orElseThrow(() -> {
             log.warn("User with id {} not found", userId);
@@ -43,22 +53,24 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#userId")
     public UserDto updateUser(Long userId, User user) {
         User existingUser = userRepository.findById(userId).orElseThrow(() -> {
             log.warn("User with id {} not found", userId);
             return new NotFoundException(String.format("User with id %d not found", userId));
         });
         user.setId(userId);
-        return userMapper.userToUserDto(userRepository.save(userMapper.updateUser(existingUser, user)));
+        UserDto userDto = userMapper.userToUserDto(userRepository.save(userMapper.updateUser(existingUser, user)));
+        bookingListCache.invalidateAll();
+        return userDto;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.USERS, CacheConfig.USER_IDS}, key = "#userId")
     public void deleteUser(Long userId) {
-        userRepository.findById(userId).orElseThrow(() -> {
-            log.warn("User with id {} not found", userId);
-            return new NotFoundException(String.format("User with id %d not found", userId));
-        });
+        userExistenceChecker.checkUserExists(userId);
         userRepository.deleteById(userId);
+        bookingListCache.invalidateAll();
     }
 }
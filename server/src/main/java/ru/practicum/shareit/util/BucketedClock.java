@@ -0,0 +1,33 @@
+package ru.practicum.shareit.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * "Now" of time-dependent queries, read from the injected {@link Clock} and truncated to
+ * {@code shareit.time-bucket}, so the same query repeated within one bucket has the same parameters.
+ */
+@Component
+public class BucketedClock {
+    private final Clock clock;
+    private final long bucketMillis;
+
+    public BucketedClock(Clock clock, @Value("${shareit.time-bucket:1s}") Duration bucket) {
+        if (bucket.toMillis() <= 0) {
+            throw new IllegalArgumentException(String.format("Time bucket %s is incorrect", bucket));
+        }
+        this.clock = clock;
+        this.bucketMillis = bucket.toMillis();
+    }
+
+    public LocalDateTime now() {
+        long millis = clock.millis();
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis - Math.floorMod(millis, bucketMillis)),
+                clock.getZone());
+    }
+}
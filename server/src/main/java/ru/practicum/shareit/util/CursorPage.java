@@ -0,0 +1,22 @@
+package ru.practicum.shareit.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private final List<T> content;
+    private final String nextCursor;
+
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (nextCursor != null) {
+            responseBuilder.header(PageCursor.NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return responseBuilder.body(content);
+    }
+}
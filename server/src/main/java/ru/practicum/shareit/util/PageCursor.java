@@ -0,0 +1,69 @@
+package ru.practicum.shareit.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final LocalDateTime MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    public static String encode(LocalDateTime timestamp, Long id) {
+        return encode(timestamp + SEPARATOR + id);
+    }
+
+    public static String encode(Long id) {
+        return encode(String.valueOf(id));
+    }
+
+    public static PageCursor decodeTimestampCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new PageCursor(MAX_TIMESTAMP, Long.MAX_VALUE);
+        }
+        String value = decode(cursor);
+        int separatorIndex = value.lastIndexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new IllegalArgumentException(String.format("Cursor %s is incorrect", cursor));
+        }
+        try {
+            return new PageCursor(LocalDateTime.parse(value.substring(0, separatorIndex)),
+                    Long.parseLong(value.substring(separatorIndex + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Cursor %s is incorrect", cursor));
+        }
+    }
+
+    public static PageCursor decodeIdCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new PageCursor(null, 0L);
+        }
+        try {
+            return new PageCursor(null, Long.parseLong(decode(cursor)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Cursor %s is incorrect", cursor));
+        }
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Cursor %s is incorrect", cursor));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.util;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Opt-in {@code X-Total-Count} header of offset-paged lists. Pages are read as slices without a count query,
+ * so the total is only counted when a client asks for it with {@code total=true}.
+ */
+public final class TotalCount {
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private TotalCount() {
+    }
+
+    public static <T> ResponseEntity<List<T>> toResponseEntity(List<T> content, boolean total, LongSupplier counter) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (total) {
+            responseBuilder.header(TOTAL_COUNT_HEADER, String.valueOf(counter.getAsLong()));
+        }
+        return responseBuilder.body(content);
+    }
+}
@@ -0,0 +1,15 @@
+-- events written in the transactions changing bookings and comments, delivered to the outbox sinks
+-- by the dispatcher and deleted once delivered; payload is the JSON of the event
+CREATE TABLE outbox_events
+(
+    event_id       BIGINT                      NOT NULL,
+    aggregate_type VARCHAR(32)                 NOT NULL,
+    aggregate_id   BIGINT                      NOT NULL,
+    event_type     VARCHAR(32)                 NOT NULL,
+    payload        VARCHAR                     NOT NULL,
+    created_date   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    attempts       INTEGER                     NOT NULL DEFAULT 0,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (event_id)
+);
+
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,6 @@
+-- PENDING events are claimed by a dispatcher until next_attempt_date and retried after it with a backoff;
+-- DEAD ones ran out of attempts and are kept for inspection, never dispatched again
+ALTER TABLE outbox_events ADD COLUMN status VARCHAR(16) DEFAULT 'PENDING' NOT NULL;
+ALTER TABLE outbox_events ADD COLUMN next_attempt_date TIMESTAMP WITHOUT TIME ZONE;
+
+CREATE INDEX ix_outbox_events_status_event_id ON outbox_events (status, event_id);
@@ -1,10 +1,4 @@
-DROP TABLE IF EXISTS users CASCADE;
-DROP TABLE IF EXISTS items CASCADE;
-DROP TABLE IF EXISTS bookings CASCADE;
-DROP TABLE IF EXISTS comments CASCADE;
-DROP TABLE IF EXISTS requests CASCADE;
-
-CREATE TABLE IF NOT EXISTS users
+CREATE TABLE users
 (
     user_id BIGINT GENERATED ALWAYS AS IDENTITY,
     name    VARCHAR(255) NOT NULL,
@@ -13,7 +7,7 @@ CREATE TABLE IF NOT EXISTS users
     CONSTRAINT uq_user_email UNIQUE (email)
 );
 
-CREATE TABLE IF NOT EXISTS requests
+CREATE TABLE requests
 (
     request_id   BIGINT GENERATED ALWAYS AS IDENTITY,
     description  VARCHAR(512)                NOT NULL,
@@ -23,7 +17,7 @@ CREATE TABLE IF NOT EXISTS requests
     CONSTRAINT fk_requests_to_users FOREIGN KEY (requestor_id) REFERENCES users (user_id)
 );
 
-CREATE TABLE IF NOT EXISTS items
+CREATE TABLE items
 (
     item_id      BIGINT GENERATED ALWAYS AS IDENTITY,
     name         VARCHAR(255) NOT NULL,
@@ -36,7 +30,7 @@ CREATE TABLE IF NOT EXISTS items
     CONSTRAINT fk_items_to_requests FOREIGN KEY (request_id) REFERENCES requests (request_id)
 );
 
-CREATE TABLE IF NOT EXISTS bookings
+CREATE TABLE bookings
 (
     booking_id BIGINT GENERATED ALWAYS AS IDENTITY,
     status     VARCHAR(8)                  NOT NULL,
@@ -49,7 +43,7 @@ CREATE TABLE IF NOT EXISTS bookings
     CONSTRAINT fk_bookings_to_items FOREIGN KEY (item_id) REFERENCES items (item_id)
 );
 
-CREATE TABLE IF NOT EXISTS comments
+CREATE TABLE comments
 (
     comment_id   BIGINT GENERATED ALWAYS AS IDENTITY,
     text         VARCHAR(512)                NOT NULL,
@@ -0,0 +1,7 @@
+CREATE INDEX ix_bookings_booker_start ON bookings (booker_id, start_date);
+CREATE INDEX ix_bookings_item_start ON bookings (item_id, start_date);
+CREATE INDEX ix_items_owner ON items (owner_id, item_id);
+CREATE INDEX ix_items_request ON items (request_id);
+CREATE INDEX ix_comments_item ON comments (item_id);
+CREATE INDEX ix_requests_requestor_created ON requests (requestor_id, created_date);
+CREATE INDEX ix_requests_created ON requests (created_date, request_id);
@@ -0,0 +1,4 @@
+-- booking ids come from a sequence, handed out in blocks of 50, so that Hibernate can batch inserts
+ALTER TABLE bookings ALTER COLUMN booking_id SET GENERATED BY DEFAULT;
+
+CREATE SEQUENCE bookings_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,10 @@
+-- the remaining ids come from sequences as well, so that inserts of every entity can be batched
+ALTER TABLE users ALTER COLUMN user_id SET GENERATED BY DEFAULT;
+ALTER TABLE requests ALTER COLUMN request_id SET GENERATED BY DEFAULT;
+ALTER TABLE items ALTER COLUMN item_id SET GENERATED BY DEFAULT;
+ALTER TABLE comments ALTER COLUMN comment_id SET GENERATED BY DEFAULT;
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE requests_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE comments_seq START WITH 1 INCREMENT BY 50;
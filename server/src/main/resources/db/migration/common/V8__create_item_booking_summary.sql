@@ -0,0 +1,32 @@
+-- last and next booking of every item with its booking counts, kept up to date on booking writes;
+-- refresh_at is the start of the next booking, when the last and next booking have to be recomputed
+CREATE TABLE item_booking_summary
+(
+    item_id         BIGINT NOT NULL,
+    last_booking_id BIGINT,
+    next_booking_id BIGINT,
+    waiting_count   BIGINT NOT NULL DEFAULT 0,
+    approved_count  BIGINT NOT NULL DEFAULT 0,
+    rejected_count  BIGINT NOT NULL DEFAULT 0,
+    canceled_count  BIGINT NOT NULL DEFAULT 0,
+    refresh_at      TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_item_booking_summary PRIMARY KEY (item_id),
+    CONSTRAINT fk_item_booking_summary_to_items FOREIGN KEY (item_id) REFERENCES items (item_id),
+    CONSTRAINT fk_item_booking_summary_to_last_bookings FOREIGN KEY (last_booking_id) REFERENCES bookings (booking_id),
+    CONSTRAINT fk_item_booking_summary_to_next_bookings FOREIGN KEY (next_booking_id) REFERENCES bookings (booking_id)
+);
+
+CREATE INDEX ix_item_booking_summary_refresh_at ON item_booking_summary (refresh_at);
+
+-- last and next bookings of existing items are computed by the first scheduled refresh
+INSERT INTO item_booking_summary (item_id, waiting_count, approved_count, rejected_count, canceled_count, refresh_at)
+SELECT i.item_id,
+       (SELECT COUNT(*) FROM bookings AS b WHERE b.item_id = i.item_id AND b.status = 'WAITING'),
+       (SELECT COUNT(*) FROM bookings AS b WHERE b.item_id = i.item_id AND b.status = 'APPROVED'),
+       (SELECT COUNT(*) FROM bookings AS b WHERE b.item_id = i.item_id AND b.status = 'REJECTED'),
+       (SELECT COUNT(*) FROM bookings AS b WHERE b.item_id = i.item_id AND b.status = 'CANCELED'),
+       CASE
+           WHEN EXISTS(SELECT 1 FROM bookings AS b WHERE b.item_id = i.item_id AND b.status <> 'REJECTED')
+               THEN LOCALTIMESTAMP
+           END
+FROM items AS i;
@@ -0,0 +1,19 @@
+-- item requests with the items answering them, kept up to date on request and item writes;
+-- items is a JSON array of the answering items in item id order
+CREATE TABLE request_feed
+(
+    request_id   BIGINT                      NOT NULL,
+    requestor_id BIGINT,
+    description  VARCHAR(512)                NOT NULL,
+    created_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    items        VARCHAR                     NOT NULL DEFAULT '[]',
+    CONSTRAINT pk_request_feed PRIMARY KEY (request_id),
+    CONSTRAINT fk_request_feed_to_requests FOREIGN KEY (request_id) REFERENCES requests (request_id)
+);
+
+CREATE INDEX ix_request_feed_created ON request_feed (created_date, request_id);
+
+-- answering items of existing requests are filled in by the vendor specific migration
+INSERT INTO request_feed (request_id, requestor_id, description, created_date)
+SELECT r.request_id, r.requestor_id, r.description, r.created_date
+FROM requests AS r;
@@ -0,0 +1,8 @@
+-- the same fields and order as RequestFeedItemsConverter writes
+UPDATE request_feed AS f
+SET items = (SELECT json_agg(json_build_object('id', i.item_id, 'name', i.name, 'description', i.description,
+                                               'available', i.is_available, 'requestId', i.request_id)
+                             ORDER BY i.item_id)::text
+             FROM items AS i
+             WHERE i.request_id = f.request_id)
+WHERE EXISTS(SELECT 1 FROM items AS i WHERE i.request_id = f.request_id);
@@ -0,0 +1,13 @@
+-- last/next booking of owner items skip rejected bookings
+CREATE INDEX ix_bookings_item_start_not_rejected ON bookings (item_id, start_date) INCLUDE (end_date, booker_id)
+    WHERE status <> 'REJECTED';
+
+-- booking interval index is loaded from unfinished WAITING and APPROVED bookings
+CREATE INDEX ix_bookings_end_active ON bookings (end_date) INCLUDE (item_id, start_date)
+    WHERE status IN ('WAITING', 'APPROVED');
+
+-- trigram item search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX ix_items_name_trgm ON items USING GIN (name gin_trgm_ops);
+CREATE INDEX ix_items_description_trgm ON items USING GIN (description gin_trgm_ops);
@@ -0,0 +1,2 @@
+-- continue after the ids generated by the dropped identity column
+SELECT setval('bookings_seq', (SELECT COALESCE(MAX(booking_id), 0) + 1 FROM bookings), false);
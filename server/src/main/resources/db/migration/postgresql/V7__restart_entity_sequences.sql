@@ -0,0 +1,5 @@
+-- continue after the ids generated by the identity columns
+SELECT setval('users_seq', (SELECT COALESCE(MAX(user_id), 0) + 1 FROM users), false);
+SELECT setval('requests_seq', (SELECT COALESCE(MAX(request_id), 0) + 1 FROM requests), false);
+SELECT setval('items_seq', (SELECT COALESCE(MAX(item_id), 0) + 1 FROM items), false);
+SELECT setval('comments_seq', (SELECT COALESCE(MAX(comment_id), 0) + 1 FROM comments), false);
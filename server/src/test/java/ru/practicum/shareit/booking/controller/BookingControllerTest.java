@@ -8,17 +8,29 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingBatchDto;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingStatusBatchDto;
+import ru.practicum.shareit.booking.dto.BookingStatusResultDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.util.export.BookingExportFormat;
 import ru.practicum.shareit.booking.util.mapper.BookingMapper;
+import ru.practicum.shareit.exception.ErrorResponse;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.util.CursorPage;
+import ru.practicum.shareit.util.PageCursor;
+import ru.practicum.shareit.util.TotalCount;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -27,9 +39,14 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -115,6 +132,35 @@ public class BookingControllerTest {
                 .createBooking(any(Booking.class), anyLong(), anyLong());
     }
 
+    @Test
+    @SneakyThrows
+    @DisplayName("createBookings_whenInvoked_thenPerEntryResultsReturned")
+    void createBookings_whenInvoked_thenPerEntryResultsReturned() {
+        BookingDto bookingDtoSaved = bookingDto1.toBuilder().id(1L).build();
+        BookingBatchDto bookingBatchDto = BookingBatchDto.builder().bookings(List.of(bookingDto1, bookingDto2)).build();
+        when(bookingService.createBookings(anyList(), anyLong())).thenReturn(List.of(
+                BookingBatchResultDto.created(0, bookingDtoSaved),
+                BookingBatchResultDto.failed(1, HttpStatus.BAD_REQUEST, new ErrorResponse(
+                        "This item is already booked", "Item with id = 1 can not be booked"))));
+
+        mockMvc.perform(post("/bookings/batch")
+                        .content(objectMapper.writeValueAsString(bookingBatchDto))
+                        .header(userHeader, 2L)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[0].index", is(0)))
+                .andExpect(jsonPath("$[0].status", is(201)))
+                .andExpect(jsonPath("$[0].booking.id", is(bookingDtoSaved.getId()), Long.class))
+                .andExpect(jsonPath("$[1].index", is(1)))
+                .andExpect(jsonPath("$[1].status", is(400)))
+                .andExpect(jsonPath("$[1].error.errorMessage", is("Item with id = 1 can not be booked")));
+
+        verify(bookingService, times(1)).createBookings(argThat(bookingDtos -> bookingDtos.size() == 2), eq(2L));
+    }
+
     @Test
     @SneakyThrows
     @DisplayName("changeBookingStatus_whenInvoked_thenBookingDtoWithChangedStatusReturned")
@@ -145,6 +191,34 @@ public class BookingControllerTest {
                 .changeBookingStatus(anyLong(), anyBoolean(), anyLong());
     }
 
+    @Test
+    @SneakyThrows
+    @DisplayName("changeBookingStatuses_whenInvoked_thenPerBookingOutcomesReturned")
+    void changeBookingStatuses_whenInvoked_thenPerBookingOutcomesReturned() {
+        BookingStatusBatchDto bookingStatusBatchDto = BookingStatusBatchDto.builder().bookingIds(List.of(1L, 2L))
+                .build();
+        when(bookingService.changeBookingStatuses(anyList(), any(), anyBoolean(), anyLong())).thenReturn(List.of(
+                BookingStatusResultDto.changed(1L, BookingStatus.APPROVED),
+                BookingStatusResultDto.failed(2L, HttpStatus.NOT_FOUND, new ErrorResponse(
+                        "Object not found", "Booking with id = 2 not found"))));
+
+        mockMvc.perform(patch("/bookings/batch")
+                        .param("approved", Boolean.TRUE.toString())
+                        .content(objectMapper.writeValueAsString(bookingStatusBatchDto))
+                        .header(userHeader, 1L)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[0].bookingId", is(1L), Long.class))
+                .andExpect(jsonPath("$[0].bookingStatus", is(BookingStatus.APPROVED.toString())))
+                .andExpect(jsonPath("$[1].bookingId", is(2L), Long.class))
+                .andExpect(jsonPath("$[1].status", is(404)));
+
+        verify(bookingService, times(1)).changeBookingStatuses(List.of(1L, 2L), null, Boolean.TRUE, 1L);
+    }
+
     @Test
     @SneakyThrows
     @DisplayName("getBookingById_whenInvoked_thenBookingDtoReturned")
@@ -217,6 +291,43 @@ public class BookingControllerTest {
                 .getAllUserBookingsByStatus(any(BookingStatus.class), anyLong(), anyInt(), anyInt());
     }
 
+    @Test
+    @SneakyThrows
+    @DisplayName("getAllUserBookingsByStatus_whenTotalRequested_thenTotalCountHeaderReturned")
+    void getAllUserBookingsByStatus_whenTotalRequested_thenTotalCountHeaderReturned() {
+        bookingDto1.setId(1L);
+        when(bookingService.getAllUserBookingsByStatus(any(BookingStatus.class), anyLong(), anyInt(), anyInt()))
+                .thenReturn(List.of(bookingDto1));
+        when(bookingService.countUserBookingsByStatus(any(BookingStatus.class), anyLong())).thenReturn(11L);
+
+        mockMvc.perform(get("/bookings")
+                        .param("state", BookingStatus.WAITING.toString())
+                        .param("total", "true")
+                        .header(userHeader, 1L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TotalCount.TOTAL_COUNT_HEADER, "11"))
+                .andExpect(jsonPath("$[0].id", is(bookingDto1.getId()), Long.class));
+
+        verify(bookingService, times(1)).countUserBookingsByStatus(BookingStatus.WAITING, 1L);
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("getAllUserBookingsByStatus_whenTotalNotRequested_thenNothingCounted")
+    void getAllUserBookingsByStatus_whenTotalNotRequested_thenNothingCounted() {
+        when(bookingService.getAllUserBookingsByStatus(any(BookingStatus.class), anyLong(), anyInt(), anyInt()))
+                .thenReturn(List.of());
+
+        mockMvc.perform(get("/bookings")
+                        .header(userHeader, 1L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(TotalCount.TOTAL_COUNT_HEADER));
+
+        verify(bookingService, never()).countUserBookingsByStatus(any(BookingStatus.class), anyLong());
+    }
+
     @Test
     @SneakyThrows
     @DisplayName("getAllOwnerItemsBookingsByStatus_whenInvoked_thenListOfBookingDtosReturned")
@@ -278,4 +389,62 @@ public class BookingControllerTest {
         verify(bookingService, never())
                 .getAllOwnerItemsBookingsByStatus(any(BookingStatus.class), anyLong(), anyInt(), anyInt());
     }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("getAllUserBookingsByStatusAfter_whenNextPageExists_thenNextCursorHeaderReturned")
+    void getAllUserBookingsByStatusAfter_whenNextPageExists_thenNextCursorHeaderReturned() {
+        bookingDto1.setId(1L);
+        String nextCursor = PageCursor.encode(bookingDto1.getStart(), bookingDto1.getId());
+        when(bookingService.getAllUserBookingsByStatusAfter(any(BookingStatus.class), anyLong(), anyString(), anyInt()))
+                .thenReturn(new CursorPage<>(List.of(bookingDto1), nextCursor));
+
+        mockMvc.perform(get("/bookings")
+                        .param("state", BookingStatus.ALL.toString())
+                        .param("cursor", "")
+                        .param("size", "1")
+                        .header(userHeader, 2L)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PageCursor.NEXT_CURSOR_HEADER, nextCursor))
+                .andExpect(jsonPath("$[0].id", is(bookingDto1.getId()), Long.class));
+
+        verify(bookingService, never())
+                .getAllUserBookingsByStatus(any(BookingStatus.class), anyLong(), anyInt(), anyInt());
+        verify(bookingService, times(1))
+                .getAllUserBookingsByStatusAfter(any(BookingStatus.class), anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("exportUserBookings_whenCsv_thenBodyStreamedAsCsv")
+    void exportUserBookings_whenCsv_thenBodyStreamedAsCsv() {
+        StreamingResponseBody body = outputStream -> outputStream.write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+        when(bookingService.exportUserBookings(anyLong(), any(BookingExportFormat.class))).thenReturn(body);
+
+        MvcResult mvcResult = mockMvc.perform(get("/bookings/export")
+                        .param("format", "csv")
+                        .header(userHeader, 2L))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(content().string("id\r\n1\r\n"));
+        verify(bookingService, times(1)).exportUserBookings(2L, BookingExportFormat.CSV);
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("exportOwnerItemsBookings_whenUnknownFormat_thenBadRequestReturned")
+    void exportOwnerItemsBookings_whenUnknownFormat_thenBadRequestReturned() {
+        mockMvc.perform(get("/bookings/owner/export")
+                        .param("format", "xml")
+                        .header(userHeader, 1L))
+                .andExpect(status().isBadRequest());
+
+        verify(bookingService, never()).exportOwnerItemsBookings(anyLong(), any(BookingExportFormat.class));
+    }
 }
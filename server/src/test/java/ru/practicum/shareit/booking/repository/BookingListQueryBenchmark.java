@@ -0,0 +1,120 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingListRow;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.util.mapper.BookingMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * One page of an owner's bookings read as entities with their booker and item fetched (the former entity graph)
+ * versus as {@link BookingListRow} constructor-expression rows, both mapped to {@link BookingDto}.
+ * Run with {@code -prof gc} to compare the allocated bytes per page ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingListQueryBenchmark {
+    private static final int ITEMS = 20;
+    private static final int BOOKINGS_PER_ITEM = 10;
+    private static final String ENTITY_QUERY = "SELECT b FROM Booking AS b " +
+            "JOIN FETCH b.booker JOIN FETCH b.item AS i " +
+            "WHERE i.owner.id = :ownerId ORDER BY b.start DESC";
+    private static final String ROW_QUERY = BookingRepository.LIST_ROW_SELECT +
+            "WHERE i.owner.id = :ownerId ORDER BY b.start DESC";
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private BookingMapper bookingMapper;
+    private Long ownerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:booking-list-query-benchmark",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--logging.level.ru.practicum.shareit=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        bookingMapper = context.getBean(BookingMapper.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ItemRepository itemRepository = context.getBean(ItemRepository.class);
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+        User owner = userRepository.save(User.builder().name("owner").email("owner@benchmark.com").build());
+        User booker = userRepository.save(User.builder().name("booker").email("booker@benchmark.com").build());
+        ownerId = owner.getId();
+        LocalDateTime start = LocalDateTime.now().minusDays(BOOKINGS_PER_ITEM);
+        List<Booking> bookings = new ArrayList<>(ITEMS * BOOKINGS_PER_ITEM);
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = itemRepository.save(Item.builder().name("item" + i).description("description" + i)
+                    .available(Boolean.TRUE).owner(owner).build());
+            for (int j = 0; j < BOOKINGS_PER_ITEM; j++) {
+                bookings.add(Booking.builder().status(BookingStatus.APPROVED)
+                        .start(start.plusDays(j).plusMinutes(i)).end(start.plusDays(j).plusHours(1))
+                        .booker(booker).item(item).build());
+            }
+        }
+        bookingRepository.saveAll(bookings);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingDto> entities() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(ENTITY_QUERY, Booking.class)
+                    .setParameter("ownerId", ownerId)
+                    .setMaxResults(size)
+                    .getResultStream()
+                    .map(bookingMapper::bookingToBookingDto)
+                    .collect(Collectors.toList());
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<BookingDto> rows() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(ROW_QUERY, BookingListRow.class)
+                    .setParameter("ownerId", ownerId)
+                    .setMaxResults(size)
+                    .getResultStream()
+                    .map(bookingMapper::bookingListRowToBookingDto)
+                    .collect(Collectors.toList());
+        } finally {
+            entityManager.close();
+        }
+    }
+}
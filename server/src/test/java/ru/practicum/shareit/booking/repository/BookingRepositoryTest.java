@@ -0,0 +1,232 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.dto.BookingListRow;
+import ru.practicum.shareit.booking.dto.BookingStatusView;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.ShareItPageRequest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class BookingRepositoryTest {
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+    User owner;
+    User booker;
+    Item item1;
+    Item item2;
+    Item item3;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("owner").email("owner@post.com").build());
+        booker = userRepository.save(User.builder().name("booker").email("booker@post.com").build());
+        item1 = itemRepository.save(Item.builder().name("item1").description("itemDescription1")
+                .available(Boolean.TRUE).owner(owner).build());
+        item2 = itemRepository.save(Item.builder().name("item2").description("itemDescription2")
+                .available(Boolean.TRUE).owner(owner).build());
+        item3 = itemRepository.save(Item.builder().name("item3").description("itemDescription3")
+                .available(Boolean.TRUE).owner(owner).build());
+    }
+
+    @AfterEach
+    void clearDatabase() {
+        bookingRepository.deleteAll();
+        itemRepository.deleteAll();
+        itemRequestRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findLastAndNextBookingsForItems_whenInvoked_thenOneLastAndOneNextBookingForEachItemReturned")
+    void findLastAndNextBookingsForItems_whenInvoked_thenOneLastAndOneNextBookingForEachItemReturned() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        save(item1, now.minusDays(10), now.minusDays(9), BookingStatus.APPROVED);
+        Booking lastBooking1 = save(item1, now.minusDays(5), now.minusDays(4), BookingStatus.APPROVED);
+        save(item1, now.minusDays(3), now.minusDays(2), BookingStatus.REJECTED);
+        Booking nextBooking1 = save(item1, now.plusDays(2), now.plusDays(3), BookingStatus.WAITING);
+        save(item1, now.plusDays(5), now.plusDays(6), BookingStatus.APPROVED);
+        Booking lastBooking2 = save(item2, now.minusDays(1), now.plusDays(1), BookingStatus.APPROVED);
+        save(item3, now.minusDays(1), now.plusDays(1), BookingStatus.APPROVED);
+
+        List<ItemBookingView> bookings = bookingRepository.findLastAndNextBookingsForItems(
+                List.of(item1.getId(), item2.getId()), now);
+
+        assertEquals(3, bookings.size());
+        Map<Long, ItemBookingView> bookingsById = bookings.stream()
+                .collect(Collectors.toMap(ItemBookingView::getId, Function.identity()));
+        ItemBookingView last1 = bookingsById.get(lastBooking1.getId());
+        assertNotNull(last1);
+        assertTrue(last1.getLast());
+        assertEquals(item1.getId(), last1.getItemId());
+        assertEquals(booker.getId(), last1.getBookerId());
+        assertEquals(BookingStatus.APPROVED, last1.getStatus());
+        assertEquals(lastBooking1.getStart(), last1.getStart());
+        assertEquals(lastBooking1.getEnd(), last1.getEnd());
+        ItemBookingView next1 = bookingsById.get(nextBooking1.getId());
+        assertNotNull(next1);
+        assertFalse(next1.getLast());
+        assertEquals(BookingStatus.WAITING, next1.getStatus());
+        assertTrue(bookingsById.get(lastBooking2.getId()).getLast());
+    }
+
+    @Test
+    @DisplayName("updateStatusOfWaitingBookings_whenInvoked_thenOnlyWaitingBookingsUpdated")
+    void updateStatusOfWaitingBookings_whenInvoked_thenOnlyWaitingBookingsUpdated() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Booking waitingBooking = save(item1, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        Booking approvedBooking = save(item1, now.plusDays(3), now.plusDays(4), BookingStatus.APPROVED);
+        Booking otherBooking = save(item2, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+
+        int updated = bookingRepository.updateStatusOfWaitingBookings(
+                List.of(waitingBooking.getId(), approvedBooking.getId()), BookingStatus.REJECTED);
+
+        assertEquals(1, updated);
+        assertEquals(BookingStatus.REJECTED, bookingRepository.findById(waitingBooking.getId()).orElseThrow()
+                .getStatus());
+        assertEquals(BookingStatus.APPROVED, bookingRepository.findById(approvedBooking.getId()).orElseThrow()
+                .getStatus());
+        assertEquals(BookingStatus.WAITING, bookingRepository.findById(otherBooking.getId()).orElseThrow()
+                .getStatus());
+    }
+
+    @Test
+    @DisplayName("findAllStatusViewsByItemIdAndStatus_whenInvoked_thenWaitingBookingsOfItemWithOwnerReturned")
+    void findAllStatusViewsByItemIdAndStatus_whenInvoked_thenWaitingBookingsOfItemWithOwnerReturned() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Booking waitingBooking = save(item1, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        save(item1, now.plusDays(3), now.plusDays(4), BookingStatus.APPROVED);
+        save(item2, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+
+        List<BookingStatusView> bookings = bookingRepository.findAllStatusViewsByItemIdAndStatus(item1.getId(),
+                BookingStatus.WAITING);
+
+        assertEquals(1, bookings.size());
+        assertEquals(waitingBooking.getId(), bookings.get(0).getId());
+        assertEquals(item1.getId(), bookings.get(0).getItemId());
+        assertEquals(owner.getId(), bookings.get(0).getOwnerId());
+        assertEquals(waitingBooking.getStart(), bookings.get(0).getStart());
+    }
+
+    @Test
+    @DisplayName("findAllRowsByItemOwnerId_whenInvoked_thenSliceOfRowsWithBookerAndItemColumnsReturned")
+    void findAllRowsByItemOwnerId_whenInvoked_thenSliceOfRowsWithBookerAndItemColumnsReturned() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        ItemRequest itemRequest = itemRequestRepository.save(ItemRequest.builder().description("request")
+                .requestor(booker).build());
+        item2.setItemRequest(itemRequest);
+        itemRepository.save(item2);
+        save(item1, now.minusDays(5), now.minusDays(4), BookingStatus.APPROVED);
+        Booking booking2 = save(item2, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        Booking booking3 = save(item1, now.plusDays(3), now.plusDays(4), BookingStatus.REJECTED);
+
+        Slice<BookingListRow> rows = bookingRepository.findAllRowsByItemOwnerId(owner.getId(),
+                new ShareItPageRequest(0, 2, Sort.by("start").descending()));
+
+        assertTrue(rows.hasNext());
+        assertEquals(2, rows.getContent().size());
+        BookingListRow first = rows.getContent().get(0);
+        assertEquals(booking3.getId(), first.getId());
+        assertEquals(BookingStatus.REJECTED, first.getStatus());
+        assertEquals(booking3.getStart(), first.getStart());
+        assertEquals(booking3.getEnd(), first.getEnd());
+        assertEquals(booker.getId(), first.getBookerId());
+        assertEquals(booker.getName(), first.getBookerName());
+        assertEquals(booker.getEmail(), first.getBookerEmail());
+        assertEquals(item1.getId(), first.getItemId());
+        assertEquals(item1.getName(), first.getItemName());
+        assertEquals(item1.getDescription(), first.getItemDescription());
+        assertEquals(item1.getAvailable(), first.getItemAvailable());
+        assertNull(first.getItemRequestId());
+        BookingListRow second = rows.getContent().get(1);
+        assertEquals(booking2.getId(), second.getId());
+        assertEquals(itemRequest.getId(), second.getItemRequestId());
+    }
+
+    @Test
+    @DisplayName("findAllCurrentRowsByBookerId_whenInvoked_thenOnlyCurrentBookingsOfBookerReturned")
+    void findAllCurrentRowsByBookerId_whenInvoked_thenOnlyCurrentBookingsOfBookerReturned() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Booking currentBooking = save(item1, now.minusDays(1), now.plusDays(1), BookingStatus.APPROVED);
+        save(item2, now.minusDays(5), now.minusDays(4), BookingStatus.APPROVED);
+        save(item3, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        bookingRepository.save(Booking.builder().item(item2).booker(owner).start(now.minusDays(1))
+                .end(now.plusDays(1)).status(BookingStatus.APPROVED).build());
+
+        Slice<BookingListRow> rows = bookingRepository.findAllCurrentRowsByBookerId(booker.getId(), now,
+                new ShareItPageRequest(0, 10, Sort.by("start").descending()));
+
+        assertFalse(rows.hasNext());
+        assertEquals(1, rows.getContent().size());
+        assertEquals(currentBooking.getId(), rows.getContent().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("findAllPastRowsByItemOwnerId_whenNowIsPassed_thenBookingsEndedBeforeNowReturned")
+    void findAllPastRowsByItemOwnerId_whenNowIsPassed_thenBookingsEndedBeforeNowReturned() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Booking pastBooking = save(item1, now.minusDays(5), now.minusDays(4), BookingStatus.APPROVED);
+        Booking endingBooking = save(item2, now.minusDays(1), now.plusHours(1), BookingStatus.APPROVED);
+        ShareItPageRequest pageRequest = new ShareItPageRequest(0, 10, Sort.by("start").descending());
+
+        Slice<BookingListRow> rowsNow = bookingRepository.findAllPastRowsByItemOwnerId(owner.getId(), now,
+                pageRequest);
+        Slice<BookingListRow> rowsLater = bookingRepository.findAllPastRowsByItemOwnerId(owner.getId(),
+                now.plusHours(2), pageRequest);
+
+        assertEquals(List.of(pastBooking.getId()), rowsNow.getContent().stream()
+                .map(BookingListRow::getId)
+                .collect(Collectors.toList()));
+        assertEquals(List.of(endingBooking.getId(), pastBooking.getId()), rowsLater.getContent().stream()
+                .map(BookingListRow::getId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("countAllByItemOwnerIdAndStatus_whenInvoked_thenOnlyBookingsOfOwnerWithStatusCounted")
+    void countAllByItemOwnerIdAndStatus_whenInvoked_thenOnlyBookingsOfOwnerWithStatusCounted() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        save(item1, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        save(item2, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        save(item3, now.plusDays(3), now.plusDays(4), BookingStatus.APPROVED);
+
+        assertEquals(2, bookingRepository.countAllByItemOwnerIdAndStatus(owner.getId(), BookingStatus.WAITING));
+        assertEquals(3, bookingRepository.countAllByItemOwnerId(owner.getId()));
+        assertEquals(3, bookingRepository.countAllFutureByBookerId(booker.getId(), now));
+        assertEquals(0, bookingRepository.countAllByItemOwnerId(booker.getId()));
+    }
+
+    private Booking save(Item item, LocalDateTime start, LocalDateTime end, BookingStatus status) {
+        return bookingRepository.save(Booking.builder().item(item).booker(booker).start(start).end(end)
+                .status(status).build());
+    }
+}
@@ -0,0 +1,122 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class ItemBookingSummaryRepositoryTest {
+    @Autowired
+    private ItemBookingSummaryRepository itemBookingSummaryRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    User owner;
+    User booker;
+    Item item1;
+    Item item2;
+    Item item3;
+    LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("owner").email("owner@post.com").build());
+        booker = userRepository.save(User.builder().name("booker").email("booker@post.com").build());
+        item1 = saveItem("item1");
+        item2 = saveItem("item2");
+        item3 = saveItem("item3");
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @AfterEach
+    void clearDatabase() {
+        itemBookingSummaryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findLastAndNextBookings_whenInvoked_thenBookingsOfItemsWithUpToDateSummariesReturned")
+    void findLastAndNextBookings_whenInvoked_thenBookingsOfItemsWithUpToDateSummariesReturned() {
+        Booking lastBooking = saveBooking(item1, now.minusDays(2), now.minusDays(1));
+        Booking nextBooking = saveBooking(item1, now.plusDays(1), now.plusDays(2));
+        Booking startedBooking = saveBooking(item3, now.minusHours(1), now.plusDays(1));
+        Item item4 = saveItem("item4");
+        Booking onlyNextBooking = saveBooking(item4, now.plusDays(3), now.plusDays(4));
+        itemBookingSummaryRepository.saveAll(List.of(
+                ItemBookingSummary.builder().itemId(item4.getId()).nextBookingId(onlyNextBooking.getId())
+                        .waitingCount(1).refreshAt(onlyNextBooking.getStart()).build(),
+                ItemBookingSummary.builder().itemId(item1.getId()).lastBookingId(lastBooking.getId())
+                        .nextBookingId(nextBooking.getId()).waitingCount(2).refreshAt(nextBooking.getStart()).build(),
+                ItemBookingSummary.builder().itemId(item2.getId()).build(),
+                ItemBookingSummary.builder().itemId(item3.getId()).nextBookingId(startedBooking.getId())
+                        .waitingCount(1).refreshAt(startedBooking.getStart()).build()));
+
+        List<ItemBookingView> bookings = itemBookingSummaryRepository.findLastAndNextBookings(
+                List.of(item1.getId(), item2.getId(), item3.getId(), item4.getId()), now);
+
+        assertEquals(4, bookings.size());
+        Map<Long, List<ItemBookingView>> bookingsByItem = bookings.stream()
+                .collect(Collectors.groupingBy(ItemBookingView::getItemId));
+        Map<Long, ItemBookingView> item1Bookings = bookingsByItem.get(item1.getId()).stream()
+                .collect(Collectors.toMap(ItemBookingView::getId, Function.identity()));
+        assertTrue(item1Bookings.get(lastBooking.getId()).getLast());
+        assertFalse(item1Bookings.get(nextBooking.getId()).getLast());
+        assertEquals(booker.getId(), item1Bookings.get(nextBooking.getId()).getBookerId());
+        assertEquals(nextBooking.getStart(), item1Bookings.get(nextBooking.getId()).getStart());
+        assertEquals(1, bookingsByItem.get(item2.getId()).size());
+        assertNull(bookingsByItem.get(item2.getId()).get(0).getId());
+        assertFalse(bookingsByItem.containsKey(item3.getId()));
+        assertEquals(onlyNextBooking.getId(), bookingsByItem.get(item4.getId()).get(0).getId());
+        assertFalse(bookingsByItem.get(item4.getId()).get(0).getLast());
+    }
+
+    @Test
+    @DisplayName("findItemIdsToRefresh_whenInvoked_thenItemsWithStartedNextBookingReturned")
+    void findItemIdsToRefresh_whenInvoked_thenItemsWithStartedNextBookingReturned() {
+        itemBookingSummaryRepository.saveAll(List.of(
+                ItemBookingSummary.builder().itemId(item1.getId()).refreshAt(now.plusDays(1)).build(),
+                ItemBookingSummary.builder().itemId(item2.getId()).build(),
+                ItemBookingSummary.builder().itemId(item3.getId()).refreshAt(now.minusMinutes(1)).build()));
+
+        assertEquals(List.of(item3.getId()), itemBookingSummaryRepository.findItemIdsToRefresh(now,
+                PageRequest.ofSize(10)));
+        assertEquals(List.of(item3.getId(), item1.getId()), itemBookingSummaryRepository.findItemIdsToRefresh(
+                now.plusDays(1), PageRequest.ofSize(10)));
+    }
+
+    private Item saveItem(String name) {
+        return itemRepository.save(Item.builder().name(name).description(name + "Description")
+                .available(Boolean.TRUE).owner(owner).build());
+    }
+
+    private Booking saveBooking(Item item, LocalDateTime start, LocalDateTime end) {
+        return bookingRepository.save(Booking.builder().item(item).booker(booker).start(start).end(end)
+                .status(BookingStatus.WAITING).build());
+    }
+}
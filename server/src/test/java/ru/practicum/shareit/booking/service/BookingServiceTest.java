@@ -6,31 +6,59 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.cache.Cache;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingListRow;
+import ru.practicum.shareit.booking.dto.BookingStatusResultDto;
+import ru.practicum.shareit.booking.dto.BookingStatusView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.util.cache.BookingListCache;
+import ru.practicum.shareit.booking.util.event.BookingEventBus;
+import ru.practicum.shareit.booking.util.export.BookingExporter;
+import ru.practicum.shareit.booking.util.index.BookingIntervalIndex;
 import ru.practicum.shareit.booking.util.mapper.BookingMapper;
+import ru.practicum.shareit.booking.util.summary.ItemBookingSummaryUpdater;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.outbox.service.OutboxWriter;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
-
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+import ru.practicum.shareit.util.BucketedClock;
+import ru.practicum.shareit.util.CursorPage;
+import ru.practicum.shareit.util.PageCursor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,9 +68,26 @@ public class BookingServiceTest {
     @Mock
     UserRepository userRepository;
     @Mock
+    UserExistenceChecker userExistenceChecker;
+    @Mock
     ItemRepository itemRepository;
     @Mock
     BookingMapper bookingMapper;
+    @Mock
+    BookingIntervalIndex bookingIntervalIndex;
+    @Mock
+    ItemBookingSummaryUpdater itemBookingSummaryUpdater;
+    @Mock
+    BookingEventBus bookingEventBus;
+    @Mock
+    OutboxWriter outboxWriter;
+    @Mock
+    BookingExporter bookingExporter;
+    @Spy
+    BookingListCache bookingListCache = new BookingListCache((Cache) null);
+    @Spy
+    BucketedClock bucketedClock = new BucketedClock(Clock.fixed(Instant.parse("2025-01-15T10:15:30.500Z"),
+            ZoneOffset.UTC), Duration.ofSeconds(1));
     @InjectMocks
     BookingServiceImpl bookingService;
     User user1;
@@ -92,7 +137,11 @@ public class BookingServiceTest {
         BookingDto bookingDtoCheck = bookingDto1.toBuilder().build();
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
+        when(bookingIntervalIndex.isFree(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
         when(bookingRepository.save(any(Booking.class))).thenReturn(booking1);
+        when(bookingIntervalIndex.tryAdd(anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
         when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenReturn(bookingDto1);
 
         BookingDto bookingDto = bookingService.createBooking(bookingToCreate, user2.getId(), item1.getId());
@@ -102,9 +151,52 @@ public class BookingServiceTest {
         verify(userRepository, times(1)).findById(anyLong());
         verify(itemRepository, times(1)).findById(anyLong());
         verify(bookingRepository, times(1)).save(any(Booking.class));
+        verify(bookingIntervalIndex, times(1)).tryAdd(item1.getId(), booking1.getId(), booking1.getStart(),
+                booking1.getEnd());
         verify(bookingMapper, times(1)).bookingToBookingDto(any(Booking.class));
     }
 
+    @Test
+    @DisplayName("createBooking_whenPeriodOverlapsExistingBooking_thenAlreadyBookedExceptionThrown")
+    void createBooking_whenPeriodOverlapsExistingBooking_thenAlreadyBookedExceptionThrown() {
+        Booking bookingToCreate = booking1.toBuilder().id(null).build();
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
+        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
+        when(bookingIntervalIndex.isFree(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(false);
+
+        AlreadyBookedException exception = assertThrows(AlreadyBookedException.class, () ->
+                bookingService.createBooking(bookingToCreate, user2.getId(), item1.getId()));
+
+        assertEquals("Item with id = 1 is already booked from 2025-01-01T00:00 to 2025-02-01T00:00",
+                exception.getMessage());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(bookingIntervalIndex, never()).tryAdd(anyLong(), anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class));
+        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+    }
+
+    @Test
+    @DisplayName("createBooking_whenPeriodBookedConcurrently_thenAlreadyBookedExceptionThrown")
+    void createBooking_whenPeriodBookedConcurrently_thenAlreadyBookedExceptionThrown() {
+        Booking bookingToCreate = booking1.toBuilder().id(null).build();
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
+        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
+        when(bookingIntervalIndex.isFree(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+        when(bookingRepository.save(any(Booking.class))).thenReturn(booking1);
+        when(bookingIntervalIndex.tryAdd(anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(false);
+
+        AlreadyBookedException exception = assertThrows(AlreadyBookedException.class, () ->
+                bookingService.createBooking(bookingToCreate, user2.getId(), item1.getId()));
+
+        assertEquals("Item with id = 1 is already booked from 2025-01-01T00:00 to 2025-02-01T00:00",
+                exception.getMessage());
+        verify(bookingRepository, times(1)).save(any(Booking.class));
+        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+    }
+
     @Test
     @DisplayName("createBooking_whenItemNotAvailable_thenAlreadyBookedExceptionThrown")
     void createBooking_whenItemNotAvailable_thenAlreadyBookedExceptionThrown() {
@@ -211,6 +303,105 @@ public class BookingServiceTest {
         verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
     }
 
+    @Test
+    @DisplayName("createBookings_whenAllEntriesValid_thenBookingsSavedInOneCallAndCreatedResultsReturned")
+    void createBookings_whenAllEntriesValid_thenBookingsSavedInOneCallAndCreatedResultsReturned() {
+        List<BookingDto> bookingDtos = List.of(
+                BookingDto.builder().itemId(item1.getId()).start(booking1.getStart()).end(booking1.getEnd()).build(),
+                BookingDto.builder().itemId(item1.getId()).start(booking2.getStart()).end(booking2.getEnd()).build());
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
+        when(itemRepository.findAllById(anyCollection())).thenReturn(List.of(item1));
+        mockBatchMapping();
+        when(bookingIntervalIndex.isFree(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+        mockBatchSaving();
+        when(bookingIntervalIndex.tryAdd(anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenReturn(bookingDto1, bookingDto2);
+
+        List<BookingBatchResultDto> results = bookingService.createBookings(bookingDtos, user2.getId());
+
+        assertEquals(List.of(BookingBatchResultDto.created(0, bookingDto1),
+                BookingBatchResultDto.created(1, bookingDto2)), results);
+        verify(itemRepository, times(1)).findAllById(Set.of(item1.getId()));
+        verify(itemRepository, never()).findById(anyLong());
+        verify(bookingRepository, times(1)).saveAll(anyList());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(bookingIntervalIndex, times(2)).tryAdd(anyLong(), anyLong(), any(LocalDateTime.class),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("createBookings_whenSomeEntriesInvalid_thenOnlyValidBookingsSavedAndErrorsReturned")
+    void createBookings_whenSomeEntriesInvalid_thenOnlyValidBookingsSavedAndErrorsReturned() {
+        Item ownItem = item2.toBuilder().owner(user2).build();
+        List<BookingDto> bookingDtos = List.of(
+                BookingDto.builder().itemId(item1.getId()).start(booking1.getStart()).end(booking1.getEnd()).build(),
+                BookingDto.builder().itemId(999L).start(booking1.getStart()).end(booking1.getEnd()).build(),
+                BookingDto.builder().itemId(ownItem.getId()).start(booking1.getStart()).end(booking1.getEnd()).build(),
+                BookingDto.builder().itemId(item1.getId()).start(booking1.getStart().plusDays(1))
+                        .end(booking1.getEnd()).build());
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
+        when(itemRepository.findAllById(anyCollection())).thenReturn(List.of(item1, ownItem));
+        mockBatchMapping();
+        when(bookingIntervalIndex.isFree(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+        mockBatchSaving();
+        when(bookingIntervalIndex.tryAdd(anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenReturn(bookingDto1);
+
+        List<BookingBatchResultDto> results = bookingService.createBookings(bookingDtos, user2.getId());
+
+        assertEquals(4, results.size());
+        assertEquals(BookingBatchResultDto.created(0, bookingDto1), results.get(0));
+        assertEquals(404, results.get(1).getStatus());
+        assertEquals("Item with id = 999 not found", results.get(1).getError().getErrorMessage());
+        assertEquals(404, results.get(2).getStatus());
+        assertEquals("User with id = 2 can't book his own item", results.get(2).getError().getErrorMessage());
+        assertEquals(400, results.get(3).getStatus());
+        assertEquals("Item with id = 1 is already booked from 2025-01-02T00:00 to 2025-02-01T00:00",
+                results.get(3).getError().getErrorMessage());
+        verify(bookingRepository, times(1)).saveAll(argThat(bookings -> ((List<Booking>) bookings).size() == 1));
+    }
+
+    @Test
+    @DisplayName("createBookings_whenPeriodBookedConcurrently_thenExceptionThrown")
+    void createBookings_whenPeriodBookedConcurrently_thenExceptionThrown() {
+        List<BookingDto> bookingDtos = List.of(
+                BookingDto.builder().itemId(item1.getId()).start(booking1.getStart()).end(booking1.getEnd()).build(),
+                BookingDto.builder().itemId(item1.getId()).start(booking2.getStart()).end(booking2.getEnd()).build());
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
+        when(itemRepository.findAllById(anyCollection())).thenReturn(List.of(item1));
+        mockBatchMapping();
+        when(bookingIntervalIndex.isFree(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+        mockBatchSaving();
+        when(bookingIntervalIndex.tryAdd(anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true, false);
+
+        AlreadyBookedException exception = assertThrows(AlreadyBookedException.class, () ->
+                bookingService.createBookings(bookingDtos, user2.getId()));
+
+        assertEquals("Item with id = 1 is already booked from 2025-03-01T00:00 to 2025-04-01T00:00",
+                exception.getMessage());
+        verify(bookingIntervalIndex, never()).remove(anyLong(), anyLong(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("createBookings_whenUserNotFound_thenNotFoundExceptionThrown")
+    void createBookings_whenUserNotFound_thenNotFoundExceptionThrown() {
+        List<BookingDto> bookingDtos = List.of(bookingDto1);
+        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () ->
+                bookingService.createBookings(bookingDtos, 999L));
+
+        assertEquals("User with id = 999 not found", exception.getMessage());
+        verify(itemRepository, never()).findAllById(anyCollection());
+        verify(bookingRepository, never()).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("changeBookingStatus_whenOwnerApproved_thenBookingDtoWithChangedBookingStatusReturned")
     void changeBookingStatus_whenOwnerApproved_thenBookingDtoWithChangedBookingStatusReturned() {
@@ -218,7 +409,6 @@ public class BookingServiceTest {
         Booking bookingToSave = booking1.toBuilder().status(BookingStatus.APPROVED).build();
         bookingDto1.setStatus(BookingStatus.APPROVED);
         BookingDto bookingDtoCheck = bookingDto1.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking1));
         when(bookingRepository.save(any(Booking.class))).thenReturn(bookingToSave);
         when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenReturn(bookingDto1);
@@ -227,10 +417,31 @@ public class BookingServiceTest {
 
         assertNotNull(bookingDto);
         assertEquals(bookingDtoCheck, bookingDto);
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1)).findById(anyLong());
+        verify(bookingIntervalIndex, never()).remove(anyLong(), anyLong(), any(LocalDateTime.class));
         verify(bookingRepository, times(1)).save(any(Booking.class));
         verify(bookingMapper, times(1)).bookingToBookingDto(any(Booking.class));
+        verify(itemBookingSummaryUpdater, times(1)).waitingBookingsChanged(
+                Map.of(booking1.getItem().getId(), List.of(booking1.getId())), BookingStatus.APPROVED);
+        verify(bookingListCache, times(1)).invalidate(List.of(user1.getId(), booking1.getBooker().getId()));
+    }
+
+    @Test
+    @DisplayName("getAllUserBookingsByStatus_whenInvokedWithStatusPast_thenBucketedNowPassedToQuery")
+    void getAllUserBookingsByStatus_whenInvokedWithStatusPast_thenBucketedNowPassedToQuery() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 15, 30);
+        when(bookingRepository.findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
+
+        List<BookingDto> bookingDtos = bookingService.getAllUserBookingsByStatus(BookingStatus.PAST, user2.getId(),
+                0, 10);
+
+        assertTrue(bookingDtos.isEmpty());
+        verify(bookingRepository, times(1)).findAllPastRowsByBookerId(eq(user2.getId()), eq(now),
+                any(Pageable.class));
+        verify(bookingListCache, times(1)).getBookerPage(eq(user2.getId()), eq(BookingStatus.PAST), eq(0), eq(10),
+                eq(now), any());
     }
 
     @Test
@@ -240,7 +451,6 @@ public class BookingServiceTest {
         Booking bookingToSave = booking1.toBuilder().status(BookingStatus.REJECTED).build();
         bookingDto1.setStatus(BookingStatus.REJECTED);
         BookingDto bookingDtoCheck = bookingDto1.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking1));
         when(bookingRepository.save(any(Booking.class))).thenReturn(bookingToSave);
         when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenReturn(bookingDto1);
@@ -249,8 +459,9 @@ public class BookingServiceTest {
 
         assertNotNull(bookingDto);
         assertEquals(bookingDtoCheck, bookingDto);
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1)).findById(anyLong());
+        verify(bookingIntervalIndex, times(1)).remove(item1.getId(), booking1.getId(), booking1.getStart());
         verify(bookingRepository, times(1)).save(any(Booking.class));
         verify(bookingMapper, times(1)).bookingToBookingDto(any(Booking.class));
     }
@@ -260,14 +471,13 @@ public class BookingServiceTest {
     void changeBookingStatus_whenIncorrectBookingStatusTrue_thenChangeStatusExceptionThrown() {
         booking1.setStatus(BookingStatus.APPROVED);
         bookingDto1.setStatus(BookingStatus.APPROVED);
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking1));
 
         ChangeStatusException exception = assertThrows(ChangeStatusException.class, () ->
                 bookingService.changeBookingStatus(booking1.getId(), Boolean.TRUE, user1.getId()));
 
         assertEquals("Booking status with id = 1 already approved", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1)).findById(anyLong());
         verify(bookingRepository, never()).save(any(Booking.class));
         verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
@@ -278,14 +488,13 @@ public class BookingServiceTest {
     void changeBookingStatus_whenIncorrectBookingStatusFalse_thenChangeStatusExceptionThrown() {
         booking1.setStatus(BookingStatus.APPROVED);
         bookingDto1.setStatus(BookingStatus.APPROVED);
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking1));
 
         ChangeStatusException exception = assertThrows(ChangeStatusException.class, () ->
                 bookingService.changeBookingStatus(booking1.getId(), Boolean.FALSE, user1.getId()));
 
         assertEquals("Booking status with id = 1 already approved", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1)).findById(anyLong());
         verify(bookingRepository, never()).save(any(Booking.class));
         verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
@@ -296,7 +505,6 @@ public class BookingServiceTest {
     void changeBookingStatus_whenNotOwnerInvoked_thenPermissionExceptionThrown() {
         booking1.setStatus(BookingStatus.WAITING);
         bookingDto1.setStatus(BookingStatus.WAITING);
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking1));
 
         PermissionException exception = assertThrows(PermissionException.class, () ->
@@ -304,7 +512,7 @@ public class BookingServiceTest {
 
         assertEquals("User with id = 2 has no permission to change status of booking with id = 1",
                 exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1)).findById(anyLong());
         verify(bookingRepository, never()).save(any(Booking.class));
         verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
@@ -313,14 +521,13 @@ public class BookingServiceTest {
     @Test
     @DisplayName("changeBookingStatus_whenBookingNotFound_theNotFoundExceptionThrown")
     void changeBookingStatus_whenBookingNotFound_theNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 bookingService.changeBookingStatus(999L, Boolean.TRUE, user2.getId()));
 
         assertEquals("Booking with id = 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1)).findById(anyLong());
         verify(bookingRepository, never()).save(any(Booking.class));
         verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
@@ -329,23 +536,100 @@ public class BookingServiceTest {
     @Test
     @DisplayName("changeBookingStatus_whenUserNotFound_theNotFoundExceptionThrown")
     void changeBookingStatus_whenUserNotFound_theNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("User with id 999 not found"))
+                .when(userExistenceChecker).checkUserExists(anyLong());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 bookingService.changeBookingStatus(booking1.getId(), Boolean.TRUE, 999L));
 
-        assertEquals("User with id = 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        assertEquals("User with id 999 not found", exception.getMessage());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, never()).findById(anyLong());
         verify(bookingRepository, never()).save(any(Booking.class));
         verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
     }
 
+    @Test
+    @DisplayName("changeBookingStatuses_whenBookingIdsGiven_thenWaitingBookingsUpdatedInOneQueryAndOutcomesReturned")
+    void changeBookingStatuses_whenBookingIdsGiven_thenWaitingBookingsUpdatedInOneQueryAndOutcomesReturned() {
+        booking1.setStatus(BookingStatus.WAITING);
+        booking2.setStatus(BookingStatus.APPROVED);
+        Booking foreignBooking = booking1.toBuilder().id(3L).item(item1.toBuilder().owner(user2).build()).build();
+        when(bookingRepository.findAllStatusViewsByIdIn(anyList())).thenReturn(List.of(
+                bookingStatusView(booking1), bookingStatusView(booking2), bookingStatusView(foreignBooking)));
+        when(bookingRepository.updateStatusOfWaitingBookings(anyList(), any(BookingStatus.class))).thenReturn(1);
+
+        List<BookingStatusResultDto> results = bookingService.changeBookingStatuses(List.of(1L, 2L, 3L, 999L, 1L),
+                null, Boolean.FALSE, user1.getId());
+
+        assertEquals(4, results.size());
+        assertEquals(BookingStatusResultDto.changed(1L, BookingStatus.REJECTED), results.get(0));
+        assertEquals(400, results.get(1).getStatus());
+        assertEquals("Booking status with id = 2 already approved", results.get(1).getError().getErrorMessage());
+        assertEquals(404, results.get(2).getStatus());
+        assertEquals("Permission denied", results.get(2).getError().getError());
+        assertEquals(404, results.get(3).getStatus());
+        assertEquals("Booking with id = 999 not found", results.get(3).getError().getErrorMessage());
+        verify(bookingRepository, times(1)).updateStatusOfWaitingBookings(List.of(1L), BookingStatus.REJECTED);
+        verify(bookingIntervalIndex, times(1)).remove(item1.getId(), booking1.getId(), booking1.getStart());
+        verify(bookingRepository, never()).findById(anyLong());
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    @DisplayName("changeBookingStatuses_whenItemIdGiven_thenAllWaitingBookingsOfItemApproved")
+    void changeBookingStatuses_whenItemIdGiven_thenAllWaitingBookingsOfItemApproved() {
+        booking1.setStatus(BookingStatus.WAITING);
+        booking2.setStatus(BookingStatus.WAITING);
+        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
+        when(bookingRepository.findAllStatusViewsByItemIdAndStatus(anyLong(), any(BookingStatus.class)))
+                .thenReturn(List.of(bookingStatusView(booking1), bookingStatusView(booking2)));
+        when(bookingRepository.updateStatusOfWaitingBookings(anyList(), any(BookingStatus.class))).thenReturn(2);
+
+        List<BookingStatusResultDto> results = bookingService.changeBookingStatuses(null, item1.getId(),
+                Boolean.TRUE, user1.getId());
+
+        assertEquals(List.of(BookingStatusResultDto.changed(1L, BookingStatus.APPROVED),
+                BookingStatusResultDto.changed(2L, BookingStatus.APPROVED)), results);
+        verify(bookingRepository, times(1)).findAllStatusViewsByItemIdAndStatus(item1.getId(),
+                BookingStatus.WAITING);
+        verify(bookingRepository, times(1)).updateStatusOfWaitingBookings(List.of(1L, 2L), BookingStatus.APPROVED);
+        verify(bookingIntervalIndex, never()).remove(anyLong(), anyLong(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("changeBookingStatuses_whenItemOfAnotherOwner_thenPermissionExceptionThrown")
+    void changeBookingStatuses_whenItemOfAnotherOwner_thenPermissionExceptionThrown() {
+        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
+
+        PermissionException exception = assertThrows(PermissionException.class, () ->
+                bookingService.changeBookingStatuses(null, item1.getId(), Boolean.TRUE, user2.getId()));
+
+        assertEquals("User with id = 2 has no permission to change status of bookings of item with id = 1",
+                exception.getMessage());
+        verify(bookingRepository, never()).findAllStatusViewsByItemIdAndStatus(anyLong(), any(BookingStatus.class));
+        verify(bookingRepository, never()).updateStatusOfWaitingBookings(anyList(), any(BookingStatus.class));
+    }
+
+    @Test
+    @DisplayName("changeBookingStatuses_whenBookingChangedConcurrently_thenChangeStatusExceptionThrown")
+    void changeBookingStatuses_whenBookingChangedConcurrently_thenChangeStatusExceptionThrown() {
+        booking1.setStatus(BookingStatus.WAITING);
+        booking2.setStatus(BookingStatus.WAITING);
+        when(bookingRepository.findAllStatusViewsByIdIn(anyList()))
+                .thenReturn(List.of(bookingStatusView(booking1), bookingStatusView(booking2)));
+        when(bookingRepository.updateStatusOfWaitingBookings(anyList(), any(BookingStatus.class))).thenReturn(1);
+
+        assertThrows(ChangeStatusException.class, () -> bookingService.changeBookingStatuses(List.of(1L, 2L), null,
+                Boolean.FALSE, user1.getId()));
+
+        verify(bookingIntervalIndex, never()).remove(anyLong(), anyLong(), any(LocalDateTime.class));
+    }
+
     @Test
     @DisplayName("getBookingById_whenInvokedByOwner_thenBookingDtoReturned")
     void getBookingById_whenInvokedByOwner_thenBookingDtoReturned() {
         BookingDto bookingDtoCheck = bookingDto1.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking1));
         when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenReturn(bookingDto1);
 
@@ -353,7 +637,7 @@ public class BookingServiceTest {
 
         assertNotNull(bookingDto);
         assertEquals(bookingDtoCheck, bookingDto);
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1)).findById(anyLong());
         verify(bookingMapper, times(1)).bookingToBookingDto(any(Booking.class));
     }
@@ -362,7 +646,6 @@ public class BookingServiceTest {
     @DisplayName("getBookingById_whenInvokedByBooker_thenBookingDtoReturned")
     void getBookingById_whenInvokedByBooker_thenBookingDtoReturned() {
         BookingDto bookingDtoCheck = bookingDto1.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking1));
         when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenReturn(bookingDto1);
 
@@ -370,7 +653,7 @@ public class BookingServiceTest {
 
         assertNotNull(bookingDto);
         assertEquals(bookingDtoCheck, bookingDto);
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1)).findById(anyLong());
         verify(bookingMapper, times(1)).bookingToBookingDto(any(Booking.class));
     }
@@ -379,7 +662,6 @@ public class BookingServiceTest {
     @DisplayName("getBookingById_whenInvokedBySimpleUser_thenPermissionExceptionThrown")
     void getBookingById_whenInvokedBySimpleUser_thenPermissionExceptionThrown() {
         User user3 = User.builder().id(3L).name("user3").email("user3@post.com").build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user3));
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking1));
 
         PermissionException exception = assertThrows(PermissionException.class, () ->
@@ -387,7 +669,7 @@ public class BookingServiceTest {
 
         assertEquals("User with id = 3 has no permission to see data about booking with id = 1",
                 exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1)).findById(anyLong());
         verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
     }
@@ -395,14 +677,13 @@ public class BookingServiceTest {
     @Test
     @DisplayName("getBookingById_whenBookingNotFound_thenNotFoundExceptionThrown")
     void getBookingById_whenBookingNotFound_thenNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(bookingRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 bookingService.getBookingById(999L, user1.getId()));
 
         assertEquals("Booking with id = 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1)).findById(anyLong());
         verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
     }
@@ -410,13 +691,14 @@ public class BookingServiceTest {
     @Test
     @DisplayName("getBookingById_whenUserNotFound_thenNotFoundExceptionThrown")
     void getBookingById_whenUserNotFound_thenNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("User with id 999 not found"))
+                .when(userExistenceChecker).checkUserExists(anyLong());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 bookingService.getBookingById(booking1.getId(), 999L));
 
-        assertEquals("User with id = 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        assertEquals("User with id 999 not found", exception.getMessage());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, never()).findById(anyLong());
         verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
     }
@@ -455,20 +737,19 @@ public class BookingServiceTest {
         BookingDto bookingDtoCheck3 = bookingDto3.toBuilder().build();
         BookingDto bookingDtoCheck4 = bookingDto4.toBuilder().build();
         BookingDto bookingDtoCheck5 = bookingDto5.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findByBookerId(anyLong(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(bookings));
-        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(bookingRepository.findAllRowsByBookerId(anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+        when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+            BookingListRow booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return bookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return bookingDto2;
-            } else if (Objects.equals(booking, booking3)) {
+            } else if (Objects.equals(booking.getId(), booking3.getId())) {
                 return bookingDto3;
-            } else if (Objects.equals(booking, booking4)) {
+            } else if (Objects.equals(booking.getId(), booking4.getId())) {
                 return bookingDto4;
-            } else if (Objects.equals(booking, booking5)) {
+            } else if (Objects.equals(booking.getId(), booking5.getId())) {
                 return bookingDto5;
             }
             return null;
@@ -485,18 +766,18 @@ public class BookingServiceTest {
         assertEquals(bookingDtoCheck5, bookingDtos.get(2));
         assertEquals(bookingDtoCheck1, bookingDtos.get(3));
         assertEquals(bookingDtoCheck2, bookingDtos.get(4));
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1))
-                .findByBookerId(anyLong(), any(Pageable.class));
+                .findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, times(5)).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, times(5)).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
@@ -521,14 +802,13 @@ public class BookingServiceTest {
         List<Booking> bookings = List.of(booking1, booking2);
         BookingDto bookingDtoCheck1 = bookingDto1.toBuilder().build();
         BookingDto bookingDtoCheck2 = bookingDto2.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(bookings));
-        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(bookingRepository.findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+        when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+            BookingListRow booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return bookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return bookingDto2;
             }
             return null;
@@ -542,17 +822,17 @@ public class BookingServiceTest {
         assertEquals(2, bookingDtos.size());
         assertEquals(bookingDtoCheck1, bookingDtos.get(0));
         assertEquals(bookingDtoCheck2, bookingDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, times(2)).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, times(2)).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
@@ -574,14 +854,13 @@ public class BookingServiceTest {
         List<Booking> bookings = List.of(booking2, booking1);
         BookingDto bookingDtoCheck1 = bookingDto1.toBuilder().build();
         BookingDto bookingDtoCheck2 = bookingDto2.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(bookings));
-        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(bookingRepository.findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+        when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+            BookingListRow booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return bookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return bookingDto2;
             }
             return null;
@@ -595,17 +874,17 @@ public class BookingServiceTest {
         assertEquals(2, bookingDtos.size());
         assertEquals(bookingDtoCheck2, bookingDtos.get(0));
         assertEquals(bookingDtoCheck1, bookingDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, times(2)).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, times(2)).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
@@ -627,14 +906,13 @@ public class BookingServiceTest {
         List<Booking> bookings = List.of(booking2, booking1);
         BookingDto bookingDtoCheck1 = bookingDto1.toBuilder().build();
         BookingDto bookingDtoCheck2 = bookingDto2.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(bookings));
-        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(bookingRepository.findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+        when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+            BookingListRow booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return bookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return bookingDto2;
             }
             return null;
@@ -648,17 +926,17 @@ public class BookingServiceTest {
         assertEquals(2, bookingDtos.size());
         assertEquals(bookingDtoCheck2, bookingDtos.get(0));
         assertEquals(bookingDtoCheck1, bookingDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, times(2)).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, times(2)).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
@@ -681,14 +959,13 @@ public class BookingServiceTest {
         List<Booking> bookings = List.of(booking2, booking1);
         BookingDto bookingDtoCheck1 = bookingDto1.toBuilder().build();
         BookingDto bookingDtoCheck2 = bookingDto2.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
-                any(Pageable.class))).thenReturn(new PageImpl<>(bookings));
-        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(bookingRepository.findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+        when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+            BookingListRow booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return bookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return bookingDto2;
             }
             return null;
@@ -702,17 +979,17 @@ public class BookingServiceTest {
         assertEquals(2, bookingDtos.size());
         assertEquals(bookingDtoCheck2, bookingDtos.get(0));
         assertEquals(bookingDtoCheck1, bookingDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, times(2)).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, times(2)).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
@@ -735,14 +1012,13 @@ public class BookingServiceTest {
         List<Booking> bookings = List.of(booking2, booking1);
         BookingDto bookingDtoCheck1 = bookingDto1.toBuilder().build();
         BookingDto bookingDtoCheck2 = bookingDto2.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
-                any(Pageable.class))).thenReturn(new PageImpl<>(bookings));
-        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(bookingRepository.findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+        when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+            BookingListRow booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return bookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return bookingDto2;
             }
             return null;
@@ -756,17 +1032,17 @@ public class BookingServiceTest {
         assertEquals(2, bookingDtos.size());
         assertEquals(bookingDtoCheck2, bookingDtos.get(0));
         assertEquals(bookingDtoCheck1, bookingDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, times(2)).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, times(2)).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
@@ -785,7 +1061,6 @@ public class BookingServiceTest {
         bookingDto2.setStatus(BookingStatus.CANCELED);
         bookingDto2.setStart(bookingTime.plusDays(4));
         bookingDto2.setEnd(bookingTime.plusDays(5));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
 
         IncorrectDataException exception = assertThrows(IncorrectDataException.class, () ->
                 bookingService.getAllUserBookingsByStatus(BookingStatus.CANCELED, user2.getId(),
@@ -793,190 +1068,185 @@ public class BookingServiceTest {
 
         assertEquals("Received incorrect booking status = CANCELED from user with id = 2",
                 exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllUserBookingsByStatus_whenUserNotFound_thenNotFoundExceptionThrown")
     void getAllUserBookingsByStatus_whenUserNotFound_thenNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("User with id 999 not found"))
+                .when(userExistenceChecker).checkUserExists(anyLong());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 bookingService.getAllUserBookingsByStatus(BookingStatus.ALL, 999L, 2, 5));
 
-        assertEquals("User with id = 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        assertEquals("User with id 999 not found", exception.getMessage());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllUserBookingsByStatus_whenBookingsWithStatusAllNotFound_thenEmptyListReturned")
     void getAllUserBookingsByStatus_whenBookingsWithStatusAllNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findByBookerId(anyLong(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllRowsByBookerId(anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllUserBookingsByStatus(BookingStatus.ALL, user2.getId(),
                 2, 5);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1))
-                .findByBookerId(anyLong(), any(Pageable.class));
+                .findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllUserBookingsByStatus_whenBookingsWithStatusCurrentNotFound_thenEmptyListReturned")
     void getAllUserBookingsByStatus_whenBookingsWithStatusCurrentNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllUserBookingsByStatus(BookingStatus.CURRENT, user2.getId(),
                 2, 2);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllUserBookingsByStatus_whenBookingsWithStatusPastNotFound_thenEmptyListReturned")
     void getAllUserBookingsByStatus_whenBookingsWithStatusPastNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllUserBookingsByStatus(BookingStatus.PAST, user2.getId(),
                 2, 2);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllUserBookingsByStatus_whenBookingsWithStatusFutureNotFound_thenEmptyListReturned")
     void getAllUserBookingsByStatus_whenBookingsWithStatusFutureNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllUserBookingsByStatus(BookingStatus.FUTURE, user2.getId(),
                 2, 2);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllUserBookingsByStatus_whenBookingsWithStatusWaitingNotFound_thenEmptyListReturned")
     void getAllUserBookingsByStatus_whenBookingsWithStatusWaitingNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
-                any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllUserBookingsByStatus(BookingStatus.WAITING, user2.getId(),
                 2, 2);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllUserBookingsByStatus_whenBookingsWithStatusRejectedNotFound_thenEmptyListReturned")
     void getAllUserBookingsByStatus_whenBookingsWithStatusRejectedNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
-                any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllUserBookingsByStatus(BookingStatus.REJECTED, user2.getId(),
                 2, 2);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findByBookerId(anyLong(), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByBookerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByBookerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByBookerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
 
@@ -1023,20 +1293,19 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
     BookingDto bookingDtoCheck3 = bookingDto3.toBuilder().build();
     BookingDto bookingDtoCheck4 = bookingDto4.toBuilder().build();
     BookingDto bookingDtoCheck5 = bookingDto5.toBuilder().build();
-    when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-    when(bookingRepository.findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class)))
-            .thenReturn(new PageImpl<>(bookings));
-    when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-        Booking booking = invocationOnMock.getArgument(0);
-        if (Objects.equals(booking, booking1)) {
+    when(bookingRepository.findAllRowsByItemOwnerId(anyLong(), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+    when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+        BookingListRow booking = invocationOnMock.getArgument(0);
+        if (Objects.equals(booking.getId(), booking1.getId())) {
             return bookingDto1;
-        } else if (Objects.equals(booking, booking2)) {
+        } else if (Objects.equals(booking.getId(), booking2.getId())) {
             return bookingDto2;
-        } else if (Objects.equals(booking, booking3)) {
+        } else if (Objects.equals(booking.getId(), booking3.getId())) {
             return bookingDto3;
-        } else if (Objects.equals(booking, booking4)) {
+        } else if (Objects.equals(booking.getId(), booking4.getId())) {
             return bookingDto4;
-        } else if (Objects.equals(booking, booking5)) {
+        } else if (Objects.equals(booking.getId(), booking5.getId())) {
             return bookingDto5;
         }
         return null;
@@ -1053,18 +1322,18 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
     assertEquals(bookingDtoCheck5, bookingDtos.get(2));
     assertEquals(bookingDtoCheck1, bookingDtos.get(3));
     assertEquals(bookingDtoCheck2, bookingDtos.get(4));
-    verify(userRepository, times(1)).findById(anyLong());
+    verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
     verify(bookingRepository, times(1))
-            .findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+            .findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
     verify(bookingRepository, never())
-            .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+            .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
     verify(bookingRepository, never())
-            .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+            .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
     verify(bookingRepository, never())
-            .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+            .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
     verify(bookingRepository, never())
-            .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-    verify(bookingMapper, times(5)).bookingToBookingDto(any(Booking.class));
+            .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+    verify(bookingMapper, times(5)).bookingListRowToBookingDto(any(BookingListRow.class));
 }
 
     @Test
@@ -1089,14 +1358,13 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
         List<Booking> bookings = List.of(booking1, booking2);
         BookingDto bookingDtoCheck1 = bookingDto1.toBuilder().build();
         BookingDto bookingDtoCheck2 = bookingDto2.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(bookings));
-        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(bookingRepository.findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+        when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+            BookingListRow booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return bookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return bookingDto2;
             }
             return null;
@@ -1110,18 +1378,18 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
         assertEquals(2, bookingDtos.size());
         assertEquals(bookingDtoCheck1, bookingDtos.get(0));
         assertEquals(bookingDtoCheck2, bookingDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class),
                         any(Pageable.class));
-        verify(bookingMapper, times(2)).bookingToBookingDto(any(Booking.class));
+        verify(bookingMapper, times(2)).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
@@ -1144,14 +1412,13 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
         List<Booking> bookings = List.of(booking2, booking1);
         BookingDto bookingDtoCheck1 = bookingDto1.toBuilder().build();
         BookingDto bookingDtoCheck2 = bookingDto2.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(bookings));
-        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(bookingRepository.findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+        when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+            BookingListRow booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return bookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return bookingDto2;
             }
             return null;
@@ -1165,18 +1432,18 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
         assertEquals(2, bookingDtos.size());
         assertEquals(bookingDtoCheck2, bookingDtos.get(0));
         assertEquals(bookingDtoCheck1, bookingDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class),
                         any(Pageable.class));
-        verify(bookingMapper, times(2)).bookingToBookingDto(any(Booking.class));
+        verify(bookingMapper, times(2)).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
@@ -1199,14 +1466,13 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
         List<Booking> bookings = List.of(booking2, booking1);
         BookingDto bookingDtoCheck1 = bookingDto1.toBuilder().build();
         BookingDto bookingDtoCheck2 = bookingDto2.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(bookings));
-        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(bookingRepository.findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+        when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+            BookingListRow booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return bookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return bookingDto2;
             }
             return null;
@@ -1220,18 +1486,18 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
         assertEquals(2, bookingDtos.size());
         assertEquals(bookingDtoCheck2, bookingDtos.get(0));
         assertEquals(bookingDtoCheck1, bookingDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class),
                         any(Pageable.class));
-        verify(bookingMapper, times(2)).bookingToBookingDto(any(Booking.class));
+        verify(bookingMapper, times(2)).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
@@ -1254,14 +1520,13 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
         List<Booking> bookings = List.of(booking2, booking1);
         BookingDto bookingDtoCheck1 = bookingDto1.toBuilder().build();
         BookingDto bookingDtoCheck2 = bookingDto2.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
-                any(Pageable.class))).thenReturn(new PageImpl<>(bookings));
-        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(bookingRepository.findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+        when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+            BookingListRow booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return bookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return bookingDto2;
             }
             return null;
@@ -1275,18 +1540,18 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
         assertEquals(2, bookingDtos.size());
         assertEquals(bookingDtoCheck2, bookingDtos.get(0));
         assertEquals(bookingDtoCheck1, bookingDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class),
                         any(Pageable.class));
-        verify(bookingMapper, times(2)).bookingToBookingDto(any(Booking.class));
+        verify(bookingMapper, times(2)).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
@@ -1309,14 +1574,13 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
         List<Booking> bookings = List.of(booking2, booking1);
         BookingDto bookingDtoCheck1 = bookingDto1.toBuilder().build();
         BookingDto bookingDtoCheck2 = bookingDto2.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
-                any(Pageable.class))).thenReturn(new PageImpl<>(bookings));
-        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(bookingRepository.findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(bookingListRows(bookings)));
+        when(bookingMapper.bookingListRowToBookingDto(any(BookingListRow.class))).thenAnswer((invocationOnMock) -> {
+            BookingListRow booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return bookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return bookingDto2;
             }
             return null;
@@ -1330,17 +1594,17 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
         assertEquals(2, bookingDtos.size());
         assertEquals(bookingDtoCheck2, bookingDtos.get(0));
         assertEquals(bookingDtoCheck1, bookingDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, times(2)).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, times(2)).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
@@ -1359,7 +1623,6 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
         bookingDto2.setStatus(BookingStatus.CANCELED);
         bookingDto2.setStart(bookingTime.plusDays(4));
         bookingDto2.setEnd(bookingTime.plusDays(5));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
 
         IncorrectDataException exception = assertThrows(IncorrectDataException.class, () ->
                 bookingService.getAllOwnerItemsBookingsByStatus(BookingStatus.CANCELED, user1.getId(),
@@ -1367,189 +1630,294 @@ void getAllOwnerItemsBookingsByStatus_whenInvokedByOwnerBookingsWithStatusAll_th
 
         assertEquals("Received incorrect booking status = CANCELED from user with id = 1",
                 exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllOwnerItemsBookingsByStatus_whenUserNotFound_thenNotFoundExceptionThrown")
     void getAllOwnerItemsBookingsByStatus_whenUserNotFound_thenNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("User with id 999 not found"))
+                .when(userExistenceChecker).checkUserExists(anyLong());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 bookingService.getAllOwnerItemsBookingsByStatus(BookingStatus.ALL, 999L, 2, 5));
 
-        assertEquals("User with id = 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        assertEquals("User with id 999 not found", exception.getMessage());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusAllNotFound_thenEmptyListReturned")
     void getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusAllNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllRowsByItemOwnerId(anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllOwnerItemsBookingsByStatus(BookingStatus.ALL, user1.getId(),
                 2, 5);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(bookingRepository, times(1))
-                .findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+                .findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusCurrentNotFound_thenEmptyListReturned")
     void getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusCurrentNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllOwnerItemsBookingsByStatus(BookingStatus.CURRENT,
                 user1.getId(), 2, 2);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusPastNotFound_thenEmptyListReturned")
     void getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusPastNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllOwnerItemsBookingsByStatus(BookingStatus.PAST,
                 user1.getId(), 2, 2);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusFutureNotFound_thenEmptyListReturned")
     void getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusFutureNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(),
-                any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllOwnerItemsBookingsByStatus(BookingStatus.FUTURE,
                 user1.getId(), 2, 2);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusWaitingNotFound_thenEmptyListReturned")
     void getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusWaitingNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
-                any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllOwnerItemsBookingsByStatus(BookingStatus.WAITING,
                 user1.getId(), 2, 2);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
     }
 
     @Test
     @DisplayName("getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusRejectedNotFound_thenEmptyListReturned")
     void getAllOwnerItemsBookingsByStatus_whenBookingsWithStatusRejectedNotFound_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class),
-                any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(bookingRepository.findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class),
+                any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<BookingDto> bookingDtos = bookingService.getAllOwnerItemsBookingsByStatus(BookingStatus.REJECTED,
                 user1.getId(), 2, 2);
 
         assertNotNull(bookingDtos);
         assertTrue(bookingDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(bookingRepository, never()).findAllByItemOwnerOrderByStartDesc(any(User.class), any(Pageable.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerId(anyLong(), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllCurrentRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllPastRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, never())
-                .findAllByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(Pageable.class));
+                .findAllFutureRowsByItemOwnerId(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         verify(bookingRepository, times(1))
-                .findAllByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(Pageable.class));
-        verify(bookingMapper, never()).bookingToBookingDto(any(Booking.class));
+                .findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class), any(Pageable.class));
+        verify(bookingMapper, never()).bookingListRowToBookingDto(any(BookingListRow.class));
+    }
+
+    @Test
+    @DisplayName("countOwnerItemsBookingsByStatus_whenStatusWaiting_thenOnlyStatusCountQueried")
+    void countOwnerItemsBookingsByStatus_whenStatusWaiting_thenOnlyStatusCountQueried() {
+        when(bookingRepository.countAllByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class))).thenReturn(7L);
+
+        long count = bookingService.countOwnerItemsBookingsByStatus(BookingStatus.WAITING, user1.getId());
+
+        assertEquals(7L, count);
+        verify(bookingRepository, times(1)).countAllByItemOwnerIdAndStatus(user1.getId(), BookingStatus.WAITING);
+        verify(bookingRepository, never()).countAllByItemOwnerId(anyLong());
+        verify(bookingRepository, never()).findAllRowsByItemOwnerIdAndStatus(anyLong(), any(BookingStatus.class),
+                any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("countUserBookingsByStatus_whenIncorrectStatus_thenIncorrectDataExceptionThrown")
+    void countUserBookingsByStatus_whenIncorrectStatus_thenIncorrectDataExceptionThrown() {
+        assertThrows(IncorrectDataException.class,
+                () -> bookingService.countUserBookingsByStatus(BookingStatus.APPROVED, user2.getId()));
+
+        verify(bookingRepository, never()).countAllByBookerId(anyLong());
+        verify(bookingRepository, never()).countAllByBookerIdAndStatus(anyLong(), any(BookingStatus.class));
+    }
+
+    @Test
+    @DisplayName("getAllUserBookingsByStatusAfter_whenPageIsFull_thenNextCursorReturned")
+    void getAllUserBookingsByStatusAfter_whenPageIsFull_thenNextCursorReturned() {
+        booking1.setId(1L);
+        booking2.setId(2L);
+        when(bookingRepository.findAllByBookerIdAfterCursor(anyLong(), any(LocalDateTime.class), anyLong(),
+                any(Pageable.class))).thenReturn(List.of(booking2, booking1));
+        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenReturn(bookingDto2, bookingDto1);
+
+        CursorPage<BookingDto> bookingDtos = bookingService.getAllUserBookingsByStatusAfter(BookingStatus.ALL,
+                user2.getId(), null, 2);
+
+        assertNotNull(bookingDtos);
+        assertEquals(List.of(bookingDto2, bookingDto1), bookingDtos.getContent());
+        assertEquals(PageCursor.encode(booking1.getStart(), booking1.getId()), bookingDtos.getNextCursor());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingRepository, times(1)).findAllByBookerIdAfterCursor(anyLong(), any(LocalDateTime.class),
+                anyLong(), any(Pageable.class));
+        verify(bookingMapper, times(2)).bookingToBookingDto(any(Booking.class));
+    }
+
+    @Test
+    @DisplayName("getAllOwnerItemsBookingsByStatusAfter_whenLastPage_thenNoNextCursorReturned")
+    void getAllOwnerItemsBookingsByStatusAfter_whenLastPage_thenNoNextCursorReturned() {
+        booking1.setId(1L);
+        PageCursor pageCursor = PageCursor.decodeTimestampCursor(PageCursor.encode(booking2.getStart(), 2L));
+        when(bookingRepository.findAllByItemOwnerIdAndStatusAfterCursor(user1.getId(), BookingStatus.WAITING,
+                pageCursor.getTimestamp(), pageCursor.getId(), PageRequest.ofSize(2))).thenReturn(List.of(booking1));
+        when(bookingMapper.bookingToBookingDto(any(Booking.class))).thenReturn(bookingDto1);
+
+        CursorPage<BookingDto> bookingDtos = bookingService.getAllOwnerItemsBookingsByStatusAfter(
+                BookingStatus.WAITING, user1.getId(), PageCursor.encode(booking2.getStart(), 2L), 2);
+
+        assertNotNull(bookingDtos);
+        assertEquals(List.of(bookingDto1), bookingDtos.getContent());
+        assertNull(bookingDtos.getNextCursor());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(bookingMapper, times(1)).bookingToBookingDto(any(Booking.class));
+    }
+
+    @Test
+    @DisplayName("getAllUserBookingsByStatusAfter_whenCursorIsIncorrect_thenIllegalArgumentExceptionThrown")
+    void getAllUserBookingsByStatusAfter_whenCursorIsIncorrect_thenIllegalArgumentExceptionThrown() {
+
+        assertThrows(IllegalArgumentException.class, () ->
+                bookingService.getAllUserBookingsByStatusAfter(BookingStatus.ALL, user2.getId(), "xoxo", 2));
+
+        verify(bookingRepository, never()).findAllByBookerIdAfterCursor(anyLong(), any(LocalDateTime.class),
+                anyLong(), any(Pageable.class));
+    }
+
+    private void mockBatchMapping() {
+        when(bookingMapper.bookingDtoToBooking(any(BookingDto.class))).thenAnswer(invocation -> {
+            BookingDto bookingDto = invocation.getArgument(0);
+            return Booking.builder().start(bookingDto.getStart()).end(bookingDto.getEnd()).build();
+        });
+    }
+
+    private void mockBatchSaving() {
+        when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Booking> bookings = invocation.getArgument(0);
+            for (int i = 0; i < bookings.size(); i++) {
+                bookings.get(i).setId(i + 1L);
+            }
+            return bookings;
+        });
+    }
+
+    private static List<BookingListRow> bookingListRows(List<Booking> bookings) {
+        return bookings.stream()
+                .map(booking -> new BookingListRow(booking.getId(), booking.getStatus(), booking.getStart(),
+                        booking.getEnd(), booking.getBooker().getId(), booking.getBooker().getName(),
+                        booking.getBooker().getEmail(), booking.getItem().getId(), booking.getItem().getName(),
+                        booking.getItem().getDescription(), booking.getItem().getAvailable(),
+                        booking.getItem().getItemRequest() == null ? null : booking.getItem().getItemRequest().getId()))
+                .collect(Collectors.toList());
+    }
+
+    private static BookingStatusView bookingStatusView(Booking booking) {
+        return new SpelAwareProxyProjectionFactory().createProjection(BookingStatusView.class, Map.of(
+                "id", booking.getId(), "itemId", booking.getItem().getId(),
+                "ownerId", booking.getItem().getOwner().getId(), "bookerId", booking.getBooker().getId(),
+                "status", booking.getStatus(),
+                "start", booking.getStart()));
     }
 }
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.booking.util.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.exception.IncorrectDataException;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BookingListCacheTest {
+    BookingListCache bookingListCache;
+    AtomicInteger loads;
+    Supplier<List<BookingDto>> loader;
+    LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        bookingListCache = new BookingListCache(new ConcurrentMapCache("bookingLists"));
+        loads = new AtomicInteger();
+        loader = () -> List.of(BookingDto.builder().id((long) loads.incrementAndGet()).build());
+        now = LocalDateTime.of(2025, 1, 15, 10, 15, 30);
+    }
+
+    @Test
+    @DisplayName("getBookerPage_whenSamePageInSameBucket_thenPageLoadedOnce")
+    void getBookerPage_whenSamePageInSameBucket_thenPageLoadedOnce() {
+        bookingListCache.getBookerPage(1L, BookingStatus.ALL, 0, 10, now, loader);
+        List<BookingDto> page = bookingListCache.getBookerPage(1L, BookingStatus.ALL, 0, 10, now, loader);
+
+        assertEquals(1L, page.get(0).getId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("getBookerPage_whenNextBucketOrOwnerPage_thenPageLoadedAgain")
+    void getBookerPage_whenNextBucketOrOwnerPage_thenPageLoadedAgain() {
+        bookingListCache.getBookerPage(1L, BookingStatus.CURRENT, 0, 10, now, loader);
+        bookingListCache.getBookerPage(1L, BookingStatus.CURRENT, 0, 10, now.plusSeconds(1), loader);
+        bookingListCache.getOwnerPage(1L, BookingStatus.CURRENT, 0, 10, now, loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("getBookerPage_whenStateNotRelativeToNow_thenPageSharedAcrossBuckets")
+    void getBookerPage_whenStateNotRelativeToNow_thenPageSharedAcrossBuckets() {
+        bookingListCache.getBookerPage(1L, BookingStatus.ALL, 0, 10, now, loader);
+        bookingListCache.getBookerPage(1L, BookingStatus.ALL, 0, 10, now.plusMinutes(1), loader);
+        bookingListCache.getBookerPage(1L, BookingStatus.WAITING, 0, 10, now, loader);
+        bookingListCache.getBookerPage(1L, BookingStatus.WAITING, 0, 10, now.plusMinutes(1), loader);
+        bookingListCache.getBookerPage(1L, BookingStatus.REJECTED, 0, 10, now, loader);
+        bookingListCache.getBookerPage(1L, BookingStatus.REJECTED, 0, 10, now.plusMinutes(1), loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("invalidate_whenOutsideOfTransaction_thenPagesOfUserLoadedAgain")
+    void invalidate_whenOutsideOfTransaction_thenPagesOfUserLoadedAgain() {
+        bookingListCache.getBookerPage(1L, BookingStatus.ALL, 0, 10, now, loader);
+        bookingListCache.getOwnerPage(2L, BookingStatus.ALL, 0, 10, now, loader);
+
+        bookingListCache.invalidate(List.of(1L));
+        List<BookingDto> page = bookingListCache.getBookerPage(1L, BookingStatus.ALL, 0, 10, now, loader);
+        bookingListCache.getOwnerPage(2L, BookingStatus.ALL, 0, 10, now, loader);
+
+        assertEquals(3L, page.get(0).getId());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("invalidateAll_whenItemRenamed_thenPagesLoadedAgainWithNewName")
+    void invalidateAll_whenItemRenamed_thenPagesLoadedAgainWithNewName() {
+        AtomicReference<String> itemName = new AtomicReference<>("item");
+        Supplier<List<BookingDto>> itemLoader = () -> List.of(BookingDto.builder().id(1L)
+                .item(ItemDto.builder().id(1L).name(itemName.get()).build()).build());
+        bookingListCache.getBookerPage(2L, BookingStatus.ALL, 0, 10, now, itemLoader);
+        bookingListCache.getOwnerPage(1L, BookingStatus.WAITING, 0, 10, now, itemLoader);
+
+        itemName.set("renamedItem");
+        bookingListCache.invalidateAll();
+        List<BookingDto> bookerPage = bookingListCache.getBookerPage(2L, BookingStatus.ALL, 0, 10, now, itemLoader);
+        List<BookingDto> ownerPage = bookingListCache.getOwnerPage(1L, BookingStatus.WAITING, 0, 10, now,
+                itemLoader);
+
+        assertEquals("renamedItem", bookerPage.get(0).getItem().getName());
+        assertEquals("renamedItem", ownerPage.get(0).getItem().getName());
+    }
+
+    @Test
+    @DisplayName("getOwnerPage_whenLoaderThrows_thenExceptionRethrownAndNothingCached")
+    void getOwnerPage_whenLoaderThrows_thenExceptionRethrownAndNothingCached() {
+        assertThrows(IncorrectDataException.class, () -> bookingListCache.getOwnerPage(1L, BookingStatus.ALL, 0, 10,
+                now, () -> {
+                    throw new IncorrectDataException("Incorrect data");
+                }));
+
+        bookingListCache.getOwnerPage(1L, BookingStatus.ALL, 0, 10, now, loader);
+
+        assertEquals(1, loads.get());
+    }
+}
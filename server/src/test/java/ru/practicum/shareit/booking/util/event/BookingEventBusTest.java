@@ -0,0 +1,120 @@
+package ru.practicum.shareit.booking.util.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingEventDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.exception.ServiceUnavailableException;
+import ru.practicum.shareit.exception.TooManyRequestsException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BookingEventBusTest {
+    MeterRegistry meterRegistry;
+    BookingEventDto event;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        event = BookingEventDto.builder()
+                .type(BookingEventDto.Type.CREATED)
+                .bookingId(1L)
+                .itemId(1L)
+                .bookerId(1L)
+                .ownerId(2L)
+                .status(BookingStatus.WAITING)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("publish_whenBookerAndOwnerSubscribed_thenEventSentToBoth")
+    void publish_whenBookerAndOwnerSubscribed_thenEventSentToBoth() {
+        BookingEventBus bookingEventBus = newBookingEventBus(8, Runnable::run);
+        bookingEventBus.subscribe(1L);
+        bookingEventBus.subscribe(2L);
+        bookingEventBus.subscribe(3L);
+
+        bookingEventBus.publish(List.of(event));
+
+        assertEquals(2, meterRegistry.counter("shareit.booking-events.sent").count());
+        assertEquals(3, meterRegistry.get("shareit.booking-events.subscribers").gauge().value());
+    }
+
+    @Test
+    @DisplayName("publish_whenTransactionActive_thenEventSentAfterCommit")
+    void publish_whenTransactionActive_thenEventSentAfterCommit() {
+        BookingEventBus bookingEventBus = newBookingEventBus(8, Runnable::run);
+        bookingEventBus.subscribe(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        bookingEventBus.publish(List.of(event));
+        assertEquals(0, meterRegistry.counter("shareit.booking-events.sent").count());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(1, meterRegistry.counter("shareit.booking-events.sent").count());
+    }
+
+    @Test
+    @DisplayName("publish_whenSubscriberBufferIsFull_thenSubscriberDropped")
+    void publish_whenSubscriberBufferIsFull_thenSubscriberDropped() {
+        BookingEventBus bookingEventBus = newBookingEventBus(2, task -> {
+        });
+        bookingEventBus.subscribe(1L);
+        bookingEventBus.subscribe(2L);
+
+        bookingEventBus.publish(List.of(event, event));
+        assertEquals(0, meterRegistry.counter("shareit.booking-events.dropped").count());
+        bookingEventBus.publish(List.of(event));
+
+        assertEquals(2, meterRegistry.counter("shareit.booking-events.dropped").count());
+        assertEquals(0, meterRegistry.get("shareit.booking-events.subscribers").gauge().value());
+        assertEquals(0, meterRegistry.counter("shareit.booking-events.sent").count());
+    }
+
+    @Test
+    @DisplayName("subscribe_whenUserHasMaxSubscriptions_thenTooManyRequestsExceptionThrown")
+    void subscribe_whenUserHasMaxSubscriptions_thenTooManyRequestsExceptionThrown() {
+        BookingEventBus bookingEventBus = newBookingEventBus(8, Runnable::run);
+        bookingEventBus.subscribe(1L);
+        bookingEventBus.subscribe(1L);
+
+        assertThrows(TooManyRequestsException.class, () -> bookingEventBus.subscribe(1L));
+        bookingEventBus.subscribe(2L);
+        assertEquals(3, meterRegistry.get("shareit.booking-events.subscribers").gauge().value());
+    }
+
+    @Test
+    @DisplayName("subscribe_whenMaxSubscribersReached_thenServiceUnavailableExceptionThrown")
+    void subscribe_whenMaxSubscribersReached_thenServiceUnavailableExceptionThrown() {
+        BookingEventBus bookingEventBus = newBookingEventBus(8, Runnable::run);
+        bookingEventBus.subscribe(1L);
+        bookingEventBus.subscribe(2L);
+        bookingEventBus.subscribe(3L);
+
+        assertThrows(ServiceUnavailableException.class, () -> bookingEventBus.subscribe(4L));
+        assertEquals(3, meterRegistry.get("shareit.booking-events.subscribers").gauge().value());
+    }
+
+    private BookingEventBus newBookingEventBus(int bufferSize, Executor senders) {
+        return new BookingEventBus(meterRegistry, bufferSize, Duration.ofMinutes(1), 3, 2, Duration.ofSeconds(5),
+                senders);
+    }
+}
@@ -0,0 +1,132 @@
+package ru.practicum.shareit.booking.util.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.util.mapper.BookingMapper;
+import ru.practicum.shareit.exception.TooManyRequestsException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.util.mapper.ItemMapper;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.util.mapper.UserMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = "shareit.booking-export.max-concurrent=1")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BookingExporter.class, BookingMapper.class, UserMapper.class, ItemMapper.class,
+        JacksonAutoConfiguration.class})
+public class BookingExporterTest {
+    @Autowired
+    private BookingExporter bookingExporter;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    User owner;
+    User booker;
+    Item item;
+    Booking pastBooking;
+    Booking futureBooking;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        owner = userRepository.save(User.builder().name("owner").email("owner@post.com").build());
+        booker = userRepository.save(User.builder().name("booker").email("booker@post.com").build());
+        item = itemRepository.save(Item.builder().name("item").description("drill, \"cordless\"")
+                .available(Boolean.TRUE).owner(owner).build());
+        pastBooking = bookingRepository.save(Booking.builder().item(item).booker(booker)
+                .start(now.minusDays(2)).end(now.minusDays(1)).status(BookingStatus.APPROVED).build());
+        futureBooking = bookingRepository.save(Booking.builder().item(item).booker(booker)
+                .start(now.plusDays(1)).end(now.plusDays(2)).status(BookingStatus.WAITING).build());
+    }
+
+    @AfterEach
+    void clearDatabase() {
+        bookingRepository.deleteAll();
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("writeUserBookings_whenNdjson_thenOneBookingDtoPerLineNewestFirst")
+    void writeUserBookings_whenNdjson_thenOneBookingDtoPerLineNewestFirst() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        bookingExporter.writeUserBookings(booker.getId(), BookingExportFormat.NDJSON, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(futureBooking.getId(), first.get("id").asLong());
+        assertEquals("WAITING", first.get("status").asText());
+        assertEquals(booker.getId(), first.get("booker").get("id").asLong());
+        assertEquals(item.getId(), first.get("item").get("id").asLong());
+        assertEquals(pastBooking.getId(), objectMapper.readTree(lines[1]).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("writeOwnerItemsBookings_whenCsv_thenHeaderAndQuotedRowsWritten")
+    void writeOwnerItemsBookings_whenCsv_thenHeaderAndQuotedRowsWritten() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        bookingExporter.writeOwnerItemsBookings(owner.getId(), BookingExportFormat.CSV, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals(BookingExporter.CSV_HEADER, lines[0]);
+        assertEquals(String.join(",", String.valueOf(pastBooking.getId()), "APPROVED",
+                ISO_LOCAL_DATE_TIME.format(pastBooking.getStart()), ISO_LOCAL_DATE_TIME.format(pastBooking.getEnd()),
+                String.valueOf(booker.getId()), "booker", "booker@post.com", String.valueOf(item.getId()), "item",
+                "\"drill, \"\"cordless\"\"\"", "true", ""), lines[2]);
+    }
+
+    @Test
+    @DisplayName("writeUserBookings_whenNoBookings_thenNothingWritten")
+    void writeUserBookings_whenNoBookings_thenNothingWritten() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        bookingExporter.writeUserBookings(owner.getId(), BookingExportFormat.NDJSON, outputStream);
+
+        assertEquals(0, outputStream.size());
+    }
+
+    @Test
+    @DisplayName("acquire_whenAllSlotsTaken_thenTooManyRequestsExceptionThrownUntilReleased")
+    void acquire_whenAllSlotsTaken_thenTooManyRequestsExceptionThrownUntilReleased() {
+        Runnable release = bookingExporter.acquire();
+
+        assertThrows(TooManyRequestsException.class, () -> bookingExporter.acquire());
+        release.run();
+        release.run();
+        Runnable next = bookingExporter.acquire();
+        assertThrows(TooManyRequestsException.class, () -> bookingExporter.acquire());
+        next.run();
+    }
+}
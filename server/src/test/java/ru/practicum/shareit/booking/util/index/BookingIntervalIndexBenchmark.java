@@ -0,0 +1,85 @@
+package ru.practicum.shareit.booking.util.index;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingIntervalIndexBenchmark {
+    private static final long ITEM_ID = 1L;
+    private static final String OVERLAP_QUERY = "SELECT EXISTS (SELECT 1 FROM bookings " +
+            "WHERE item_id = ? AND status IN ('WAITING', 'APPROVED') AND start_date < ? AND end_date > ?)";
+
+    @Param({"10000", "100000"})
+    private int bookingsPerItem;
+
+    private BookingIntervalIndex index;
+    private Connection connection;
+    private PreparedStatement overlapStatement;
+    private LocalDateTime firstStart;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        firstStart = LocalDateTime.now().plusDays(1);
+        index = new BookingIntervalIndex(null, Clock.systemDefaultZone());
+        connection = DriverManager.getConnection("jdbc:h2:mem:booking-interval-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bookings");
+            statement.execute("CREATE TABLE bookings (booking_id BIGINT PRIMARY KEY, status VARCHAR(8) NOT NULL, " +
+                    "start_date TIMESTAMP NOT NULL, end_date TIMESTAMP NOT NULL, item_id BIGINT NOT NULL)");
+            statement.execute("CREATE INDEX ix_bookings_item_start ON bookings (item_id, start_date)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO bookings VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < bookingsPerItem; i++) {
+                LocalDateTime start = firstStart.plusHours(2L * i);
+                LocalDateTime end = start.plusHours(1);
+                index.tryAdd(ITEM_ID, (long) i, start, end);
+                insert.setLong(1, i);
+                insert.setString(2, "APPROVED");
+                insert.setTimestamp(3, Timestamp.valueOf(start));
+                insert.setTimestamp(4, Timestamp.valueOf(end));
+                insert.setLong(5, ITEM_ID);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        overlapStatement = connection.prepareStatement(OVERLAP_QUERY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        overlapStatement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean intervalIndex() {
+        LocalDateTime start = randomStart();
+        return index.isFree(ITEM_ID, start, start.plusMinutes(30));
+    }
+
+    @Benchmark
+    public boolean sqlRangeCheck() throws SQLException {
+        LocalDateTime start = randomStart();
+        overlapStatement.setLong(1, ITEM_ID);
+        overlapStatement.setTimestamp(2, Timestamp.valueOf(start.plusMinutes(30)));
+        overlapStatement.setTimestamp(3, Timestamp.valueOf(start));
+        try (ResultSet resultSet = overlapStatement.executeQuery()) {
+            resultSet.next();
+            return !resultSet.getBoolean(1);
+        }
+    }
+
+    private LocalDateTime randomStart() {
+        return firstStart.plusMinutes(ThreadLocalRandom.current().nextLong(120L * bookingsPerItem));
+    }
+}
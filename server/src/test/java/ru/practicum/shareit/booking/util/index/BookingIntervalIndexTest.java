@@ -0,0 +1,199 @@
+package ru.practicum.shareit.booking.util.index;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingIntervalIndexTest {
+    @Mock
+    BookingRepository bookingRepository;
+    @Mock
+    Clock clock;
+    @InjectMocks
+    BookingIntervalIndex bookingIntervalIndex;
+    LocalDateTime start;
+    LocalDateTime end;
+    LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(Instant.parse("2025-01-15T10:15:30Z"));
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        now = LocalDateTime.of(2025, 1, 15, 10, 15, 30);
+        start = now.plusDays(1);
+        end = start.plusDays(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("isFree_whenItemHasNoBookings_thenTrueReturned")
+    void isFree_whenItemHasNoBookings_thenTrueReturned() {
+        assertTrue(bookingIntervalIndex.isFree(1L, start, end));
+    }
+
+    @Test
+    @DisplayName("tryAdd_whenPeriodIsFree_thenPeriodBecomesOccupied")
+    void tryAdd_whenPeriodIsFree_thenPeriodBecomesOccupied() {
+        assertTrue(bookingIntervalIndex.tryAdd(1L, 1L, start, end));
+
+        assertFalse(bookingIntervalIndex.isFree(1L, start, end));
+        assertFalse(bookingIntervalIndex.isFree(1L, start.minusDays(1), start.plusHours(1)));
+        assertFalse(bookingIntervalIndex.isFree(1L, end.minusHours(1), end.plusDays(1)));
+        assertFalse(bookingIntervalIndex.isFree(1L, start.plusHours(1), end.minusHours(1)));
+        assertFalse(bookingIntervalIndex.isFree(1L, start.minusDays(1), end.plusDays(1)));
+        assertTrue(bookingIntervalIndex.isFree(2L, start, end));
+    }
+
+    @Test
+    @DisplayName("tryAdd_whenPeriodOverlapsExistingBooking_thenFalseReturned")
+    void tryAdd_whenPeriodOverlapsExistingBooking_thenFalseReturned() {
+        bookingIntervalIndex.tryAdd(1L, 1L, start, end);
+
+        assertFalse(bookingIntervalIndex.tryAdd(1L, 2L, start.plusHours(1), end.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("tryAdd_whenPeriodAdjoinsExistingBooking_thenTrueReturned")
+    void tryAdd_whenPeriodAdjoinsExistingBooking_thenTrueReturned() {
+        bookingIntervalIndex.tryAdd(1L, 1L, start, end);
+
+        assertTrue(bookingIntervalIndex.tryAdd(1L, 2L, end, end.plusDays(1)));
+        assertTrue(bookingIntervalIndex.tryAdd(1L, 3L, start.minusDays(1), start));
+        assertTrue(bookingIntervalIndex.isFree(1L, end.plusDays(1), end.plusDays(2)));
+    }
+
+    @Test
+    @DisplayName("tryAdd_whenExistingBookingFinishedByClock_thenBookingEvictedAndTrueReturned")
+    void tryAdd_whenExistingBookingFinishedByClock_thenBookingEvictedAndTrueReturned() {
+        bookingIntervalIndex.tryAdd(1L, 1L, start, end);
+        when(clock.instant()).thenReturn(Instant.parse("2025-01-18T10:15:30Z"));
+
+        assertTrue(bookingIntervalIndex.tryAdd(1L, 2L, start.plusHours(1), end.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("remove_whenBookingIndexed_thenPeriodBecomesFree")
+    void remove_whenBookingIndexed_thenPeriodBecomesFree() {
+        bookingIntervalIndex.tryAdd(1L, 1L, start, end);
+
+        bookingIntervalIndex.remove(1L, 1L, start);
+
+        assertTrue(bookingIntervalIndex.isFree(1L, start, end));
+    }
+
+    @Test
+    @DisplayName("remove_whenAnotherBookingStartsAtSameTime_thenPeriodStaysOccupied")
+    void remove_whenAnotherBookingStartsAtSameTime_thenPeriodStaysOccupied() {
+        bookingIntervalIndex.tryAdd(1L, 1L, start, end);
+
+        bookingIntervalIndex.remove(1L, 2L, start);
+
+        assertFalse(bookingIntervalIndex.isFree(1L, start, end));
+    }
+
+    @Test
+    @DisplayName("tryAdd_whenTransactionRolledBack_thenPeriodBecomesFree")
+    void tryAdd_whenTransactionRolledBack_thenPeriodBecomesFree() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertTrue(bookingIntervalIndex.tryAdd(1L, 1L, start, end));
+        assertFalse(bookingIntervalIndex.isFree(1L, start, end));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(bookingIntervalIndex.isFree(1L, start, end));
+    }
+
+    @Test
+    @DisplayName("tryAdd_whenTransactionCommitted_thenPeriodStaysOccupied")
+    void tryAdd_whenTransactionCommitted_thenPeriodStaysOccupied() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        bookingIntervalIndex.tryAdd(1L, 1L, start, end);
+        commit();
+
+        assertFalse(bookingIntervalIndex.isFree(1L, start, end));
+    }
+
+    @Test
+    @DisplayName("remove_whenTransactionRolledBack_thenPeriodStaysOccupied")
+    void remove_whenTransactionRolledBack_thenPeriodStaysOccupied() {
+        bookingIntervalIndex.tryAdd(1L, 1L, start, end);
+        TransactionSynchronizationManager.initSynchronization();
+
+        bookingIntervalIndex.remove(1L, 1L, start);
+        assertFalse(bookingIntervalIndex.isFree(1L, start, end));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertFalse(bookingIntervalIndex.isFree(1L, start, end));
+    }
+
+    @Test
+    @DisplayName("remove_whenTransactionCommitted_thenPeriodBecomesFree")
+    void remove_whenTransactionCommitted_thenPeriodBecomesFree() {
+        bookingIntervalIndex.tryAdd(1L, 1L, start, end);
+        TransactionSynchronizationManager.initSynchronization();
+
+        bookingIntervalIndex.remove(1L, 1L, start);
+        assertFalse(bookingIntervalIndex.isFree(1L, start, end));
+        commit();
+
+        assertTrue(bookingIntervalIndex.isFree(1L, start, end));
+    }
+
+    @Test
+    @DisplayName("afterSingletonsInstantiated_whenInvoked_thenActiveBookingsIndexed")
+    void afterSingletonsInstantiated_whenInvoked_thenActiveBookingsIndexed() {
+        BookingIntervalView booking = mock(BookingIntervalView.class);
+        when(booking.getId()).thenReturn(1L);
+        when(booking.getItemId()).thenReturn(1L);
+        when(booking.getStart()).thenReturn(start);
+        when(booking.getEnd()).thenReturn(end);
+        when(bookingRepository.findAllActiveBookingIntervals(BookingIntervalIndex.ACTIVE_STATUSES, now))
+                .thenReturn(List.of(booking));
+
+        bookingIntervalIndex.afterSingletonsInstantiated();
+
+        assertFalse(bookingIntervalIndex.isFree(1L, start, end));
+        verify(bookingRepository, times(1)).findAllActiveBookingIntervals(eq(BookingIntervalIndex.ACTIVE_STATUSES),
+                eq(now));
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
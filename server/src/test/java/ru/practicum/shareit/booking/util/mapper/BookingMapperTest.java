@@ -9,7 +9,10 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingListRow;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -21,6 +24,8 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.util.mapper.UserMapper;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -99,6 +104,46 @@ public class BookingMapperTest {
         assertEquals(bookingDto.getBookerId(), convertedBooking.getBookerId());
     }
 
+    @ParameterizedTest
+    @MethodSource("provideBookingsForBookingToBookingDto")
+    @DisplayName("bookingListRowToBookingDto_whenInvoked_thenBookingDtoReturned")
+    void bookingListRowToBookingDto_whenInvoked_thenBookingDtoReturned(Booking booking, BookingDto bookingDto) {
+        BookingListRow row = new BookingListRow(booking.getId(), booking.getStatus(), booking.getStart(),
+                booking.getEnd(), booking.getBooker().getId(), booking.getBooker().getName(),
+                booking.getBooker().getEmail(), booking.getItem().getId(), booking.getItem().getName(),
+                booking.getItem().getDescription(), booking.getItem().getAvailable(), null);
+
+        BookingDto convertedBooking = bookingMapper.bookingListRowToBookingDto(row);
+
+        assertEquals(bookingDto, convertedBooking);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideBookingsForBookingToBookingDtoWithoutUserAndItem")
+    @DisplayName("itemBookingViewToItemInfoDtoBookingDto_whenInvoked_thenItemInfoDtoBookingDtoReturned")
+    void itemBookingViewToItemInfoDtoBookingDto_whenInvoked_thenItemInfoDtoBookingDtoReturned(
+            Booking booking, ItemInfoDto.BookingDto bookingDto) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", booking.getId());
+        values.put("status", booking.getStatus());
+        values.put("start", booking.getStart());
+        values.put("end", booking.getEnd());
+        values.put("itemId", booking.getItem().getId());
+        values.put("bookerId", booking.getBooker().getId());
+        ItemBookingView itemBookingView = new SpelAwareProxyProjectionFactory()
+                .createProjection(ItemBookingView.class, values);
+
+        ItemInfoDto.BookingDto convertedBooking = bookingMapper.itemBookingViewToItemInfoDtoBookingDto(itemBookingView);
+
+        assertNotNull(convertedBooking);
+        assertEquals(bookingDto.getId(), convertedBooking.getId());
+        assertEquals(bookingDto.getStatus(), convertedBooking.getStatus());
+        assertEquals(bookingDto.getStart(), convertedBooking.getStart());
+        assertEquals(bookingDto.getEnd(), convertedBooking.getEnd());
+        assertEquals(bookingDto.getItemId(), convertedBooking.getItemId());
+        assertEquals(bookingDto.getBookerId(), convertedBooking.getBookerId());
+    }
+
     private static Stream<Arguments> provideBookingsForBookingDtoToBooking() {
         LocalDateTime start = LocalDateTime.now();
         LocalDateTime end = LocalDateTime.now();
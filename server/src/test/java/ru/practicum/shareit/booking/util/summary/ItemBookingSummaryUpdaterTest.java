@@ -0,0 +1,119 @@
+package ru.practicum.shareit.booking.util.summary;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.ItemBookingSummaryRepository;
+import ru.practicum.shareit.config.ClockConfig;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest
+@Import({ItemBookingSummaryUpdater.class, ClockConfig.class})
+public class ItemBookingSummaryUpdaterTest {
+    @Autowired
+    private ItemBookingSummaryUpdater itemBookingSummaryUpdater;
+    @Autowired
+    private ItemBookingSummaryRepository itemBookingSummaryRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    User booker;
+    Item item;
+    LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder().name("owner").email("owner@post.com").build());
+        booker = userRepository.save(User.builder().name("booker").email("booker@post.com").build());
+        item = itemRepository.save(Item.builder().name("item").description("itemDescription")
+                .available(Boolean.TRUE).owner(owner).build());
+        itemBookingSummaryRepository.save(ItemBookingSummary.builder().itemId(item.getId()).build());
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @AfterEach
+    void clearDatabase() {
+        itemBookingSummaryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("bookingsCreated_whenBookingsSaved_thenCountsAndLastAndNextBookingUpdated")
+    void bookingsCreated_whenBookingsSaved_thenCountsAndLastAndNextBookingUpdated() {
+        Booking pastBooking = save(now.minusDays(2), now.minusDays(1));
+        Booking nextBooking = save(now.plusDays(1), now.plusDays(2));
+        Booking laterBooking = save(now.plusDays(3), now.plusDays(4));
+
+        itemBookingSummaryUpdater.bookingsCreated(List.of(pastBooking, nextBooking, laterBooking));
+
+        ItemBookingSummary summary = itemBookingSummaryRepository.findById(item.getId()).orElseThrow();
+        assertEquals(3, summary.getWaitingCount());
+        assertEquals(pastBooking.getId(), summary.getLastBookingId());
+        assertEquals(nextBooking.getId(), summary.getNextBookingId());
+        assertEquals(nextBooking.getStart(), summary.getRefreshAt());
+    }
+
+    @Test
+    @DisplayName("waitingBookingsChanged_whenNextBookingRejected_thenNextBookingReplaced")
+    void waitingBookingsChanged_whenNextBookingRejected_thenNextBookingReplaced() {
+        Booking nextBooking = save(now.plusDays(1), now.plusDays(2));
+        Booking laterBooking = save(now.plusDays(3), now.plusDays(4));
+        itemBookingSummaryUpdater.bookingsCreated(List.of(nextBooking, laterBooking));
+        nextBooking.setStatus(BookingStatus.REJECTED);
+
+        itemBookingSummaryUpdater.waitingBookingsChanged(Map.of(item.getId(), List.of(nextBooking.getId())),
+                BookingStatus.REJECTED);
+
+        ItemBookingSummary summary = itemBookingSummaryRepository.findById(item.getId()).orElseThrow();
+        assertEquals(1, summary.getWaitingCount());
+        assertEquals(1, summary.getRejectedCount());
+        assertNull(summary.getLastBookingId());
+        assertEquals(laterBooking.getId(), summary.getNextBookingId());
+        assertEquals(laterBooking.getStart(), summary.getRefreshAt());
+    }
+
+    @Test
+    @DisplayName("refreshStarted_whenNextBookingStarted_thenItBecomesLastBooking")
+    void refreshStarted_whenNextBookingStarted_thenItBecomesLastBooking() {
+        Booking startedBooking = save(now.minusHours(1), now.plusHours(1));
+        itemBookingSummaryRepository.save(ItemBookingSummary.builder().itemId(item.getId())
+                .nextBookingId(startedBooking.getId()).waitingCount(1).refreshAt(startedBooking.getStart()).build());
+
+        itemBookingSummaryUpdater.refreshStarted();
+
+        ItemBookingSummary summary = itemBookingSummaryRepository.findById(item.getId()).orElseThrow();
+        assertEquals(startedBooking.getId(), summary.getLastBookingId());
+        assertNull(summary.getNextBookingId());
+        assertNull(summary.getRefreshAt());
+        assertEquals(1, summary.getWaitingCount());
+    }
+
+    private Booking save(LocalDateTime start, LocalDateTime end) {
+        return bookingRepository.save(Booking.builder().item(item).booker(booker).start(start).end(end)
+                .status(BookingStatus.WAITING).build());
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.model.BookingStatus;
@@ -32,8 +33,7 @@ import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ItemController.class)
 public class ItemControllerTest {
@@ -179,6 +179,28 @@ public class ItemControllerTest {
         verify(itemService, times(1)).getItemById(anyLong(), anyLong());
     }
 
+    @Test
+    @SneakyThrows
+    @DisplayName("getItemById_whenETagMatches_thenNotModifiedReturnedWithoutBody")
+    void getItemById_whenETagMatches_thenNotModifiedReturnedWithoutBody() {
+        when(itemService.getItemById(anyLong(), anyLong())).thenReturn(itemInfoDto1);
+        String etag = mockMvc.perform(get("/items/{itemId}", 1L)
+                        .header(userHeader, 1L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/items/{itemId}", 1L)
+                        .header(userHeader, 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(itemService, times(2)).getItemById(anyLong(), anyLong());
+    }
+
     @Test
     @SneakyThrows
     @DisplayName("updateItem_whenItemUpdatesAreValid_thenUpdatedItemDtoReturned")
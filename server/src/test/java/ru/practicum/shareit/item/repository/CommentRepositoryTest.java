@@ -0,0 +1,89 @@
+package ru.practicum.shareit.item.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.practicum.shareit.item.dto.CommentView;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+public class CommentRepositoryTest {
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    User author;
+    Item item1;
+    Item item2;
+    Comment comment1;
+    Comment comment2;
+    Comment comment3;
+    Comment comment4;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime created = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        author = userRepository.save(User.builder().name("author").email("author@post.com").build());
+        item1 = itemRepository.save(Item.builder().name("item1").description("itemDescription1")
+                .available(Boolean.TRUE).owner(author).build());
+        item2 = itemRepository.save(Item.builder().name("item2").description("itemDescription2")
+                .available(Boolean.TRUE).owner(author).build());
+        comment1 = commentRepository.save(Comment.builder().text("comment1").item(item1).author(author)
+                .created(created.minusDays(3)).build());
+        comment2 = commentRepository.save(Comment.builder().text("comment2").item(item1).author(author)
+                .created(created.minusDays(2)).build());
+        comment3 = commentRepository.save(Comment.builder().text("comment3").item(item1).author(author)
+                .created(created.minusDays(1)).build());
+        comment4 = commentRepository.save(Comment.builder().text("comment4").item(item2).author(author)
+                .created(created).build());
+    }
+
+    @AfterEach
+    void clearDatabase() {
+        commentRepository.deleteAll();
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findLatestCommentsForItems_whenLimited_thenLatestCommentsWithTotalCountReturned")
+    void findLatestCommentsForItems_whenLimited_thenLatestCommentsWithTotalCountReturned() {
+        List<CommentView> comments = commentRepository.findLatestCommentsForItems(List.of(item1.getId()), 2);
+
+        assertEquals(List.of(comment2.getId(), comment3.getId()), comments.stream()
+                .map(CommentView::getId)
+                .collect(Collectors.toList()));
+        assertEquals(3L, comments.get(0).getTotal());
+        assertEquals(item1.getId(), comments.get(0).getItemId());
+        assertEquals(author.getName(), comments.get(0).getAuthorName());
+        assertEquals(comment2.getText(), comments.get(0).getText());
+        assertEquals(comment2.getCreated(), comments.get(0).getCreated());
+    }
+
+    @Test
+    @DisplayName("findLatestCommentsForItems_whenNotLimited_thenAllCommentsOfPageItemsReturned")
+    void findLatestCommentsForItems_whenNotLimited_thenAllCommentsOfPageItemsReturned() {
+        List<CommentView> comments = commentRepository.findLatestCommentsForItems(
+                List.of(item1.getId(), item2.getId()), Integer.MAX_VALUE);
+
+        assertEquals(List.of(comment1.getId(), comment2.getId(), comment3.getId(), comment4.getId()), comments.stream()
+                .map(CommentView::getId)
+                .collect(Collectors.toList()));
+        assertEquals(1L, comments.get(3).getTotal());
+    }
+}
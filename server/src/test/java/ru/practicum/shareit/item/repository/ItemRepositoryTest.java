@@ -6,12 +6,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.util.ShareItPageRequest;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
@@ -43,16 +46,43 @@ public class ItemRepositoryTest {
     }
 
     @Test
-    @DisplayName("searchItems_whenInvoked_thenPageOfItemsReturned")
-    void searchItems_whenInvoked_thenPageOfItemsReturned() {
+    @DisplayName("searchItems_whenInvoked_thenSliceOfItemsReturned")
+    void searchItems_whenInvoked_thenSliceOfItemsReturned() {
         ShareItPageRequest pageRequest = new ShareItPageRequest(0, 2);
 
-        Page<Item> itemsPage = itemRepository.searchItems("item", pageRequest);
+        Slice<Item> itemsSlice = itemRepository.searchItems("item", pageRequest);
+
+        assertNotNull(itemsSlice);
+        assertFalse(itemsSlice.isEmpty());
+        assertEquals(2, itemsSlice.getSize());
+        assertEquals(item1, itemsSlice.getContent().get(0));
+        assertEquals(item2, itemsSlice.getContent().get(1));
+    }
+
+    @Test
+    @DisplayName("countSearchItems_whenInvoked_thenAllFoundItemsCounted")
+    void countSearchItems_whenInvoked_thenAllFoundItemsCounted() {
+        assertEquals(2, itemRepository.countSearchItems("item"));
+        assertEquals(1, itemRepository.countSearchItems("description2"));
+        assertEquals(0, itemRepository.countSearchItems("unknown"));
+    }
+
+    @Test
+    @DisplayName("searchItemsAfterCursor_whenInvoked_thenItemsAfterCursorReturned")
+    void searchItemsAfterCursor_whenInvoked_thenItemsAfterCursorReturned() {
+        List<Item> items = itemRepository.searchItemsAfterCursor("item", item1.getId(), PageRequest.ofSize(2));
+
+        assertNotNull(items);
+        assertEquals(List.of(item2), items);
+    }
+
+    @Test
+    @DisplayName("findAllByOwnerIdAndIdGreaterThanOrderById_whenInvoked_thenFirstItemsReturned")
+    void findAllByOwnerIdAndIdGreaterThanOrderById_whenInvoked_thenFirstItemsReturned() {
+        List<Item> items = itemRepository.findAllByOwnerIdAndIdGreaterThanOrderById(user1.getId(), 0L,
+                PageRequest.ofSize(1));
 
-        assertNotNull(itemsPage);
-        assertFalse(itemsPage.isEmpty());
-        assertEquals(2, itemsPage.getSize());
-        assertEquals(item1, itemsPage.getContent().get(0));
-        assertEquals(item2, itemsPage.getContent().get(1));
+        assertNotNull(items);
+        assertEquals(List.of(item1), items);
     }
 }
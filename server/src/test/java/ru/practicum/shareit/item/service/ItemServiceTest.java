@@ -1,40 +1,65 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.ItemBookingSummaryRepository;
+import ru.practicum.shareit.booking.util.cache.BookingListCache;
 import ru.practicum.shareit.booking.util.mapper.BookingMapper;
 import ru.practicum.shareit.exception.AccessToAddCommentDeniedException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.CommentEventDto;
+import ru.practicum.shareit.item.dto.CommentView;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.item.dto.ItemRow;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.item.util.mapper.CommentMapper;
 import ru.practicum.shareit.item.util.mapper.ItemMapper;
+import ru.practicum.shareit.item.util.search.ItemSearchEngine;
+import ru.practicum.shareit.outbox.model.OutboxEvent;
+import ru.practicum.shareit.outbox.service.OutboxWriter;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.util.feed.RequestFeedUpdater;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+import ru.practicum.shareit.util.CursorPage;
+import ru.practicum.shareit.util.PageCursor;
+import ru.practicum.shareit.util.SingleFlight;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,32 +69,47 @@ public class ItemServiceTest {
     @Mock
     UserRepository userRepository;
     @Mock
+    UserExistenceChecker userExistenceChecker;
+    @Mock
     BookingRepository bookingRepository;
     @Mock
+    ItemBookingSummaryRepository itemBookingSummaryRepository;
+    @Mock
     CommentRepository commentRepository;
     @Mock
     ItemRequestRepository itemRequestRepository;
     @Mock
+    RequestFeedUpdater requestFeedUpdater;
+    @Mock
+    OutboxWriter outboxWriter;
+    @Mock
     ItemMapper itemMapper;
     @Mock
     BookingMapper bookingMapper;
     @Mock
     CommentMapper commentMapper;
-    @InjectMocks
+    @Mock
+    ItemSearchEngine itemSearchEngine;
+    @Spy
+    SingleFlight<SimpleKey, ItemInfoDto> itemInfoSingleFlight = new SingleFlight<>("itemInfo",
+            new SimpleMeterRegistry());
+    @Mock
+    BookingListCache bookingListCache;
+    @Mock
+    PlatformTransactionManager transactionManager;
+    @Mock
+    Clock clock;
     ItemServiceImpl itemService;
     User user1;
     User user2;
     ItemRequest itemRequest1;
     Item item1;
+    ItemRow itemRow1;
     ItemDto itemDto1;
     Booking booking1;
     Booking booking2;
-    Booking bookingNotLast1;
-    Booking bookingNotNext1;
     ItemInfoDto.BookingDto itemInfoDtoBookingDto1;
     ItemInfoDto.BookingDto itemInfoDtoBookingDto2;
-    ItemInfoDto.BookingDto itemInfoDtoBookingDtoNotLast1;
-    ItemInfoDto.BookingDto itemInfoDtoBookingDtoNotNext1;
     Comment comment1;
     Comment comment2;
     CommentDto commentDto1;
@@ -79,6 +119,12 @@ public class ItemServiceTest {
 
     @BeforeEach
     void setUp() {
+        itemService = new ItemServiceImpl(itemRepository, userRepository, userExistenceChecker, bookingRepository,
+                itemBookingSummaryRepository, commentRepository, itemRequestRepository, requestFeedUpdater,
+                outboxWriter, itemMapper, bookingMapper, commentMapper, itemSearchEngine, itemInfoSingleFlight,
+                bookingListCache, transactionManager, clock, 0);
+        lenient().when(clock.instant()).thenReturn(Instant.parse("2025-01-15T10:15:30Z"));
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
         LocalDateTime created1 = LocalDateTime.now();
         user1 = User.builder().id(1L).name("user1").email("user1@post.com").build();
         user2 = User.builder().id(2L).name("user2").email("user2@post.com").build();
@@ -86,6 +132,7 @@ public class ItemServiceTest {
                 .created(created1).requestor(user1).build();
         item1 = Item.builder().id(1L).name("item1").description("itemDescription1")
                 .available(Boolean.TRUE).owner(user1).itemRequest(itemRequest1).build();
+        itemRow1 = new ItemRow(1L, "item1", "itemDescription1", Boolean.TRUE, user1.getId());
         itemDto1 = ItemDto.builder().id(1L).name("item1").description("description1")
                 .available(Boolean.TRUE).requestId(itemRequest1.getId()).build();
         LocalDateTime start1 = LocalDateTime.now();
@@ -93,22 +140,12 @@ public class ItemServiceTest {
                 .end(start1.minusDays(1)).booker(user2).item(item1).build();
         booking2 = Booking.builder().id(2L).status(BookingStatus.FUTURE).start(start1.plusDays(1))
                 .end(start1.plusDays(2)).booker(user2).item(item1).build();
-        bookingNotLast1 = Booking.builder().id(11L).status(BookingStatus.PAST).start(start1.minusDays(5))
-                .end(start1.minusDays(4)).booker(user2).item(item1).build();
-        bookingNotNext1 = Booking.builder().id(12L).status(BookingStatus.FUTURE).start(start1.plusDays(4))
-                .end(start1.plusDays(5)).booker(user2).item(item1).build();
         itemInfoDtoBookingDto1 = ItemInfoDto.BookingDto.builder().id(1L).status(BookingStatus.PAST)
                 .start(start1.minusDays(2)).end(start1.minusDays(1)).bookerId(user2.getId()).itemId(item1.getId())
                 .build();
         itemInfoDtoBookingDto2 = ItemInfoDto.BookingDto.builder().id(2L).status(BookingStatus.PAST)
                 .start(start1.plusDays(1)).end(start1.plusDays(2)).bookerId(user2.getId()).itemId(item1.getId())
                 .build();
-        itemInfoDtoBookingDtoNotLast1 = ItemInfoDto.BookingDto.builder().id(11L).status(BookingStatus.PAST)
-                .start(start1.minusDays(5)).end(start1.minusDays(4)).bookerId(user2.getId()).itemId(item1.getId())
-                .build();
-        itemInfoDtoBookingDtoNotNext1 = ItemInfoDto.BookingDto.builder().id(12L).status(BookingStatus.PAST)
-                .start(start1.plusDays(4)).end(start1.plusDays(5)).bookerId(user2.getId()).itemId(item1.getId())
-                .build();
         comment1 = Comment.builder().id(1L).text("comment1").item(item1).author(user2).created(start1.plusDays(5))
                 .build();
         comment2 = Comment.builder().id(2L).text("comment2").item(item1).author(user2).created(start1.plusDays(7))
@@ -139,6 +176,10 @@ public class ItemServiceTest {
         verify(userRepository, times(1)).findById(anyLong());
         verify(itemRequestRepository, times(1)).findById(anyLong());
         verify(itemRepository, times(1)).save(any(Item.class));
+        verify(itemBookingSummaryRepository, times(1)).save(argThat(summary ->
+                Objects.equals(summary.getItemId(), item1.getId()) && summary.getLastBookingId() == null
+                        && summary.getWaitingCount() == 0));
+        verify(requestFeedUpdater, times(1)).itemSaved(item1);
         verify(itemMapper, times(1)).itemToItemDto(any(Item.class));
     }
 
@@ -157,6 +198,8 @@ public class ItemServiceTest {
         verify(userRepository, times(1)).findById(anyLong());
         verify(itemRequestRepository, times(1)).findById(anyLong());
         verify(itemRepository, never()).save(any(Item.class));
+        verify(itemBookingSummaryRepository, never()).save(any(ItemBookingSummary.class));
+        verify(requestFeedUpdater, never()).itemSaved(any(Item.class));
         verify(itemMapper, never()).itemToItemDto(any(Item.class));
     }
 
@@ -209,22 +252,12 @@ public class ItemServiceTest {
                 .end(start2.minusDays(1)).booker(user2).item(item2).build();
         Booking booking4 = Booking.builder().id(4L).status(BookingStatus.FUTURE).start(start2.plusDays(1))
                 .end(start2.plusDays(2)).booker(user2).item(item2).build();
-        Booking bookingNotLast2 = Booking.builder().id(21L).status(BookingStatus.PAST).start(start2.minusDays(5))
-                .end(start2.minusDays(4)).booker(user2).item(item2).build();
-        Booking bookingNotNext2 = Booking.builder().id(22L).status(BookingStatus.FUTURE).start(start2.plusDays(4))
-                .end(start2.plusDays(5)).booker(user2).item(item2).build();
         ItemInfoDto.BookingDto itemInfoDtoBookingDto3 = ItemInfoDto.BookingDto.builder().id(3L)
                 .status(BookingStatus.PAST).start(start2.minusDays(2)).end(start2.minusDays(1))
                 .bookerId(user2.getId()).itemId(item2.getId()).build();
         ItemInfoDto.BookingDto itemInfoDtoBookingDto4 = ItemInfoDto.BookingDto.builder().id(4L)
                 .status(BookingStatus.PAST).start(start2.plusDays(1)).end(start2.plusDays(2))
                 .bookerId(user2.getId()).itemId(item2.getId()).build();
-        ItemInfoDto.BookingDto itemInfoDtoBookingDtoNotLast2 = ItemInfoDto.BookingDto.builder().id(21L)
-                .status(BookingStatus.PAST).start(start2.minusDays(5)).end(start2.minusDays(4))
-                .bookerId(user2.getId()).itemId(item2.getId()).build();
-        ItemInfoDto.BookingDto itemInfoDtoBookingDtoNotNext2 = ItemInfoDto.BookingDto.builder().id(22L)
-                .status(BookingStatus.PAST).start(start2.plusDays(4)).end(start2.plusDays(5))
-                .bookerId(user2.getId()).itemId(item2.getId()).build();
         Comment comment3 = Comment.builder().id(3L).text("comment3").item(item2).author(user2)
                 .created(start2.plusDays(5)).build();
         Comment comment4 = Comment.builder().id(4L).text("comment4").item(item2).author(user2)
@@ -236,48 +269,43 @@ public class ItemServiceTest {
         ItemInfoDto itemInfoDto2 = ItemInfoDto.builder().id(2L).name("item2").description("itemDescription2")
                 .available(Boolean.TRUE).build();
         ItemInfoDto itemInfoDtoCheck1 = itemInfoDto1.toBuilder().lastBooking(itemInfoDtoBookingDto1)
-                .nextBooking(itemInfoDtoBookingDto2).comments(List.of(commentDto1, commentDto2)).build();
+                .nextBooking(itemInfoDtoBookingDto2).comments(List.of(commentDto1, commentDto2)).commentsCount(2L)
+                .build();
         ItemInfoDto itemInfoDtoCheck2 = itemInfoDto2.toBuilder().lastBooking(itemInfoDtoBookingDto3)
-                .nextBooking(itemInfoDtoBookingDto4).comments(List.of(commentDto3, commentDto4)).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
+                .nextBooking(itemInfoDtoBookingDto4).comments(List.of(commentDto3, commentDto4)).commentsCount(2L)
+                .build();
         when(itemRepository.findAllByOwnerIdOrderById(anyLong(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(item1, item2)));
-        when(bookingRepository.findUserLastBookingsForEachItem(anyLong()))
-                .thenReturn(List.of(booking1, bookingNotLast1, booking3, bookingNotLast2));
-        when(bookingMapper.bookingToItemInfoDtoBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+                .thenReturn(new SliceImpl<>(List.of(item1, item2)));
+        when(bookingRepository.findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        itemBookingView(booking1, true), itemBookingView(booking2, false),
+                        itemBookingView(booking3, true), itemBookingView(booking4, false)));
+        when(bookingMapper.itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class)))
+                .thenAnswer((invocationOnMock) -> {
+            ItemBookingView booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return itemInfoDtoBookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return itemInfoDtoBookingDto2;
-            } else if (Objects.equals(booking, booking3)) {
+            } else if (Objects.equals(booking.getId(), booking3.getId())) {
                 return itemInfoDtoBookingDto3;
-            } else if (Objects.equals(booking, booking4)) {
+            } else if (Objects.equals(booking.getId(), booking4.getId())) {
                 return itemInfoDtoBookingDto4;
-            } else if (Objects.equals(booking, bookingNotLast1)) {
-                return itemInfoDtoBookingDtoNotLast1;
-            } else if (Objects.equals(booking, bookingNotLast2)) {
-                return itemInfoDtoBookingDtoNotLast2;
-            } else if (Objects.equals(booking, bookingNotNext1)) {
-                return itemInfoDtoBookingDtoNotNext1;
-            } else if (Objects.equals(booking, bookingNotNext2)) {
-                return itemInfoDtoBookingDtoNotNext2;
             }
             return null;
         });
-        when(bookingRepository.findUserNextBookingsForEachItem(anyLong()))
-                .thenReturn(List.of(booking2, bookingNotNext1, booking4, bookingNotNext2));
-        when(commentRepository.findAllCommentsLeftOnOwnerItemsWithId(anyLong())).thenReturn(List.of(comment1, comment2,
-                comment3, comment4));
-        when(commentMapper.commentToCommentDto(any(Comment.class))).thenAnswer((invocationOnMock) -> {
-            Comment comment = invocationOnMock.getArgument(0);
-            if (Objects.equals(comment, comment1)) {
+        when(commentRepository.findLatestCommentsForItems(anyCollection(), anyInt())).thenReturn(List.of(
+                commentView(comment1, 2L), commentView(comment2, 2L), commentView(comment3, 2L),
+                commentView(comment4, 2L)));
+        when(commentMapper.commentViewToCommentDto(any(CommentView.class))).thenAnswer((invocationOnMock) -> {
+            CommentView comment = invocationOnMock.getArgument(0);
+            if (Objects.equals(comment.getId(), comment1.getId())) {
                 return commentDto1;
-            } else if (Objects.equals(comment, comment2)) {
+            } else if (Objects.equals(comment.getId(), comment2.getId())) {
                 return commentDto2;
-            } else if (Objects.equals(comment, comment3)) {
+            } else if (Objects.equals(comment.getId(), comment3.getId())) {
                 return commentDto3;
-            } else if (Objects.equals(comment, comment4)) {
+            } else if (Objects.equals(comment.getId(), comment4.getId())) {
                 return commentDto4;
             }
             return null;
@@ -301,14 +329,14 @@ public class ItemServiceTest {
         assertNotNull(itemInfoDtos.get(1));
         assertEquals(itemInfoDtoCheck1, itemInfoDtos.get(0));
         assertEquals(itemInfoDtoCheck2, itemInfoDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRepository, times(1))
                 .findAllByOwnerIdOrderById(anyLong(), any(Pageable.class));
-        verify(bookingRepository, times(1)).findUserLastBookingsForEachItem(anyLong());
-        verify(bookingMapper, times(8)).bookingToItemInfoDtoBookingDto(any(Booking.class));
-        verify(bookingRepository, times(1)).findUserLastBookingsForEachItem(anyLong());
-        verify(commentRepository, times(1)).findAllCommentsLeftOnOwnerItemsWithId(anyLong());
-        verify(commentMapper, times(4)).commentToCommentDto(any(Comment.class));
+        verify(bookingRepository, times(1)).findLastAndNextBookingsForItems(eq(List.of(item1.getId(), item2.getId())),
+                any(LocalDateTime.class));
+        verify(bookingMapper, times(4)).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
+        verify(commentRepository, times(1)).findLatestCommentsForItems(anyCollection(), eq(Integer.MAX_VALUE));
+        verify(commentMapper, times(4)).commentViewToCommentDto(any(CommentView.class));
         verify(itemMapper, times(2)).itemToItemInfoDto(any(Item.class));
     }
 
@@ -331,28 +359,33 @@ public class ItemServiceTest {
         ItemInfoDto itemInfoDto2 = ItemInfoDto.builder().id(2L).name("item2").description("itemDescription2")
                 .available(Boolean.TRUE).build();
         ItemInfoDto itemInfoDtoCheck1 = itemInfoDto1.toBuilder().lastBooking(itemInfoDtoBookingDto1)
-                .nextBooking(itemInfoDtoBookingDto2).comments(Collections.emptyList()).build();
+                .nextBooking(itemInfoDtoBookingDto2).comments(Collections.emptyList()).commentsCount(0L)
+                .build();
         ItemInfoDto itemInfoDtoCheck2 = itemInfoDto2.toBuilder().lastBooking(itemInfoDtoBookingDto3)
-                .nextBooking(itemInfoDtoBookingDto4).comments(Collections.emptyList()).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
+                .nextBooking(itemInfoDtoBookingDto4).comments(Collections.emptyList()).commentsCount(0L)
+                .build();
         when(itemRepository.findAllByOwnerIdOrderById(anyLong(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(item1, item2)));
-        when(bookingRepository.findUserLastBookingsForEachItem(anyLong())).thenReturn(List.of(booking1, booking3));
-        when(bookingMapper.bookingToItemInfoDtoBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+                .thenReturn(new SliceImpl<>(List.of(item1, item2)));
+        when(bookingRepository.findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        itemBookingView(booking1, true), itemBookingView(booking2, false),
+                        itemBookingView(booking3, true), itemBookingView(booking4, false)));
+        when(bookingMapper.itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class)))
+                .thenAnswer((invocationOnMock) -> {
+            ItemBookingView booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return itemInfoDtoBookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return itemInfoDtoBookingDto2;
-            } else if (Objects.equals(booking, booking3)) {
+            } else if (Objects.equals(booking.getId(), booking3.getId())) {
                 return itemInfoDtoBookingDto3;
-            } else if (Objects.equals(booking, booking4)) {
+            } else if (Objects.equals(booking.getId(), booking4.getId())) {
                 return itemInfoDtoBookingDto4;
             }
             return null;
         });
-        when(bookingRepository.findUserNextBookingsForEachItem(anyLong())).thenReturn(List.of(booking2, booking4));
-        when(commentRepository.findAllCommentsLeftOnOwnerItemsWithId(anyLong())).thenReturn(Collections.emptyList());
+        when(commentRepository.findLatestCommentsForItems(anyCollection(), anyInt()))
+                .thenReturn(Collections.emptyList());
         when(itemMapper.itemToItemInfoDto(any(Item.class))).thenAnswer((invocationOnMock) -> {
             Item item = invocationOnMock.getArgument(0);
             if (Objects.equals(item, item1)) {
@@ -372,14 +405,13 @@ public class ItemServiceTest {
         assertNotNull(itemInfoDtos.get(1));
         assertEquals(itemInfoDtoCheck1, itemInfoDtos.get(0));
         assertEquals(itemInfoDtoCheck2, itemInfoDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRepository, times(1))
                 .findAllByOwnerIdOrderById(anyLong(), any(Pageable.class));
-        verify(bookingRepository, times(1)).findUserLastBookingsForEachItem(anyLong());
-        verify(bookingMapper, times(4)).bookingToItemInfoDtoBookingDto(any(Booking.class));
-        verify(bookingRepository, times(1)).findUserLastBookingsForEachItem(anyLong());
-        verify(commentRepository, times(1)).findAllCommentsLeftOnOwnerItemsWithId(anyLong());
-        verify(commentMapper, never()).commentToCommentDto(any(Comment.class));
+        verify(bookingRepository, times(1)).findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class));
+        verify(bookingMapper, times(4)).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
+        verify(commentRepository, times(1)).findLatestCommentsForItems(anyCollection(), eq(Integer.MAX_VALUE));
+        verify(commentMapper, never()).commentViewToCommentDto(any(CommentView.class));
         verify(itemMapper, times(2)).itemToItemInfoDto(any(Item.class));
     }
 
@@ -405,34 +437,38 @@ public class ItemServiceTest {
         ItemInfoDto itemInfoDto2 = ItemInfoDto.builder().id(2L).name("item2").description("itemDescription2")
                 .available(Boolean.TRUE).build();
         ItemInfoDto itemInfoDtoCheck1 = itemInfoDto1.toBuilder().lastBooking(itemInfoDtoBookingDto1)
-                .comments(List.of(commentDto1, commentDto2)).build();
+                .comments(List.of(commentDto1, commentDto2)).commentsCount(2L)
+                .build();
         ItemInfoDto itemInfoDtoCheck2 = itemInfoDto2.toBuilder().lastBooking(itemInfoDtoBookingDto3)
-                .comments(List.of(commentDto3, commentDto4)).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
+                .comments(List.of(commentDto3, commentDto4)).commentsCount(2L)
+                .build();
         when(itemRepository.findAllByOwnerIdOrderById(anyLong(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(item1, item2)));
-        when(bookingRepository.findUserLastBookingsForEachItem(anyLong())).thenReturn(List.of(booking1, booking3));
-        when(bookingMapper.bookingToItemInfoDtoBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+                .thenReturn(new SliceImpl<>(List.of(item1, item2)));
+        when(bookingRepository.findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        itemBookingView(booking1, true), itemBookingView(booking3, true)));
+        when(bookingMapper.itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class)))
+                .thenAnswer((invocationOnMock) -> {
+            ItemBookingView booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return itemInfoDtoBookingDto1;
-            } else if (Objects.equals(booking, booking3)) {
+            } else if (Objects.equals(booking.getId(), booking3.getId())) {
                 return itemInfoDtoBookingDto3;
             }
             return null;
         });
-        when(bookingRepository.findUserNextBookingsForEachItem(anyLong())).thenReturn(Collections.emptyList());
-        when(commentRepository.findAllCommentsLeftOnOwnerItemsWithId(anyLong())).thenReturn(List.of(comment1, comment2,
-                comment3, comment4));
-        when(commentMapper.commentToCommentDto(any(Comment.class))).thenAnswer((invocationOnMock) -> {
-            Comment comment = invocationOnMock.getArgument(0);
-            if (Objects.equals(comment, comment1)) {
+        when(commentRepository.findLatestCommentsForItems(anyCollection(), anyInt())).thenReturn(List.of(
+                commentView(comment1, 2L), commentView(comment2, 2L), commentView(comment3, 2L),
+                commentView(comment4, 2L)));
+        when(commentMapper.commentViewToCommentDto(any(CommentView.class))).thenAnswer((invocationOnMock) -> {
+            CommentView comment = invocationOnMock.getArgument(0);
+            if (Objects.equals(comment.getId(), comment1.getId())) {
                 return commentDto1;
-            } else if (Objects.equals(comment, comment2)) {
+            } else if (Objects.equals(comment.getId(), comment2.getId())) {
                 return commentDto2;
-            } else if (Objects.equals(comment, comment3)) {
+            } else if (Objects.equals(comment.getId(), comment3.getId())) {
                 return commentDto3;
-            } else if (Objects.equals(comment, comment4)) {
+            } else if (Objects.equals(comment.getId(), comment4.getId())) {
                 return commentDto4;
             }
             return null;
@@ -456,14 +492,13 @@ public class ItemServiceTest {
         assertNotNull(itemInfoDtos.get(1));
         assertEquals(itemInfoDtoCheck1, itemInfoDtos.get(0));
         assertEquals(itemInfoDtoCheck2, itemInfoDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRepository, times(1))
                 .findAllByOwnerIdOrderById(anyLong(), any(Pageable.class));
-        verify(bookingRepository, times(1)).findUserLastBookingsForEachItem(anyLong());
-        verify(bookingMapper, times(2)).bookingToItemInfoDtoBookingDto(any(Booking.class));
-        verify(bookingRepository, times(1)).findUserLastBookingsForEachItem(anyLong());
-        verify(commentRepository, times(1)).findAllCommentsLeftOnOwnerItemsWithId(anyLong());
-        verify(commentMapper, times(4)).commentToCommentDto(any(Comment.class));
+        verify(bookingRepository, times(1)).findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class));
+        verify(bookingMapper, times(2)).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
+        verify(commentRepository, times(1)).findLatestCommentsForItems(anyCollection(), eq(Integer.MAX_VALUE));
+        verify(commentMapper, times(4)).commentViewToCommentDto(any(CommentView.class));
         verify(itemMapper, times(2)).itemToItemInfoDto(any(Item.class));
     }
 
@@ -489,34 +524,38 @@ public class ItemServiceTest {
         ItemInfoDto itemInfoDto2 = ItemInfoDto.builder().id(2L).name("item2").description("itemDescription2")
                 .available(Boolean.TRUE).build();
         ItemInfoDto itemInfoDtoCheck1 = itemInfoDto1.toBuilder()
-                .nextBooking(itemInfoDtoBookingDto2).comments(List.of(commentDto1, commentDto2)).build();
+                .nextBooking(itemInfoDtoBookingDto2).comments(List.of(commentDto1, commentDto2)).commentsCount(2L)
+                .build();
         ItemInfoDto itemInfoDtoCheck2 = itemInfoDto2.toBuilder()
-                .nextBooking(itemInfoDtoBookingDto4).comments(List.of(commentDto3, commentDto4)).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
+                .nextBooking(itemInfoDtoBookingDto4).comments(List.of(commentDto3, commentDto4)).commentsCount(2L)
+                .build();
         when(itemRepository.findAllByOwnerIdOrderById(anyLong(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(item1, item2)));
-        when(bookingRepository.findUserLastBookingsForEachItem(anyLong())).thenReturn(Collections.emptyList());
-        when(bookingMapper.bookingToItemInfoDtoBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking2)) {
+                .thenReturn(new SliceImpl<>(List.of(item1, item2)));
+        when(bookingRepository.findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        itemBookingView(booking2, false), itemBookingView(booking4, false)));
+        when(bookingMapper.itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class)))
+                .thenAnswer((invocationOnMock) -> {
+            ItemBookingView booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking2.getId())) {
                 return itemInfoDtoBookingDto2;
-            } else if (Objects.equals(booking, booking4)) {
+            } else if (Objects.equals(booking.getId(), booking4.getId())) {
                 return itemInfoDtoBookingDto4;
             }
             return null;
         });
-        when(bookingRepository.findUserNextBookingsForEachItem(anyLong())).thenReturn(List.of(booking2, booking4));
-        when(commentRepository.findAllCommentsLeftOnOwnerItemsWithId(anyLong())).thenReturn(List.of(comment1, comment2,
-                comment3, comment4));
-        when(commentMapper.commentToCommentDto(any(Comment.class))).thenAnswer((invocationOnMock) -> {
-            Comment comment = invocationOnMock.getArgument(0);
-            if (Objects.equals(comment, comment1)) {
+        when(commentRepository.findLatestCommentsForItems(anyCollection(), anyInt())).thenReturn(List.of(
+                commentView(comment1, 2L), commentView(comment2, 2L), commentView(comment3, 2L),
+                commentView(comment4, 2L)));
+        when(commentMapper.commentViewToCommentDto(any(CommentView.class))).thenAnswer((invocationOnMock) -> {
+            CommentView comment = invocationOnMock.getArgument(0);
+            if (Objects.equals(comment.getId(), comment1.getId())) {
                 return commentDto1;
-            } else if (Objects.equals(comment, comment2)) {
+            } else if (Objects.equals(comment.getId(), comment2.getId())) {
                 return commentDto2;
-            } else if (Objects.equals(comment, comment3)) {
+            } else if (Objects.equals(comment.getId(), comment3.getId())) {
                 return commentDto3;
-            } else if (Objects.equals(comment, comment4)) {
+            } else if (Objects.equals(comment.getId(), comment4.getId())) {
                 return commentDto4;
             }
             return null;
@@ -540,55 +579,52 @@ public class ItemServiceTest {
         assertNotNull(itemInfoDtos.get(1));
         assertEquals(itemInfoDtoCheck1, itemInfoDtos.get(0));
         assertEquals(itemInfoDtoCheck2, itemInfoDtos.get(1));
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRepository, times(1))
                 .findAllByOwnerIdOrderById(anyLong(), any(Pageable.class));
-        verify(bookingRepository, times(1)).findUserLastBookingsForEachItem(anyLong());
-        verify(bookingMapper, times(2)).bookingToItemInfoDtoBookingDto(any(Booking.class));
-        verify(bookingRepository, times(1)).findUserLastBookingsForEachItem(anyLong());
-        verify(commentRepository, times(1)).findAllCommentsLeftOnOwnerItemsWithId(anyLong());
-        verify(commentMapper, times(4)).commentToCommentDto(any(Comment.class));
+        verify(bookingRepository, times(1)).findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class));
+        verify(bookingMapper, times(2)).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
+        verify(commentRepository, times(1)).findLatestCommentsForItems(anyCollection(), eq(Integer.MAX_VALUE));
+        verify(commentMapper, times(4)).commentViewToCommentDto(any(CommentView.class));
         verify(itemMapper, times(2)).itemToItemInfoDto(any(Item.class));
     }
 
     @Test
     @DisplayName("getAllUserItems_whenNoItems_thenEmptyListReturned")
     void getAllUserItems_whenNoItems_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(itemRepository.findAllByOwnerIdOrderById(anyLong(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(Collections.emptyList()));
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<ItemInfoDto> itemInfoDtos = itemService.getAllUserItems(user1.getId(), 1, 2);
 
         assertNotNull(itemInfoDtos);
         assertTrue(itemInfoDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRepository, times(1))
                 .findAllByOwnerIdOrderById(anyLong(), any(Pageable.class));
-        verify(bookingRepository, never()).findUserLastBookingsForEachItem(anyLong());
-        verify(bookingMapper, never()).bookingToItemInfoDtoBookingDto(any(Booking.class));
-        verify(bookingRepository, never()).findUserLastBookingsForEachItem(anyLong());
-        verify(commentRepository, never()).findAllCommentsLeftOnOwnerItemsWithId(anyLong());
-        verify(commentMapper, never()).commentToCommentDto(any(Comment.class));
+        verify(bookingRepository, never()).findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class));
+        verify(bookingMapper, never()).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
+        verify(commentRepository, never()).findLatestCommentsForItems(anyCollection(), anyInt());
+        verify(commentMapper, never()).commentViewToCommentDto(any(CommentView.class));
         verify(itemMapper, never()).itemToItemInfoDto(any(Item.class));
     }
 
     @Test
     @DisplayName("getAllUserItems_whenUserNotFound_thenNotFoundExceptionThrown")
     void getAllUserItems_whenUserNotFound_thenNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("User with id 999 not found"))
+                .when(userExistenceChecker).checkUserExists(anyLong());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 itemService.getAllUserItems(999L, 1, 2));
 
         assertEquals("User with id 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRepository, never()).findAllByOwnerIdOrderById(anyLong(), any(Pageable.class));
-        verify(bookingRepository, never()).findUserLastBookingsForEachItem(anyLong());
-        verify(bookingMapper, never()).bookingToItemInfoDtoBookingDto(any(Booking.class));
-        verify(bookingRepository, never()).findUserLastBookingsForEachItem(anyLong());
-        verify(commentRepository, never()).findAllCommentsLeftOnOwnerItemsWithId(anyLong());
-        verify(commentMapper, never()).commentToCommentDto(any(Comment.class));
+        verify(bookingRepository, never()).findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class));
+        verify(bookingMapper, never()).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
+        verify(commentRepository, never()).findLatestCommentsForItems(anyCollection(), anyInt());
+        verify(commentMapper, never()).commentViewToCommentDto(any(CommentView.class));
         verify(itemMapper, never()).itemToItemInfoDto(any(Item.class));
     }
 
@@ -596,18 +632,20 @@ public class ItemServiceTest {
     @DisplayName("getItemById_whenOwnerOfItemInvoked_thenItemInfoDtoWithInformationAboutBookingsReturned")
     void getItemById_whenOwnerOfItemInvoked_thenItemInfoDtoWithInformationAboutBookingsReturned() {
         ItemInfoDto itemInfoDtoCheck = itemInfoDto1.toBuilder().lastBooking(itemInfoDtoBookingDto1)
-                .nextBooking(itemInfoDtoBookingDto2).comments(List.of(commentDto1, commentDto2)).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
+                .nextBooking(itemInfoDtoBookingDto2).comments(List.of(commentDto1, commentDto2)).commentsCount(2L)
+                .build();
+        when(itemRepository.findRowById(anyLong())).thenReturn(Optional.of(itemRow1));
         when(commentRepository.findAllCommentsByItemId(anyLong())).thenReturn(List.of(comment1, comment2));
-        when(bookingRepository.findUserLastBooking(anyLong())).thenReturn(List.of(booking1));
-        when(bookingRepository.findUserNextBooking(anyLong())).thenReturn(List.of(booking2));
-        when(itemMapper.itemToItemInfoDto(any(Item.class))).thenReturn(itemInfoDto1);
-        when(bookingMapper.bookingToItemInfoDtoBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(itemBookingSummaryRepository.findLastAndNextBookings(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        itemBookingView(booking1, true), itemBookingView(booking2, false)));
+        when(itemMapper.itemRowToItemInfoDto(any(ItemRow.class))).thenReturn(itemInfoDto1);
+        when(bookingMapper.itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class)))
+                .thenAnswer((invocationOnMock) -> {
+            ItemBookingView booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return itemInfoDtoBookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return itemInfoDtoBookingDto2;
             }
             return null;
@@ -626,24 +664,56 @@ public class ItemServiceTest {
 
         assertNotNull(itemInfoDto);
         assertEquals(itemInfoDtoCheck, itemInfoDto);
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(itemRepository, times(1)).findRowById(anyLong());
         verify(commentRepository, times(1)).findAllCommentsByItemId(anyLong());
-        verify(bookingRepository, times(1)).findUserLastBooking(anyLong());
-        verify(bookingRepository, times(1)).findUserNextBooking(anyLong());
-        verify(itemMapper, times(1)).itemToItemInfoDto(any(Item.class));
-        verify(bookingMapper, times(2)).bookingToItemInfoDtoBookingDto(any(Booking.class));
+        verify(itemBookingSummaryRepository, times(1)).findLastAndNextBookings(eq(List.of(item1.getId())),
+                any(LocalDateTime.class));
+        verify(bookingRepository, never()).findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class));
+        verify(itemMapper, times(1)).itemRowToItemInfoDto(any(ItemRow.class));
+        verify(bookingMapper, times(2)).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
         verify(commentMapper, times(2)).commentToCommentDto(any(Comment.class));
+        verify(itemInfoSingleFlight, times(1)).execute(eq(new SimpleKey(item1.getId(), true)), any());
+    }
+
+    @Test
+    @DisplayName("getItemById_whenOwnerOfItemInvokedAndSummaryOutdated_thenBookingsReadFromBookingRepository")
+    void getItemById_whenOwnerOfItemInvokedAndSummaryOutdated_thenBookingsReadFromBookingRepository() {
+        ItemInfoDto itemInfoDtoCheck = itemInfoDto1.toBuilder().lastBooking(itemInfoDtoBookingDto1)
+                .nextBooking(itemInfoDtoBookingDto2).comments(Collections.emptyList()).commentsCount(0L)
+                .build();
+        when(itemRepository.findRowById(anyLong())).thenReturn(Optional.of(itemRow1));
+        when(commentRepository.findAllCommentsByItemId(anyLong())).thenReturn(Collections.emptyList());
+        when(itemBookingSummaryRepository.findLastAndNextBookings(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
+        when(bookingRepository.findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        itemBookingView(booking1, true), itemBookingView(booking2, false)));
+        when(itemMapper.itemRowToItemInfoDto(any(ItemRow.class))).thenReturn(itemInfoDto1);
+        when(bookingMapper.itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class)))
+                .thenAnswer((invocationOnMock) -> {
+            ItemBookingView booking = invocationOnMock.getArgument(0);
+            return booking.getLast() ? itemInfoDtoBookingDto1 : itemInfoDtoBookingDto2;
+        });
+
+        ItemInfoDto itemInfoDto = itemService.getItemById(item1.getId(), user1.getId());
+
+        assertEquals(itemInfoDtoCheck, itemInfoDto);
+        verify(itemBookingSummaryRepository, times(1)).findLastAndNextBookings(eq(List.of(item1.getId())),
+                any(LocalDateTime.class));
+        verify(bookingRepository, times(1)).findLastAndNextBookingsForItems(eq(List.of(item1.getId())),
+                any(LocalDateTime.class));
+        verify(bookingMapper, times(2)).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
     }
 
     @Test
     @DisplayName("getItemById_whenSimpleUserInvoked_thenItemInfoDtoWithoutInformationAboutBookingsReturned")
     void getItemById_whenSimpleUserInvoked_thenItemInfoDtoWithoutInformationAboutBookingsReturned() {
-        ItemInfoDto itemInfoDtoCheck = itemInfoDto1.toBuilder().comments(List.of(commentDto1, commentDto2)).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user2));
-        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
+        ItemInfoDto itemInfoDtoCheck = itemInfoDto1.toBuilder().comments(List.of(commentDto1, commentDto2))
+                .commentsCount(2L).build();
+        when(itemRepository.findRowById(anyLong())).thenReturn(Optional.of(itemRow1));
         when(commentRepository.findAllCommentsByItemId(anyLong())).thenReturn(List.of(comment1, comment2));
-        when(itemMapper.itemToItemInfoDto(any(Item.class))).thenReturn(itemInfoDto1);
+        when(itemMapper.itemRowToItemInfoDto(any(ItemRow.class))).thenReturn(itemInfoDto1);
         when(commentMapper.commentToCommentDto(any(Comment.class))).thenAnswer((invocationOnMock) -> {
             Comment comment = invocationOnMock.getArgument(0);
             if (Objects.equals(comment, comment1)) {
@@ -658,32 +728,35 @@ public class ItemServiceTest {
 
         assertNotNull(itemInfoDto);
         assertEquals(itemInfoDtoCheck, itemInfoDto);
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(itemRepository, times(1)).findRowById(anyLong());
         verify(commentRepository, times(1)).findAllCommentsByItemId(anyLong());
-        verify(itemMapper, times(1)).itemToItemInfoDto(any(Item.class));
+        verify(itemMapper, times(1)).itemRowToItemInfoDto(any(ItemRow.class));
         verify(commentMapper, times(2)).commentToCommentDto(any(Comment.class));
-        verify(bookingRepository, never()).findUserLastBooking(anyLong());
-        verify(bookingRepository, never()).findUserNextBooking(anyLong());
-        verify(bookingMapper, never()).bookingToItemInfoDtoBookingDto(any(Booking.class));
+        verify(itemBookingSummaryRepository, never()).findLastAndNextBookings(anyCollection(),
+                any(LocalDateTime.class));
+        verify(bookingMapper, never()).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
+        verify(itemInfoSingleFlight, times(1)).execute(eq(new SimpleKey(item1.getId(), false)), any());
     }
 
     @Test
     @DisplayName("getItemById_whenOwnerOfItemInvokedAndNoComments_thenItemInfoDtoWithoutCommentsReturned")
     void getItemById_whenOwnerOfItemInvokedAndNoComments_thenItemInfoDtoWithoutCommentsReturned() {
         ItemInfoDto itemInfoDtoCheck = itemInfoDto1.toBuilder().lastBooking(itemInfoDtoBookingDto1)
-                .nextBooking(itemInfoDtoBookingDto2).comments(Collections.emptyList()).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
+                .nextBooking(itemInfoDtoBookingDto2).comments(Collections.emptyList()).commentsCount(0L)
+                .build();
+        when(itemRepository.findRowById(anyLong())).thenReturn(Optional.of(itemRow1));
         when(commentRepository.findAllCommentsByItemId(anyLong())).thenReturn(Collections.emptyList());
-        when(bookingRepository.findUserLastBooking(anyLong())).thenReturn(List.of(booking1));
-        when(bookingRepository.findUserNextBooking(anyLong())).thenReturn(List.of(booking2));
-        when(itemMapper.itemToItemInfoDto(any(Item.class))).thenReturn(itemInfoDto1);
-        when(bookingMapper.bookingToItemInfoDtoBookingDto(any(Booking.class))).thenAnswer((invocationOnMock) -> {
-            Booking booking = invocationOnMock.getArgument(0);
-            if (Objects.equals(booking, booking1)) {
+        when(itemBookingSummaryRepository.findLastAndNextBookings(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        itemBookingView(booking1, true), itemBookingView(booking2, false)));
+        when(itemMapper.itemRowToItemInfoDto(any(ItemRow.class))).thenReturn(itemInfoDto1);
+        when(bookingMapper.itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class)))
+                .thenAnswer((invocationOnMock) -> {
+            ItemBookingView booking = invocationOnMock.getArgument(0);
+            if (Objects.equals(booking.getId(), booking1.getId())) {
                 return itemInfoDtoBookingDto1;
-            } else if (Objects.equals(booking, booking2)) {
+            } else if (Objects.equals(booking.getId(), booking2.getId())) {
                 return itemInfoDtoBookingDto2;
             }
             return null;
@@ -693,13 +766,14 @@ public class ItemServiceTest {
 
         assertNotNull(itemInfoDto);
         assertEquals(itemInfoDtoCheck, itemInfoDto);
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(itemRepository, times(1)).findRowById(anyLong());
         verify(commentRepository, times(1)).findAllCommentsByItemId(anyLong());
-        verify(bookingRepository, times(1)).findUserLastBooking(anyLong());
-        verify(bookingRepository, times(1)).findUserNextBooking(anyLong());
-        verify(itemMapper, times(1)).itemToItemInfoDto(any(Item.class));
-        verify(bookingMapper, times(2)).bookingToItemInfoDtoBookingDto(any(Booking.class));
+        verify(itemBookingSummaryRepository, times(1)).findLastAndNextBookings(eq(List.of(item1.getId())),
+                any(LocalDateTime.class));
+        verify(bookingRepository, never()).findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class));
+        verify(itemMapper, times(1)).itemRowToItemInfoDto(any(ItemRow.class));
+        verify(bookingMapper, times(2)).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
         verify(commentMapper, never()).commentToCommentDto(any(Comment.class));
     }
 
@@ -707,14 +781,16 @@ public class ItemServiceTest {
     @DisplayName("getItemById_whenOwnerOfItemInvokedAndNoNextBooking_thenItemInfoDtoWithoutNextBookingReturned")
     void getItemById_whenOwnerOfItemInvokedAndNoNextBooking_thenItemInfoDtoWithoutNextBookingReturned() {
         ItemInfoDto itemInfoDtoCheck = itemInfoDto1.toBuilder().lastBooking(itemInfoDtoBookingDto1)
-                .comments(List.of(commentDto1, commentDto2)).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
+                .comments(List.of(commentDto1, commentDto2)).commentsCount(2L)
+                .build();
+        when(itemRepository.findRowById(anyLong())).thenReturn(Optional.of(itemRow1));
         when(commentRepository.findAllCommentsByItemId(anyLong())).thenReturn(List.of(comment1, comment2));
-        when(bookingRepository.findUserLastBooking(anyLong())).thenReturn(List.of(booking1));
-        when(bookingRepository.findUserNextBooking(anyLong())).thenReturn(Collections.emptyList());
-        when(itemMapper.itemToItemInfoDto(any(Item.class))).thenReturn(itemInfoDto1);
-        when(bookingMapper.bookingToItemInfoDtoBookingDto(any(Booking.class))).thenReturn(itemInfoDtoBookingDto1);
+        when(itemBookingSummaryRepository.findLastAndNextBookings(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        itemBookingView(booking1, true)));
+        when(itemMapper.itemRowToItemInfoDto(any(ItemRow.class))).thenReturn(itemInfoDto1);
+        when(bookingMapper.itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class)))
+                .thenReturn(itemInfoDtoBookingDto1);
         when(commentMapper.commentToCommentDto(any(Comment.class))).thenAnswer((invocationOnMock) -> {
             Comment comment = invocationOnMock.getArgument(0);
             if (Objects.equals(comment, comment1)) {
@@ -729,13 +805,14 @@ public class ItemServiceTest {
 
         assertNotNull(itemInfoDto);
         assertEquals(itemInfoDtoCheck, itemInfoDto);
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(itemRepository, times(1)).findRowById(anyLong());
         verify(commentRepository, times(1)).findAllCommentsByItemId(anyLong());
-        verify(bookingRepository, times(1)).findUserLastBooking(anyLong());
-        verify(bookingRepository, times(1)).findUserNextBooking(anyLong());
-        verify(itemMapper, times(1)).itemToItemInfoDto(any(Item.class));
-        verify(bookingMapper, times(1)).bookingToItemInfoDtoBookingDto(any(Booking.class));
+        verify(itemBookingSummaryRepository, times(1)).findLastAndNextBookings(eq(List.of(item1.getId())),
+                any(LocalDateTime.class));
+        verify(bookingRepository, never()).findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class));
+        verify(itemMapper, times(1)).itemRowToItemInfoDto(any(ItemRow.class));
+        verify(bookingMapper, times(1)).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
         verify(commentMapper, times(2)).commentToCommentDto(any(Comment.class));
     }
 
@@ -743,14 +820,16 @@ public class ItemServiceTest {
     @DisplayName("getItemById_whenOwnerOfItemInvokedAndNoLastBooking_thenItemInfoDtoWithoutLastBookingReturned")
     void getItemById_whenOwnerOfItemInvokedAndNoLastBooking_thenItemInfoDtoWithoutLastBookingReturned() {
         ItemInfoDto itemInfoDtoCheck = itemInfoDto1.toBuilder().nextBooking(itemInfoDtoBookingDto2)
-                .comments(List.of(commentDto1, commentDto2)).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
+                .comments(List.of(commentDto1, commentDto2)).commentsCount(2L)
+                .build();
+        when(itemRepository.findRowById(anyLong())).thenReturn(Optional.of(itemRow1));
         when(commentRepository.findAllCommentsByItemId(anyLong())).thenReturn(List.of(comment1, comment2));
-        when(bookingRepository.findUserLastBooking(anyLong())).thenReturn(Collections.emptyList());
-        when(bookingRepository.findUserNextBooking(anyLong())).thenReturn(List.of(booking2));
-        when(itemMapper.itemToItemInfoDto(any(Item.class))).thenReturn(itemInfoDto1);
-        when(bookingMapper.bookingToItemInfoDtoBookingDto(any(Booking.class))).thenReturn(itemInfoDtoBookingDto2);
+        when(itemBookingSummaryRepository.findLastAndNextBookings(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        itemBookingView(booking2, false)));
+        when(itemMapper.itemRowToItemInfoDto(any(ItemRow.class))).thenReturn(itemInfoDto1);
+        when(bookingMapper.itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class)))
+                .thenReturn(itemInfoDtoBookingDto2);
         when(commentMapper.commentToCommentDto(any(Comment.class))).thenAnswer((invocationOnMock) -> {
             Comment comment = invocationOnMock.getArgument(0);
             if (Objects.equals(comment, comment1)) {
@@ -765,52 +844,53 @@ public class ItemServiceTest {
 
         assertNotNull(itemInfoDto);
         assertEquals(itemInfoDtoCheck, itemInfoDto);
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(itemRepository, times(1)).findRowById(anyLong());
         verify(commentRepository, times(1)).findAllCommentsByItemId(anyLong());
-        verify(bookingRepository, times(1)).findUserLastBooking(anyLong());
-        verify(bookingRepository, times(1)).findUserNextBooking(anyLong());
-        verify(itemMapper, times(1)).itemToItemInfoDto(any(Item.class));
-        verify(bookingMapper, times(1)).bookingToItemInfoDtoBookingDto(any(Booking.class));
+        verify(itemBookingSummaryRepository, times(1)).findLastAndNextBookings(eq(List.of(item1.getId())),
+                any(LocalDateTime.class));
+        verify(bookingRepository, never()).findLastAndNextBookingsForItems(anyCollection(), any(LocalDateTime.class));
+        verify(itemMapper, times(1)).itemRowToItemInfoDto(any(ItemRow.class));
+        verify(bookingMapper, times(1)).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
         verify(commentMapper, times(2)).commentToCommentDto(any(Comment.class));
     }
 
     @Test
     @DisplayName("getItemById_whenItemNotFound_thenNotFoundExceptionThrown")
     void getItemById_whenItemNotFound_thenNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(itemRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(itemRepository.findRowById(anyLong())).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 itemService.getItemById(999L, user1.getId()));
 
         assertEquals("Item with id 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(itemRepository, times(1)).findRowById(anyLong());
         verify(commentRepository, never()).findAllCommentsByItemId(anyLong());
-        verify(bookingRepository, never()).findUserLastBooking(anyLong());
-        verify(bookingRepository, never()).findUserNextBooking(anyLong());
-        verify(itemMapper, never()).itemToItemInfoDto(any(Item.class));
-        verify(bookingMapper, never()).bookingToItemInfoDtoBookingDto(any(Booking.class));
+        verify(itemBookingSummaryRepository, never()).findLastAndNextBookings(anyCollection(),
+                any(LocalDateTime.class));
+        verify(itemMapper, never()).itemRowToItemInfoDto(any(ItemRow.class));
+        verify(bookingMapper, never()).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
         verify(commentMapper, never()).commentToCommentDto(any(Comment.class));
     }
 
     @Test
     @DisplayName("getItemById_whenUserNotFound_thenNotFoundExceptionThrown")
     void getItemById_whenUserNotFound_thenNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("User with id 999 not found"))
+                .when(userExistenceChecker).checkUserExists(anyLong());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 itemService.getItemById(item1.getId(), 999L));
 
         assertEquals("User with id 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRepository, never()).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(itemRepository, never()).findRowById(anyLong());
         verify(commentRepository, never()).findAllCommentsByItemId(anyLong());
-        verify(bookingRepository, never()).findUserLastBooking(anyLong());
-        verify(bookingRepository, never()).findUserNextBooking(anyLong());
-        verify(itemMapper, never()).itemToItemInfoDto(any(Item.class));
-        verify(bookingMapper, never()).bookingToItemInfoDtoBookingDto(any(Booking.class));
+        verify(itemBookingSummaryRepository, never()).findLastAndNextBookings(anyCollection(),
+                any(LocalDateTime.class));
+        verify(itemMapper, never()).itemRowToItemInfoDto(any(ItemRow.class));
+        verify(bookingMapper, never()).itemBookingViewToItemInfoDtoBookingDto(any(ItemBookingView.class));
         verify(commentMapper, never()).commentToCommentDto(any(Comment.class));
     }
 
@@ -824,7 +904,6 @@ public class ItemServiceTest {
         ItemDto updatedItemDto = itemDto1.toBuilder().name("updatedItem").description("updatedDescription")
                 .available(Boolean.FALSE).build();
         ItemDto updatedItemDtoCheck = updatedItemDto.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
         when(itemMapper.updateItem(any(Item.class), any(Item.class))).thenReturn(updatedItem);
         when(itemRepository.save(any(Item.class))).thenReturn(updatedItem);
@@ -834,11 +913,13 @@ public class ItemServiceTest {
 
         assertNotNull(itemDto);
         assertEquals(updatedItemDtoCheck, itemDto);
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRepository, times(1)).findById(anyLong());
         verify(itemMapper, times(1)).updateItem(any(Item.class), any(Item.class));
         verify(itemRepository, times(1)).save(any(Item.class));
+        verify(requestFeedUpdater, times(1)).itemSaved(any(Item.class));
         verify(itemMapper, times(1)).itemToItemDto(any(Item.class));
+        verify(bookingListCache, times(1)).invalidateAll();
     }
 
     @Test
@@ -847,7 +928,6 @@ public class ItemServiceTest {
         Item itemToUpdate = Item.builder().build();
         ItemDto updatedItemDto = itemDto1.toBuilder().build();
         ItemDto updatedItemDtoCheck = updatedItemDto.toBuilder().build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item1));
         when(itemMapper.updateItem(any(Item.class), any(Item.class))).thenReturn(item1);
         when(itemRepository.save(any(Item.class))).thenReturn(item1);
@@ -857,10 +937,11 @@ public class ItemServiceTest {
 
         assertNotNull(itemDto);
         assertEquals(updatedItemDtoCheck, itemDto);
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRepository, times(1)).findById(anyLong());
         verify(itemMapper, times(1)).updateItem(any(Item.class), any(Item.class));
         verify(itemRepository, times(1)).save(any(Item.class));
+        verify(requestFeedUpdater, times(1)).itemSaved(any(Item.class));
         verify(itemMapper, times(1)).itemToItemDto(any(Item.class));
     }
 
@@ -869,17 +950,17 @@ public class ItemServiceTest {
     void updateItem_whenItemNotFound_thenNotFoundExceptionThrown() {
         Item itemToUpdate = Item.builder().name("updatedItem").description("updatedDescription")
                 .available(Boolean.FALSE).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(itemRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 itemService.updateItem(999L, itemToUpdate, user1.getId()));
 
         assertEquals("Item with id 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRepository, times(1)).findById(anyLong());
         verify(itemMapper, never()).updateItem(any(Item.class), any(Item.class));
         verify(itemRepository, never()).save(any(Item.class));
+        verify(requestFeedUpdater, never()).itemSaved(any(Item.class));
         verify(itemMapper, never()).itemToItemDto(any(Item.class));
     }
 
@@ -888,16 +969,18 @@ public class ItemServiceTest {
     void updateItem_whenUserNotFound_thenNotFoundExceptionThrown() {
         Item itemToUpdate = Item.builder().name("updatedItem").description("updatedDescription")
                 .available(Boolean.FALSE).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("User with id 999 not found"))
+                .when(userExistenceChecker).checkUserExists(anyLong());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 itemService.updateItem(item1.getId(), itemToUpdate, 999L));
 
         assertEquals("User with id 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRepository, never()).findById(anyLong());
         verify(itemMapper, never()).updateItem(any(Item.class), any(Item.class));
         verify(itemRepository, never()).save(any(Item.class));
+        verify(requestFeedUpdater, never()).itemSaved(any(Item.class));
         verify(itemMapper, never()).itemToItemDto(any(Item.class));
     }
 
@@ -910,8 +993,8 @@ public class ItemServiceTest {
                 .available(Boolean.TRUE).build();
         ItemDto itemDtoCheck1 = itemDto1.toBuilder().build();
         ItemDto itemDtoCheck2 = itemDto2.toBuilder().build();
-        when(itemRepository.searchItems(anyString(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(item1, item2)));
+        when(itemSearchEngine.search(anyString(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(item1, item2)));
         when(itemMapper.itemToItemDto(any(Item.class))).thenAnswer((invocationOnMock) -> {
             Item item = invocationOnMock.getArgument(0);
             if (Objects.equals(item, item1)) {
@@ -928,21 +1011,21 @@ public class ItemServiceTest {
         assertEquals(2, itemDtos.size());
         assertEquals(itemDtoCheck1, itemDtos.get(0));
         assertEquals(itemDtoCheck2, itemDtos.get(1));
-        verify(itemRepository, times(1)).searchItems(anyString(), any(Pageable.class));
+        verify(itemSearchEngine, times(1)).search(anyString(), any(Pageable.class));
         verify(itemMapper, times(2)).itemToItemDto(any(Item.class));
     }
 
     @Test
     @DisplayName("searchItems_whenNoItems_thenEmptyListReturned")
     void searchItems_whenNoItems_thenEmptyListReturned() {
-        when(itemRepository.searchItems(anyString(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(itemSearchEngine.search(anyString(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<ItemDto> itemDtos = itemService.searchItems("item", 1, 2);
 
         assertNotNull(itemDtos);
         assertTrue(itemDtos.isEmpty());
-        verify(itemRepository, times(1)).searchItems(anyString(), any(Pageable.class));
+        verify(itemSearchEngine, times(1)).search(anyString(), any(Pageable.class));
         verify(itemMapper, never()).itemToItemDto(any(Item.class));
     }
 
@@ -953,10 +1036,26 @@ public class ItemServiceTest {
 
         assertNotNull(itemDtos);
         assertTrue(itemDtos.isEmpty());
-        verify(itemRepository, never()).searchItems(anyString(), any(Pageable.class));
+        verify(itemSearchEngine, never()).search(anyString(), any(Pageable.class));
         verify(itemMapper, never()).itemToItemDto(any(Item.class));
     }
 
+    @Test
+    @DisplayName("searchItemsAfter_whenPageIsFull_thenItemsAndNextCursorReturned")
+    void searchItemsAfter_whenPageIsFull_thenItemsAndNextCursorReturned() {
+        ItemDto itemDtoCheck1 = itemDto1.toBuilder().build();
+        when(itemSearchEngine.searchAfter(anyString(), anyLong(), any(Pageable.class))).thenReturn(List.of(item1));
+        when(itemMapper.itemToItemDto(any(Item.class))).thenReturn(itemDto1);
+
+        CursorPage<ItemDto> itemDtos = itemService.searchItemsAfter("item", null, 1);
+
+        assertNotNull(itemDtos);
+        assertEquals(List.of(itemDtoCheck1), itemDtos.getContent());
+        assertEquals(PageCursor.encode(item1.getId()), itemDtos.getNextCursor());
+        verify(itemSearchEngine, times(1)).searchAfter(anyString(), anyLong(), any(Pageable.class));
+        verify(itemMapper, times(1)).itemToItemDto(any(Item.class));
+    }
+
     @Test
     @DisplayName("createComment_whenInvoke_thenCommentDtoWithIdReturned")
     void createComment_whenInvoke_thenCommentDtoWithIdReturned() {
@@ -980,6 +1079,8 @@ public class ItemServiceTest {
         verify(bookingRepository, times(1))
                 .findAllFinishedBookingsByUserAndItem(anyLong(), anyLong());
         verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(outboxWriter, times(1)).append(eq(OutboxEvent.AggregateType.COMMENT), eq(comment1.getId()),
+                eq("CREATED"), any(CommentEventDto.class));
         verify(commentMapper, times(1)).commentToCommentDto(any(Comment.class));
     }
 
@@ -1038,4 +1139,17 @@ public class ItemServiceTest {
         verify(commentRepository, never()).save(any(Comment.class));
         verify(commentMapper, never()).commentToCommentDto(any(Comment.class));
     }
+
+    private static ItemBookingView itemBookingView(Booking booking, boolean last) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ItemBookingView.class, Map.of(
+                "id", booking.getId(), "status", booking.getStatus(), "start", booking.getStart(),
+                "end", booking.getEnd(), "itemId", booking.getItem().getId(),
+                "bookerId", booking.getBooker().getId(), "last", last));
+    }
+
+    private static CommentView commentView(Comment comment, Long total) {
+        return new SpelAwareProxyProjectionFactory().createProjection(CommentView.class, Map.of(
+                "id", comment.getId(), "text", comment.getText(), "authorName", comment.getAuthor().getName(),
+                "created", comment.getCreated(), "itemId", comment.getItem().getId(), "total", total));
+    }
 }
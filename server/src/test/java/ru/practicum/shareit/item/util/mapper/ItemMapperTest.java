@@ -89,6 +89,7 @@ public class ItemMapperTest {
         assertEquals(updatedItem.getDescription(), convertedItem.getDescription());
         assertEquals(updatedItem.getAvailable(), convertedItem.getAvailable());
         assertEquals(updatedItem.getOwner(), convertedItem.getOwner());
+        assertEquals(updatedItem.getItemRequest(), convertedItem.getItemRequest());
     }
 
     @ParameterizedTest
@@ -228,6 +229,13 @@ public class ItemMapperTest {
                         Item.builder().id(1L).name("updatedItem").description("itemDescription")
                                 .available(Boolean.TRUE).owner(user).build(),
                         "Update name only"),
+                arguments(
+                        Item.builder().id(1L).name("item").description("itemDescription")
+                                .available(Boolean.TRUE).owner(user).itemRequest(itemRequest).build(),
+                        Item.builder().name("updatedItem").build(),
+                        Item.builder().id(1L).name("updatedItem").description("itemDescription")
+                                .available(Boolean.TRUE).owner(user).itemRequest(itemRequest).build(),
+                        "Update name of item answering request"),
                 arguments(
                         Item.builder().id(1L).name("item").description("itemDescription")
                                 .available(Boolean.TRUE).owner(user).build(),
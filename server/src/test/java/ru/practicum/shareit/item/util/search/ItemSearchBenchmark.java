@@ -0,0 +1,115 @@
+package ru.practicum.shareit.item.util.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the LIKE and pg_trgm search queries on a PostgreSQL table with one million items.
+ * Needs a running database, by default the one from docker-compose (localhost:6541);
+ * another one can be set with SHAREIT_BENCHMARK_DB_URL, SHAREIT_BENCHMARK_DB_USER and SHAREIT_BENCHMARK_DB_PASSWORD.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ItemSearchBenchmark {
+    private static final int ITEMS = 1_000_000;
+    private static final int WORDS = 5_000;
+    private static final int PAGE_SIZE = 10;
+    private static final String LIKE_CONDITION = "is_available " +
+            "AND (LOWER(name) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(description) LIKE LOWER(CONCAT('%', ?, '%')))";
+    private static final String TRIGRAM_CONDITION = "is_available " +
+            "AND (name ILIKE CONCAT('%', ?, '%') OR description ILIKE CONCAT('%', ?, '%'))";
+
+    private Connection connection;
+    private PreparedStatement likeStatement;
+    private PreparedStatement likeCountStatement;
+    private PreparedStatement trigramStatement;
+    private PreparedStatement trigramCountStatement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("SHAREIT_BENCHMARK_DB_URL", "jdbc:postgresql://localhost:6541/shareit"),
+                env("SHAREIT_BENCHMARK_DB_USER", "shareit"),
+                env("SHAREIT_BENCHMARK_DB_PASSWORD", "shareit"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            statement.execute("DROP TABLE IF EXISTS items_search_benchmark");
+            statement.execute("CREATE TABLE items_search_benchmark (item_id BIGINT PRIMARY KEY, " +
+                    "name VARCHAR(255) NOT NULL, description VARCHAR(512) NOT NULL, is_available BOOLEAN NOT NULL)");
+            statement.execute("INSERT INTO items_search_benchmark " +
+                    "SELECT g, CONCAT('tool', g % " + WORDS + ", ' ', md5(g::text)), " +
+                    "CONCAT('description of item ', md5((g * 7)::text), ' kit', g % " + WORDS + "), g % 10 <> 0 " +
+                    "FROM generate_series(1, " + ITEMS + ") AS g");
+            statement.execute("CREATE INDEX ix_items_search_benchmark_name_trgm ON items_search_benchmark " +
+                    "USING GIN (name gin_trgm_ops)");
+            statement.execute("CREATE INDEX ix_items_search_benchmark_description_trgm ON items_search_benchmark " +
+                    "USING GIN (description gin_trgm_ops)");
+            statement.execute("ANALYZE items_search_benchmark");
+        }
+        likeStatement = connection.prepareStatement("SELECT * FROM items_search_benchmark WHERE " +
+                LIKE_CONDITION + " LIMIT " + PAGE_SIZE);
+        likeCountStatement = connection.prepareStatement("SELECT COUNT(*) FROM items_search_benchmark WHERE " +
+                LIKE_CONDITION);
+        trigramStatement = connection.prepareStatement("SELECT * FROM items_search_benchmark WHERE " +
+                TRIGRAM_CONDITION + " ORDER BY GREATEST(word_similarity(?, name), word_similarity(?, description)) " +
+                "DESC, item_id LIMIT " + PAGE_SIZE);
+        trigramCountStatement = connection.prepareStatement("SELECT COUNT(*) FROM items_search_benchmark WHERE " +
+                TRIGRAM_CONDITION);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS items_search_benchmark");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long like() throws SQLException {
+        String text = randomText();
+        return page(likeStatement, likeCountStatement, text, 2);
+    }
+
+    @Benchmark
+    public long trigram() throws SQLException {
+        String text = randomText();
+        return page(trigramStatement, trigramCountStatement, text, 4);
+    }
+
+    private static long page(PreparedStatement select, PreparedStatement count, String text, int selectParams)
+            throws SQLException {
+        for (int i = 1; i <= selectParams; i++) {
+            select.setString(i, text);
+        }
+        long rows = 0;
+        try (ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        count.setString(1, text);
+        count.setString(2, text);
+        try (ResultSet resultSet = count.executeQuery()) {
+            resultSet.next();
+            return rows + resultSet.getLong(1);
+        }
+    }
+
+    private static String randomText() {
+        return (ThreadLocalRandom.current().nextBoolean() ? "Tool" : "KIT") +
+                ThreadLocalRandom.current().nextInt(WORDS);
+    }
+
+    private static String env(String name, String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+}
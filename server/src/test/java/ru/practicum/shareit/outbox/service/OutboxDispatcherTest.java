@@ -0,0 +1,190 @@
+package ru.practicum.shareit.outbox.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+import ru.practicum.shareit.outbox.model.OutboxEvent;
+import ru.practicum.shareit.outbox.repository.OutboxEventRepository;
+import ru.practicum.shareit.outbox.sink.OutboxSink;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class OutboxDispatcherTest {
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    MeterRegistry meterRegistry;
+    MutableClock clock;
+    List<OutboxMessage> delivered;
+    List<OutboxEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+        delivered = new ArrayList<>();
+        events = new ArrayList<>();
+        for (long bookingId = 1; bookingId <= 3; bookingId++) {
+            events.add(outboxEventRepository.save(OutboxEvent.builder()
+                    .aggregateType(OutboxEvent.AggregateType.BOOKING)
+                    .aggregateId(bookingId)
+                    .type("CREATED")
+                    .payload("{\"bookingId\":" + bookingId + "}")
+                    .created(LocalDateTime.now(clock))
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void clearDatabase() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("dispatchBatch_whenEventsWritten_thenDeliveredInBatchesAndDeleted")
+    void dispatchBatch_whenEventsWritten_thenDeliveredInBatchesAndDeleted() {
+        OutboxDispatcher outboxDispatcher = dispatcher(List.of(delivered::addAll));
+
+        assertEquals(2, outboxDispatcher.dispatchBatch());
+        assertEquals(1, outboxDispatcher.dispatchBatch());
+        assertEquals(0, outboxDispatcher.dispatchBatch());
+
+        assertEquals(events.stream().map(OutboxEvent::getId).collect(Collectors.toList()),
+                delivered.stream().map(OutboxMessage::getId).collect(Collectors.toList()));
+        assertEquals("{\"bookingId\":1}", delivered.get(0).getPayload());
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(3, meterRegistry.counter("shareit.outbox.events", "result", "delivered").count());
+    }
+
+    @Test
+    @DisplayName("dispatchBatch_whenSinkFails_thenEventsKeptAndRetriedAfterBackoff")
+    void dispatchBatch_whenSinkFails_thenEventsKeptAndRetriedAfterBackoff() {
+        OutboxSink failingSink = messages -> {
+            throw new IllegalStateException("Webhook is not available");
+        };
+        OutboxDispatcher outboxDispatcher = dispatcher(List.of(delivered::addAll, failingSink), 2);
+
+        assertEquals(-1, outboxDispatcher.dispatchBatch());
+
+        assertEquals(2, delivered.size());
+        assertEquals(3, outboxEventRepository.count());
+        OutboxEvent failedEvent = outboxEventRepository.findById(events.get(0).getId()).orElseThrow();
+        assertEquals(1, failedEvent.getAttempts());
+        assertEquals(LocalDateTime.now(clock).plusSeconds(1), failedEvent.getNextAttempt());
+        assertEquals(0, outboxEventRepository.findById(events.get(2).getId()).orElseThrow().getAttempts());
+        assertEquals(2, meterRegistry.counter("shareit.outbox.events", "result", "failed").count());
+
+        assertEquals(-1, outboxDispatcher.dispatchBatch());
+        assertEquals(3, delivered.size());
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(-1, outboxDispatcher.dispatchBatch());
+        assertEquals(LocalDateTime.now(clock).plusSeconds(2),
+                outboxEventRepository.findById(events.get(0).getId()).orElseThrow().getNextAttempt());
+    }
+
+    @Test
+    @DisplayName("dispatchBatch_whenSinkAlwaysFailsForEvent_thenLaterEventsDeliveredAndEventDead")
+    void dispatchBatch_whenSinkAlwaysFailsForEvent_thenLaterEventsDeliveredAndEventDead() {
+        Long poisonId = events.get(0).getId();
+        OutboxSink failingSink = messages -> {
+            if (messages.stream().anyMatch(message -> message.getId().equals(poisonId))) {
+                throw new IllegalStateException("Event is rejected");
+            }
+            delivered.addAll(messages);
+        };
+        OutboxDispatcher outboxDispatcher = dispatcher(List.of(failingSink), 1);
+
+        assertEquals(-1, outboxDispatcher.dispatchBatch());
+        assertEquals(1, outboxDispatcher.dispatchBatch());
+        assertEquals(1, outboxDispatcher.dispatchBatch());
+        assertEquals(0, outboxDispatcher.dispatchBatch());
+        assertEquals(List.of(events.get(1).getId(), events.get(2).getId()),
+                delivered.stream().map(OutboxMessage::getId).collect(Collectors.toList()));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(-1, outboxDispatcher.dispatchBatch());
+        clock.advance(Duration.ofSeconds(2));
+        assertEquals(-1, outboxDispatcher.dispatchBatch());
+        clock.advance(Duration.ofMinutes(1));
+        assertEquals(0, outboxDispatcher.dispatchBatch());
+
+        OutboxEvent deadEvent = outboxEventRepository.findById(poisonId).orElseThrow();
+        assertEquals(OutboxEvent.Status.DEAD, deadEvent.getStatus());
+        assertEquals(3, deadEvent.getAttempts());
+        assertEquals(1, outboxEventRepository.count());
+        assertEquals(1, meterRegistry.counter("shareit.outbox.events", "result", "dead").count());
+    }
+
+    @Test
+    @DisplayName("dispatchBatch_whenBatchClaimed_thenNotClaimedAgainUntilLeaseExpires")
+    void dispatchBatch_whenBatchClaimed_thenNotClaimedAgainUntilLeaseExpires() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        outboxEventRepository.saveAll(events.stream()
+                .map(event -> event.toBuilder().nextAttempt(now.plusMinutes(1)).build())
+                .collect(Collectors.toList()));
+        OutboxDispatcher outboxDispatcher = dispatcher(List.of(delivered::addAll), 3);
+
+        assertEquals(0, outboxDispatcher.dispatchBatch());
+        clock.advance(Duration.ofMinutes(1));
+        assertEquals(3, outboxDispatcher.dispatchBatch());
+    }
+
+    private OutboxDispatcher dispatcher(List<OutboxSink> sinks) {
+        return dispatcher(sinks, 2);
+    }
+
+    private OutboxDispatcher dispatcher(List<OutboxSink> sinks, int batchSize) {
+        return new OutboxDispatcher(outboxEventRepository, sinks, transactionManager, meterRegistry, clock, 1,
+                batchSize, Duration.ofMillis(100), Duration.ofMinutes(1), 3, Duration.ofSeconds(1),
+                Duration.ofMinutes(1));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.outbox.sink;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestClientException;
+import ru.practicum.shareit.outbox.dto.OutboxMessage;
+import ru.practicum.shareit.outbox.model.OutboxEvent;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Posts to a local webhook stub answering with {@code status}.
+ */
+public class WebhookOutboxSinkTest {
+    HttpServer webhook;
+    List<String> received;
+    volatile int status;
+    WebhookOutboxSink webhookOutboxSink;
+    OutboxMessage message;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        received = new CopyOnWriteArrayList<>();
+        status = 204;
+        webhook = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        webhook.createContext("/events", exchange -> {
+            received.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        webhook.start();
+        webhookOutboxSink = new WebhookOutboxSink(new RestTemplateBuilder(),
+                "http://localhost:" + webhook.getAddress().getPort() + "/events", Duration.ofSeconds(2));
+        message = OutboxMessage.builder()
+                .id(1L)
+                .aggregateType(OutboxEvent.AggregateType.BOOKING)
+                .aggregateId(1L)
+                .type("CREATED")
+                .payload("{\"bookingId\":1}")
+                .created(LocalDateTime.of(2025, 1, 15, 10, 15))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        webhook.stop(0);
+    }
+
+    @Test
+    @DisplayName("deliver_whenWebhookAccepts_thenBatchPostedAsJsonArray")
+    void deliver_whenWebhookAccepts_thenBatchPostedAsJsonArray() {
+        webhookOutboxSink.deliver(List.of(message));
+
+        assertEquals(1, received.size());
+        assertEquals("[{\"id\":1,\"aggregateType\":\"BOOKING\",\"aggregateId\":1,\"type\":\"CREATED\"," +
+                "\"payload\":{\"bookingId\":1},\"created\":\"2025-01-15T10:15:00\"}]", received.get(0));
+    }
+
+    @Test
+    @DisplayName("deliver_whenWebhookFails_thenExceptionThrown")
+    void deliver_whenWebhookFails_thenExceptionThrown() {
+        status = 503;
+
+        assertThrows(RestClientException.class, () -> webhookOutboxSink.deliver(List.of(message)));
+        assertEquals(1, received.size());
+    }
+}
@@ -7,8 +7,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
@@ -16,10 +17,16 @@ import ru.practicum.shareit.item.util.mapper.ItemMapper;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.RequestFeedEntry;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.RequestFeedRepository;
+import ru.practicum.shareit.request.util.feed.RequestFeedUpdater;
 import ru.practicum.shareit.request.util.mapper.ItemRequestMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+import ru.practicum.shareit.util.CursorPage;
+import ru.practicum.shareit.util.PageCursor;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -35,8 +42,14 @@ public class ItemRequestServiceTest {
     @Mock
     ItemRequestRepository itemRequestRepository;
     @Mock
+    RequestFeedRepository requestFeedRepository;
+    @Mock
+    RequestFeedUpdater requestFeedUpdater;
+    @Mock
     UserRepository userRepository;
     @Mock
+    UserExistenceChecker userExistenceChecker;
+    @Mock
     ItemRepository itemRepository;
     @Mock
     ItemMapper itemMapper;
@@ -104,7 +117,7 @@ public class ItemRequestServiceTest {
         ItemRequest itemRequest = ItemRequest.builder().description("itemRequestDescription1").build();
         ItemRequestDto itemRequestDtoCheck = itemRequestDto1.toBuilder().build();
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(itemRequestRepository.save(any(ItemRequest.class))).thenReturn(itemRequest1);
+        when(itemRequestRepository.saveAndFlush(any(ItemRequest.class))).thenReturn(itemRequest1);
         when(itemRequestMapper.itemRequestToItemRequestDto(any(ItemRequest.class))).thenReturn(itemRequestDto1);
 
         ItemRequestDto createdItemRequestDto = itemRequestService.createItemRequest(itemRequest, user1.getId());
@@ -114,7 +127,8 @@ public class ItemRequestServiceTest {
         assertEquals(itemRequestDtoCheck.getDescription(), createdItemRequestDto.getDescription());
         assertEquals(itemRequestDtoCheck.getCreated(), createdItemRequestDto.getCreated());
         verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRequestRepository, times(1)).save(any(ItemRequest.class));
+        verify(itemRequestRepository, times(1)).saveAndFlush(any(ItemRequest.class));
+        verify(requestFeedUpdater, times(1)).requestCreated(itemRequest1);
         verify(itemRequestMapper, times(1)).itemRequestToItemRequestDto(any(ItemRequest.class));
     }
 
@@ -129,7 +143,8 @@ public class ItemRequestServiceTest {
 
         assertEquals("User with id 999 not found", exception.getMessage());
         verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRequestRepository, never()).save(any(ItemRequest.class));
+        verify(itemRequestRepository, never()).saveAndFlush(any(ItemRequest.class));
+        verify(requestFeedUpdater, never()).requestCreated(any(ItemRequest.class));
         verify(itemRequestMapper, never()).itemRequestToItemRequestDto(any(ItemRequest.class));
     }
 
@@ -146,7 +161,6 @@ public class ItemRequestServiceTest {
                 .build();
         List<ItemRequestInfoDto> itemRequestInfoDtosStandard = List.of(itemRequestInfoDtoStandard1,
                 itemRequestInfoDtoStandard2);
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(itemRequestRepository.findRequestByRequestorIdOrderByCreatedDesc(anyLong()))
                 .thenReturn(List.of(itemRequest1, itemRequest2));
         when(itemRepository.findAllByItemRequestIn(anyList())).thenReturn(List.of(item1, item2, item3, item4));
@@ -185,7 +199,7 @@ public class ItemRequestServiceTest {
         assertFalse(itemRequestInfoDtos.get(0).getItems().isEmpty());
         assertFalse(itemRequestInfoDtos.get(1).getItems().isEmpty());
         assertEquals(itemRequestInfoDtosStandard, itemRequestInfoDtos);
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRequestRepository, times(1))
                 .findRequestByRequestorIdOrderByCreatedDesc(anyLong());
         verify(itemRepository, times(1)).findAllByItemRequestIn(anyList());
@@ -205,7 +219,6 @@ public class ItemRequestServiceTest {
                 .items(Collections.emptyList()).build();
         List<ItemRequestInfoDto> itemRequestInfoDtosStandard = List.of(itemRequestInfoDtoStandard1,
                 itemRequestInfoDtoStandard2);
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(itemRequestRepository.findRequestByRequestorIdOrderByCreatedDesc(anyLong()))
                 .thenReturn(List.of(itemRequest1, itemRequest2));
         when(itemRepository.findAllByItemRequestIn(anyList())).thenReturn(Collections.emptyList());
@@ -230,7 +243,7 @@ public class ItemRequestServiceTest {
         assertTrue(itemRequestInfoDtos.get(0).getItems().isEmpty());
         assertTrue(itemRequestInfoDtos.get(1).getItems().isEmpty());
         assertEquals(itemRequestInfoDtosStandard, itemRequestInfoDtos);
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRequestRepository, times(1))
                 .findRequestByRequestorIdOrderByCreatedDesc(anyLong());
         verify(itemRepository, times(1)).findAllByItemRequestIn(anyList());
@@ -242,13 +255,14 @@ public class ItemRequestServiceTest {
     @Test
     @DisplayName("getAllItemRequestsByRequestor_whenUserNotExisted_thenNotFoundExceptionThrown")
     public void getAllItemRequestsByRequestor_whenUserNotExisted_thenNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("User with id 999 not found"))
+                .when(userExistenceChecker).checkUserExists(anyLong());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 itemRequestService.getAllItemRequestsByRequestor(999L));
 
         assertEquals("User with id 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRequestRepository, never()).findRequestByRequestorIdOrderByCreatedDesc(anyLong());
         verify(itemRepository, never()).findAllByItemRequestIn(anyList());
         verify(itemRequestMapper, never()).itemRequestToItemRequestInfoDto(any(ItemRequest.class));
@@ -258,7 +272,6 @@ public class ItemRequestServiceTest {
     @Test
     @DisplayName("getAllItemRequestsByRequestor_whenNoItemRequests_thenEmptyListReturned")
     public void getAllItemRequestsByRequestor_whenNoItemRequests_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(itemRequestRepository.findRequestByRequestorIdOrderByCreatedDesc(anyLong()))
                 .thenReturn(Collections.emptyList());
 
@@ -266,7 +279,7 @@ public class ItemRequestServiceTest {
 
         assertNotNull(itemRequestInfoDtos);
         assertTrue(itemRequestInfoDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRequestRepository, times(1))
                 .findRequestByRequestorIdOrderByCreatedDesc(anyLong());
         verify(itemRepository, never()).findAllByItemRequestIn(anyList());
@@ -275,240 +288,114 @@ public class ItemRequestServiceTest {
     }
 
     @Test
-    @DisplayName("getSeveralItemRequestsPaginated_whenInvoked_thenListOfItemRequestInfoDtoReturned")
-    public void getSeveralItemRequestsPaginated_whenInvoked_thenListOfItemRequestInfoDtoReturned() {
-        LocalDateTime created4 = LocalDateTime.now();
-        LocalDateTime created5 = LocalDateTime.now();
-        LocalDateTime created6 = LocalDateTime.now();
-        LocalDateTime created7 = LocalDateTime.now();
-        ItemRequest itemRequest4 = ItemRequest.builder().id(4L).description("itemRequestDescription4")
-                .created(created4).requestor(user2).build();
-        ItemRequest itemRequest5 = ItemRequest.builder().id(5L).description("itemRequestDescription5")
-                .created(created5).requestor(user2).build();
-        ItemRequest itemRequest6 = ItemRequest.builder().id(6L).description("itemRequestDescription6")
-                .created(created6).requestor(user2).build();
-        ItemRequest itemRequest7 = ItemRequest.builder().id(7L).description("itemRequestDescription7")
-                .created(created7).requestor(user2).build();
-        List<ItemRequest> pageItemRequests = List.of(itemRequest4,
-                itemRequest5, itemRequest6, itemRequest7);
-        Item item6 = Item.builder().id(6L).name("item6").description("itemDescription6")
-                .available(Boolean.TRUE).owner(user2).itemRequest(itemRequest4).build();
-        Item item7 = Item.builder().id(7L).name("item7").description("itemDescription7")
-                .available(Boolean.TRUE).owner(user2).itemRequest(itemRequest5).build();
-        Item item8 = Item.builder().id(8L).name("item8").description("itemDescription8")
-                .available(Boolean.TRUE).owner(user2).itemRequest(itemRequest6).build();
-        Item item9 = Item.builder().id(9L).name("item9").description("itemDescription9")
-                .available(Boolean.TRUE).owner(user2).itemRequest(itemRequest7).build();
-        List<Item> pageRequests = List.of(item6, item7, item8, item9);
-        ItemRequestInfoDto itemRequestInfoDto4 = ItemRequestInfoDto.builder().id(4L)
-                .description("itemRequestDescription4").created(created4).build();
-        ItemRequestInfoDto itemRequestInfoDto5 = ItemRequestInfoDto.builder().id(5L)
-                .description("itemRequestDescription5").created(created5).build();
-        ItemRequestInfoDto itemRequestInfoDto6 = ItemRequestInfoDto.builder().id(6L)
-                .description("itemRequestDescription6").created(created6).build();
-        ItemRequestInfoDto itemRequestInfoDto7 = ItemRequestInfoDto.builder().id(7L)
-                .description("itemRequestDescription7").created(created7).build();
-        ItemRequestInfoDto.ItemDto itemFromItemRequestInfoDto6 = ItemRequestInfoDto.ItemDto.builder()
-                .id(6L).name("item6").description("itemDescription6").available(Boolean.TRUE)
-                .requestId(itemRequest4.getId()).build();
-        ItemRequestInfoDto.ItemDto itemFromItemRequestInfoDto7 = ItemRequestInfoDto.ItemDto.builder()
-                .id(7L).name("item7").description("itemDescription7").available(Boolean.TRUE)
-                .requestId(itemRequest5.getId()).build();
-        ItemRequestInfoDto.ItemDto itemFromItemRequestInfoDto8 = ItemRequestInfoDto.ItemDto.builder()
-                .id(8L).name("item8").description("itemDescription8").available(Boolean.TRUE)
-                .requestId(itemRequest6.getId()).build();
-        ItemRequestInfoDto.ItemDto itemFromItemRequestInfoDto9 = ItemRequestInfoDto.ItemDto.builder()
-                .id(9L).name("item9").description("itemDescription9").available(Boolean.TRUE)
-                .requestId(itemRequest7.getId()).build();
-        ItemRequestInfoDto itemRequestInfoDtoWithRResponses4 = ItemRequestInfoDto.builder()
-                .id(itemRequestInfoDto4.getId()).description(itemRequestInfoDto4.getDescription())
-                .created(itemRequestInfoDto4.getCreated()).items(List.of(itemFromItemRequestInfoDto6)).build();
-        ItemRequestInfoDto itemRequestInfoDtoWithRResponses5 = ItemRequestInfoDto.builder()
-                .id(itemRequestInfoDto5.getId()).description(itemRequestInfoDto5.getDescription())
-                .created(itemRequestInfoDto5.getCreated()).items(List.of(itemFromItemRequestInfoDto7)).build();
-        ItemRequestInfoDto itemRequestInfoDtoWithRResponses6 = ItemRequestInfoDto.builder()
-                .id(itemRequestInfoDto6.getId()).description(itemRequestInfoDto6.getDescription())
-                .created(itemRequestInfoDto6.getCreated()).items(List.of(itemFromItemRequestInfoDto8)).build();
-        ItemRequestInfoDto itemRequestInfoDtoWithRResponses7 = ItemRequestInfoDto.builder()
-                .id(itemRequestInfoDto7.getId()).description(itemRequestInfoDto7.getDescription())
-                .created(itemRequestInfoDto7.getCreated()).items(List.of(itemFromItemRequestInfoDto9)).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(itemRequestRepository.findByRequestorIdNot(anyLong(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(pageItemRequests));
-        when(itemRepository.findAllByItemRequestIn(anyList())).thenReturn(pageRequests);
+    @DisplayName("getAllItemRequestsByRequestor_whenOnlySomeRequestsAnswered_thenUnansweredWithoutResponsesReturned")
+    public void getAllItemRequestsByRequestor_whenOnlySomeRequestsAnswered_thenUnansweredWithoutResponsesReturned() {
+        when(itemRequestRepository.findRequestByRequestorIdOrderByCreatedDesc(anyLong()))
+                .thenReturn(List.of(itemRequest1, itemRequest2));
+        when(itemRepository.findAllByItemRequestIn(anyList())).thenReturn(List.of(item1));
         when(itemRequestMapper.itemRequestToItemRequestInfoDto(any(ItemRequest.class)))
                 .thenAnswer((invocationOnMock) -> {
                     ItemRequest itemRequest = invocationOnMock.getArgument(0);
-                    if (Objects.equals(itemRequest.getId(), itemRequest4.getId())) {
-                        return itemRequestInfoDto4;
-                    } else if (Objects.equals(itemRequest.getId(), itemRequest5.getId())) {
-                        return itemRequestInfoDto5;
-                    } else if (Objects.equals(itemRequest.getId(), itemRequest6.getId())) {
-                        return itemRequestInfoDto6;
-                    } else if (Objects.equals(itemRequest.getId(), itemRequest7.getId())) {
-                        return itemRequestInfoDto7;
-                    }
-                    return null;
-                });
-        when(itemMapper.itemToItemRequestInfoDtoItemDto(any(Item.class)))
-                .thenAnswer((invocationOnMock) -> {
-                    Item item = invocationOnMock.getArgument(0);
-                    if (Objects.equals(item.getId(), item6.getId())) {
-                        return itemFromItemRequestInfoDto6;
-                    } else if (Objects.equals(item.getId(), item7.getId())) {
-                        return itemFromItemRequestInfoDto7;
-                    } else if (Objects.equals(item.getId(), item8.getId())) {
-                        return itemFromItemRequestInfoDto8;
-                    } else if (Objects.equals(item.getId(), item9.getId())) {
-                        return itemFromItemRequestInfoDto9;
-                    }
-                    return null;
+                    return Objects.equals(itemRequest.getId(), itemRequest1.getId())
+                            ? itemRequestInfoDto1 : itemRequestInfoDto2;
                 });
+        when(itemMapper.itemToItemRequestInfoDtoItemDto(item1)).thenReturn(itemFromItemRequestInfoDto1);
 
-        List<ItemRequestInfoDto> itemRequestInfoDtos = itemRequestService.getSeveralItemRequestsPaginated(
-                1, 4, user1.getId());
+        List<ItemRequestInfoDto> itemRequestInfoDtos = itemRequestService.getAllItemRequestsByRequestor(user1.getId());
 
-        assertNotNull(itemRequestInfoDtos);
-        assertFalse(itemRequestInfoDtos.isEmpty());
-        assertEquals(4, itemRequestInfoDtos.size());
-        assertNotNull(itemRequestInfoDtos.get(0));
-        assertNotNull(itemRequestInfoDtos.get(1));
-        assertNotNull(itemRequestInfoDtos.get(2));
-        assertNotNull(itemRequestInfoDtos.get(3));
-        assertFalse(itemRequestInfoDtos.get(0).getItems().isEmpty());
-        assertFalse(itemRequestInfoDtos.get(1).getItems().isEmpty());
-        assertFalse(itemRequestInfoDtos.get(2).getItems().isEmpty());
-        assertFalse(itemRequestInfoDtos.get(3).getItems().isEmpty());
-        assertEquals(itemRequestInfoDtoWithRResponses4, itemRequestInfoDtos.get(0));
-        assertEquals(itemRequestInfoDtoWithRResponses5, itemRequestInfoDtos.get(1));
-        assertEquals(itemRequestInfoDtoWithRResponses6, itemRequestInfoDtos.get(2));
-        assertEquals(itemRequestInfoDtoWithRResponses7, itemRequestInfoDtos.get(3));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRequestRepository, times(1))
-                .findByRequestorIdNot(anyLong(), any(Pageable.class));
+        assertEquals(2, itemRequestInfoDtos.size());
+        assertEquals(List.of(itemFromItemRequestInfoDto1), itemRequestInfoDtos.get(0).getItems());
+        assertTrue(itemRequestInfoDtos.get(1).getItems().isEmpty());
         verify(itemRepository, times(1)).findAllByItemRequestIn(anyList());
-        verify(itemRequestMapper, times(4))
-                .itemRequestToItemRequestInfoDto(any(ItemRequest.class));
-        verify(itemMapper, times(4)).itemToItemRequestInfoDtoItemDto(any(Item.class));
+        verify(itemMapper, times(1)).itemToItemRequestInfoDtoItemDto(any(Item.class));
     }
 
     @Test
-    @DisplayName("getSeveralItemRequestsPaginated_whenNoResponses_thenListOfItemRequestInfoDtoWithoutResponsesReturned")
-    public void getSeveralItemRequestsPaginated_whenNoResponses_thenListOfItemRequestInfoDtoWithoutResponsesReturned() {
-        LocalDateTime created4 = LocalDateTime.now();
-        LocalDateTime created5 = LocalDateTime.now();
-        LocalDateTime created6 = LocalDateTime.now();
-        LocalDateTime created7 = LocalDateTime.now();
-        ItemRequest itemRequest4 = ItemRequest.builder().id(4L).description("itemRequestDescription4")
-                .created(created4).requestor(user2).build();
-        ItemRequest itemRequest5 = ItemRequest.builder().id(5L).description("itemRequestDescription5")
-                .created(created5).requestor(user2).build();
-        ItemRequest itemRequest6 = ItemRequest.builder().id(6L).description("itemRequestDescription6")
-                .created(created6).requestor(user2).build();
-        ItemRequest itemRequest7 = ItemRequest.builder().id(7L).description("itemRequestDescription7")
-                .created(created7).requestor(user2).build();
-        List<ItemRequest> pageItemRequests = List.of(itemRequest4,
-                itemRequest5, itemRequest6, itemRequest7);
-        ItemRequestInfoDto itemRequestInfoDto4 = ItemRequestInfoDto.builder().id(4L)
-                .description("itemRequestDescription4").created(created4).build();
-        ItemRequestInfoDto itemRequestInfoDto5 = ItemRequestInfoDto.builder().id(5L)
-                .description("itemRequestDescription5").created(created5).build();
-        ItemRequestInfoDto itemRequestInfoDto6 = ItemRequestInfoDto.builder().id(6L)
-                .description("itemRequestDescription6").created(created6).build();
-        ItemRequestInfoDto itemRequestInfoDto7 = ItemRequestInfoDto.builder().id(7L)
-                .description("itemRequestDescription7").created(created7).build();
-        ItemRequestInfoDto itemRequestInfoDtoWithRResponses4 = ItemRequestInfoDto.builder()
-                .id(itemRequestInfoDto4.getId()).description(itemRequestInfoDto4.getDescription())
-                .created(itemRequestInfoDto4.getCreated()).items(Collections.emptyList()).build();
-        ItemRequestInfoDto itemRequestInfoDtoWithRResponses5 = ItemRequestInfoDto.builder()
-                .id(itemRequestInfoDto5.getId()).description(itemRequestInfoDto5.getDescription())
-                .created(itemRequestInfoDto5.getCreated()).items(Collections.emptyList()).build();
-        ItemRequestInfoDto itemRequestInfoDtoWithRResponses6 = ItemRequestInfoDto.builder()
-                .id(itemRequestInfoDto6.getId()).description(itemRequestInfoDto6.getDescription())
-                .created(itemRequestInfoDto6.getCreated()).items(Collections.emptyList()).build();
-        ItemRequestInfoDto itemRequestInfoDtoWithRResponses7 = ItemRequestInfoDto.builder()
-                .id(itemRequestInfoDto7.getId()).description(itemRequestInfoDto7.getDescription())
-                .created(itemRequestInfoDto7.getCreated()).items(Collections.emptyList()).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(itemRequestRepository.findByRequestorIdNot(anyLong(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(pageItemRequests));
-        when(itemRepository.findAllByItemRequestIn(anyList())).thenReturn(Collections.emptyList());
-        when(itemRequestMapper.itemRequestToItemRequestInfoDto(any(ItemRequest.class)))
-                .thenAnswer((invocationOnMock) -> {
-                    ItemRequest itemRequest = invocationOnMock.getArgument(0);
-                    if (Objects.equals(itemRequest.getId(), itemRequest4.getId())) {
-                        return itemRequestInfoDto4;
-                    } else if (Objects.equals(itemRequest.getId(), itemRequest5.getId())) {
-                        return itemRequestInfoDto5;
-                    } else if (Objects.equals(itemRequest.getId(), itemRequest6.getId())) {
-                        return itemRequestInfoDto6;
-                    } else if (Objects.equals(itemRequest.getId(), itemRequest7.getId())) {
-                        return itemRequestInfoDto7;
-                    }
-                    return null;
-                });
+    @DisplayName("getSeveralItemRequestsPaginated_whenInvoked_thenListOfItemRequestInfoDtoReturned")
+    public void getSeveralItemRequestsPaginated_whenInvoked_thenListOfItemRequestInfoDtoReturned() {
+        RequestFeedEntry feedEntry1 = RequestFeedEntry.builder().requestId(itemRequest1.getId())
+                .requestorId(user2.getId()).description(itemRequest1.getDescription())
+                .created(itemRequest1.getCreated())
+                .items(List.of(itemFromItemRequestInfoDto1, itemFromItemRequestInfoDto2)).build();
+        RequestFeedEntry feedEntry2 = RequestFeedEntry.builder().requestId(itemRequest2.getId())
+                .requestorId(user2.getId()).description(itemRequest2.getDescription())
+                .created(itemRequest2.getCreated()).build();
+        ItemRequestInfoDto itemRequestInfoDtoWithResponses1 = itemRequestInfoDto1.toBuilder()
+                .items(feedEntry1.getItems()).build();
+        ItemRequestInfoDto itemRequestInfoDtoWithResponses2 = itemRequestInfoDto2.toBuilder()
+                .items(Collections.emptyList()).build();
+        when(requestFeedRepository.findByRequestorIdNot(anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(feedEntry1, feedEntry2)));
+        when(itemRequestMapper.requestFeedEntryToItemRequestInfoDto(feedEntry1))
+                .thenReturn(itemRequestInfoDtoWithResponses1);
+        when(itemRequestMapper.requestFeedEntryToItemRequestInfoDto(feedEntry2))
+                .thenReturn(itemRequestInfoDtoWithResponses2);
 
         List<ItemRequestInfoDto> itemRequestInfoDtos = itemRequestService.getSeveralItemRequestsPaginated(
                 1, 4, user1.getId());
 
-        assertNotNull(itemRequestInfoDtos);
-        assertFalse(itemRequestInfoDtos.isEmpty());
-        assertEquals(4, itemRequestInfoDtos.size());
-        assertNotNull(itemRequestInfoDtos.get(0));
-        assertNotNull(itemRequestInfoDtos.get(1));
-        assertNotNull(itemRequestInfoDtos.get(2));
-        assertNotNull(itemRequestInfoDtos.get(3));
-        assertTrue(itemRequestInfoDtos.get(0).getItems().isEmpty());
-        assertTrue(itemRequestInfoDtos.get(1).getItems().isEmpty());
-        assertTrue(itemRequestInfoDtos.get(2).getItems().isEmpty());
-        assertTrue(itemRequestInfoDtos.get(3).getItems().isEmpty());
-        assertEquals(itemRequestInfoDtoWithRResponses4, itemRequestInfoDtos.get(0));
-        assertEquals(itemRequestInfoDtoWithRResponses5, itemRequestInfoDtos.get(1));
-        assertEquals(itemRequestInfoDtoWithRResponses6, itemRequestInfoDtos.get(2));
-        assertEquals(itemRequestInfoDtoWithRResponses7, itemRequestInfoDtos.get(3));
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRequestRepository, times(1))
-                .findByRequestorIdNot(anyLong(), any(Pageable.class));
-        verify(itemRepository, times(1)).findAllByItemRequestIn(anyList());
-        verify(itemRequestMapper, times(4))
-                .itemRequestToItemRequestInfoDto(any(ItemRequest.class));
+        assertEquals(List.of(itemRequestInfoDtoWithResponses1, itemRequestInfoDtoWithResponses2),
+                itemRequestInfoDtos);
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(requestFeedRepository, times(1)).findByRequestorIdNot(eq(user1.getId()),
+                argThat((Pageable pageable) -> pageable.getOffset() == 1 && pageable.getPageSize() == 4
+                        && pageable.getSort().equals(Sort.by(Sort.Direction.DESC, "created", "requestId"))));
+        verify(itemRequestMapper, times(2)).requestFeedEntryToItemRequestInfoDto(any(RequestFeedEntry.class));
+        verify(itemRepository, never()).findAllByItemRequestIn(anyList());
         verify(itemMapper, never()).itemToItemRequestInfoDtoItemDto(any(Item.class));
     }
 
     @Test
     @DisplayName("getSeveralItemRequestsPaginated_whenNoItemRequests_thenEmptyListReturned")
     public void getSeveralItemRequestsPaginated_whenNoItemRequests_thenEmptyListReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
-        when(itemRequestRepository.findByRequestorIdNot(anyLong(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(Collections.emptyList()));
+        when(requestFeedRepository.findByRequestorIdNot(anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         List<ItemRequestInfoDto> itemRequestInfoDtos = itemRequestService.getSeveralItemRequestsPaginated(
                 1, 4, user1.getId());
 
         assertNotNull(itemRequestInfoDtos);
         assertTrue(itemRequestInfoDtos.isEmpty());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRequestRepository, times(1))
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(requestFeedRepository, times(1))
                 .findByRequestorIdNot(anyLong(), any(Pageable.class));
-        verify(itemRepository, never()).findAllByItemRequestIn(anyList());
-        verify(itemRequestMapper, never()).itemRequestToItemRequestInfoDto(any(ItemRequest.class));
-        verify(itemMapper, never()).itemToItemRequestInfoDtoItemDto(any(Item.class));
+        verify(itemRequestMapper, never()).requestFeedEntryToItemRequestInfoDto(any(RequestFeedEntry.class));
     }
 
     @Test
-    @DisplayName("getSeveralItemRequestsPaginated_whenNoItemRequests_thenEmptyListReturned")
+    @DisplayName("getSeveralItemRequestsPaginated_whenRequestorNotFound_thenNotFoundExceptionThrown")
     public void getSeveralItemRequestsPaginated_whenRequestorNotFound_thenNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("User with id 999 not found"))
+                .when(userExistenceChecker).checkUserExists(anyLong());
 
         NotFoundException notFoundException = assertThrows(NotFoundException.class, () ->
                 itemRequestService.getSeveralItemRequestsPaginated(1, 4, 999L));
 
         assertEquals("User with id 999 not found", notFoundException.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(itemRequestRepository, never()).findByRequestorIdNot(anyLong(), any(Pageable.class));
-        verify(itemRepository, never()).findAllByItemRequestIn(anyList());
-        verify(itemRequestMapper, never()).itemRequestToItemRequestInfoDto(any(ItemRequest.class));
-        verify(itemMapper, never()).itemToItemRequestInfoDtoItemDto(any(Item.class));
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
+        verify(requestFeedRepository, never()).findByRequestorIdNot(anyLong(), any(Pageable.class));
+        verify(itemRequestMapper, never()).requestFeedEntryToItemRequestInfoDto(any(RequestFeedEntry.class));
+    }
+
+    @Test
+    @DisplayName("getSeveralItemRequestsAfter_whenPageIsFull_thenNextCursorOfLastEntryReturned")
+    public void getSeveralItemRequestsAfter_whenPageIsFull_thenNextCursorOfLastEntryReturned() {
+        RequestFeedEntry feedEntry2 = RequestFeedEntry.builder().requestId(itemRequest2.getId())
+                .requestorId(user2.getId()).description(itemRequest2.getDescription())
+                .created(itemRequest2.getCreated()).build();
+        ItemRequestInfoDto itemRequestInfoDtoWithResponses2 = itemRequestInfoDto2.toBuilder()
+                .items(Collections.emptyList()).build();
+        when(requestFeedRepository.findByRequestorIdNotAfterCursor(anyLong(), any(LocalDateTime.class),
+                anyLong(), any(Pageable.class))).thenReturn(List.of(feedEntry2));
+        when(itemRequestMapper.requestFeedEntryToItemRequestInfoDto(feedEntry2))
+                .thenReturn(itemRequestInfoDtoWithResponses2);
+
+        CursorPage<ItemRequestInfoDto> page = itemRequestService.getSeveralItemRequestsAfter(null, 1, user1.getId());
+
+        assertEquals(List.of(itemRequestInfoDtoWithResponses2), page.getContent());
+        assertEquals(PageCursor.encode(feedEntry2.getCreated(), feedEntry2.getRequestId()), page.getNextCursor());
+        verify(requestFeedRepository, times(1)).findByRequestorIdNotAfterCursor(eq(user1.getId()),
+                any(LocalDateTime.class), anyLong(), any(Pageable.class));
     }
 
     @Test
@@ -518,7 +405,6 @@ public class ItemRequestServiceTest {
                 .id(itemRequestInfoDto1.getId()).description(itemRequestInfoDto1.getDescription())
                 .created(itemRequestInfoDto1.getCreated())
                 .items(List.of(itemFromItemRequestInfoDto1, itemFromItemRequestInfoDto2)).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(itemRequestRepository.findById(anyLong())).thenReturn(Optional.of(itemRequest1));
         when(itemRepository.findAllByItemRequest(any(ItemRequest.class))).thenReturn(List.of(item1, item2));
         when(itemRequestMapper.itemRequestToItemRequestInfoDto(any(ItemRequest.class)))
@@ -540,7 +426,7 @@ public class ItemRequestServiceTest {
         assertNotNull(itemRequestInfoDto);
         assertFalse(itemRequestInfoDto.getItems().isEmpty());
         assertEquals(itemRequestInfoDtoWithRResponses, itemRequestInfoDto);
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRequestRepository, times(1)).findById(anyLong());
         verify(itemRepository, times(1)).findAllByItemRequest(any(ItemRequest.class));
         verify(itemRequestMapper, times(1))
@@ -555,7 +441,6 @@ public class ItemRequestServiceTest {
                 .id(itemRequestInfoDto1.getId()).description(itemRequestInfoDto1.getDescription())
                 .created(itemRequestInfoDto1.getCreated())
                 .items(Collections.emptyList()).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(itemRequestRepository.findById(anyLong())).thenReturn(Optional.of(itemRequest1));
         when(itemRepository.findAllByItemRequest(any(ItemRequest.class))).thenReturn(Collections.emptyList());
         when(itemRequestMapper.itemRequestToItemRequestInfoDto(any(ItemRequest.class)))
@@ -567,7 +452,7 @@ public class ItemRequestServiceTest {
         assertNotNull(itemRequestInfoDto);
         assertTrue(itemRequestInfoDto.getItems().isEmpty());
         assertEquals(itemRequestInfoDtoWithRResponses, itemRequestInfoDto);
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRequestRepository, times(1)).findById(anyLong());
         verify(itemRepository, times(1)).findAllByItemRequest(any(ItemRequest.class));
         verify(itemRequestMapper, times(1))
@@ -578,14 +463,13 @@ public class ItemRequestServiceTest {
     @Test
     @DisplayName("getItemRequestById_whenNoRequests_thenNotFoundExceptionThrown")
     public void getItemRequestById_whenNoRequests_thenNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
         when(itemRequestRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 itemRequestService.getItemRequestById(999L, user1.getId()));
 
         assertEquals("Item request with id 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRequestRepository, times(1)).findById(anyLong());
         verify(itemRepository, never()).findAllByItemRequest(any(ItemRequest.class));
         verify(itemRequestMapper, never()).itemRequestToItemRequestInfoDto(any(ItemRequest.class));
@@ -595,13 +479,14 @@ public class ItemRequestServiceTest {
     @Test
     @DisplayName("getItemRequestById_whenUserNotfound_thenNotFoundExceptionThrown")
     public void getItemRequestById_whenUserNotfound_thenNotFoundExceptionThrown() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("User with id 999 not found"))
+                .when(userExistenceChecker).checkUserExists(anyLong());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 itemRequestService.getItemRequestById(itemRequest1.getId(), 999L));
 
         assertEquals("User with id 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(itemRequestRepository, never()).findById(anyLong());
         verify(itemRepository, never()).findAllByItemRequest(any(ItemRequest.class));
         verify(itemRequestMapper, never()).itemRequestToItemRequestInfoDto(any(ItemRequest.class));
@@ -0,0 +1,127 @@
+package ru.practicum.shareit.request.util.feed;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.util.mapper.ItemMapper;
+import ru.practicum.shareit.request.dto.ItemRequestInfoDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.RequestFeedEntry;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.RequestFeedRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.PageCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import({RequestFeedUpdater.class, ItemMapper.class})
+public class RequestFeedUpdaterTest {
+    @Autowired
+    private RequestFeedUpdater requestFeedUpdater;
+    @Autowired
+    private RequestFeedRepository requestFeedRepository;
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    User requestor;
+    User owner;
+
+    @BeforeEach
+    void setUp() {
+        requestor = userRepository.save(User.builder().name("requestor").email("requestor@post.com").build());
+        owner = userRepository.save(User.builder().name("owner").email("owner@post.com").build());
+    }
+
+    @AfterEach
+    void clearDatabase() {
+        requestFeedRepository.deleteAll();
+        itemRepository.deleteAll();
+        itemRequestRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("itemSaved_whenItemsCreatedAndUpdated_thenEntryItemsReplacedInItemIdOrder")
+    void itemSaved_whenItemsCreatedAndUpdated_thenEntryItemsReplacedInItemIdOrder() {
+        ItemRequest itemRequest = createItemRequest("request", LocalDateTime.now());
+        Item item1 = itemRepository.save(Item.builder().name("item1").description("itemDescription1")
+                .available(Boolean.TRUE).owner(owner).itemRequest(itemRequest).build());
+        Item item2 = itemRepository.save(Item.builder().name("item2").description("itemDescription2")
+                .available(Boolean.TRUE).owner(owner).itemRequest(itemRequest).build());
+        requestFeedUpdater.itemSaved(item2);
+        requestFeedUpdater.itemSaved(item1);
+        item1.setName("updatedItem1");
+        item1.setAvailable(Boolean.FALSE);
+        requestFeedUpdater.itemSaved(item1);
+        requestFeedUpdater.itemSaved(itemRepository.save(Item.builder().name("item3").description("itemDescription3")
+                .available(Boolean.TRUE).owner(owner).build()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<ItemRequestInfoDto.ItemDto> items = requestFeedRepository.findById(itemRequest.getId())
+                .orElseThrow().getItems();
+
+        assertEquals(List.of(
+                ItemRequestInfoDto.ItemDto.builder().id(item1.getId()).name("updatedItem1")
+                        .description("itemDescription1").available(Boolean.FALSE).requestId(itemRequest.getId())
+                        .build(),
+                ItemRequestInfoDto.ItemDto.builder().id(item2.getId()).name("item2")
+                        .description("itemDescription2").available(Boolean.TRUE).requestId(itemRequest.getId())
+                        .build()), items);
+    }
+
+    @Test
+    @DisplayName("findByRequestorIdNotAfterCursor_whenInvoked_thenEntriesOfOtherUsersReturnedNewestFirst")
+    void findByRequestorIdNotAfterCursor_whenInvoked_thenEntriesOfOtherUsersReturnedNewestFirst() {
+        LocalDateTime created = LocalDateTime.now().withNano(0);
+        ItemRequest itemRequest1 = createItemRequest("request1", created.minusHours(2));
+        ItemRequest itemRequest2 = createItemRequest("request2", created.minusHours(1));
+        ItemRequest itemRequest3 = createItemRequest("request3", created);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        PageCursor firstCursor = PageCursor.decodeTimestampCursor(null);
+        List<RequestFeedEntry> firstPage = requestFeedRepository.findByRequestorIdNotAfterCursor(owner.getId(),
+                firstCursor.getTimestamp(), firstCursor.getId(), PageRequest.ofSize(2));
+        RequestFeedEntry lastEntry = firstPage.get(firstPage.size() - 1);
+        List<RequestFeedEntry> secondPage = requestFeedRepository.findByRequestorIdNotAfterCursor(owner.getId(),
+                lastEntry.getCreated(), lastEntry.getRequestId(), PageRequest.ofSize(2));
+
+        assertEquals(List.of(itemRequest3.getId(), itemRequest2.getId()), firstPage.stream()
+                .map(RequestFeedEntry::getRequestId).collect(Collectors.toList()));
+        assertEquals(List.of(itemRequest1.getId()), secondPage.stream()
+                .map(RequestFeedEntry::getRequestId).collect(Collectors.toList()));
+        assertEquals("request1", secondPage.get(0).getDescription());
+        assertTrue(secondPage.get(0).getItems().isEmpty());
+        assertTrue(requestFeedRepository.findByRequestorIdNotAfterCursor(requestor.getId(),
+                firstCursor.getTimestamp(), firstCursor.getId(), PageRequest.ofSize(2)).isEmpty());
+    }
+
+    private ItemRequest createItemRequest(String description, LocalDateTime created) {
+        ItemRequest itemRequest = itemRequestRepository.saveAndFlush(ItemRequest.builder().description(description)
+                .requestor(requestor).build());
+        itemRequest.setCreated(created);
+        requestFeedUpdater.requestCreated(itemRequest);
+        return itemRequest;
+    }
+}
@@ -8,12 +8,16 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.CommentView;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.util.mapper.CommentMapper;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -58,6 +62,26 @@ public class CommentMapperTest {
         assertEquals(commentDto.getAuthorName(), convertedCommentDto.getAuthorName());
     }
 
+    @ParameterizedTest
+    @MethodSource("provideItemsForCommentToCommentDto")
+    @DisplayName("commentViewToCommentDto_whenInvoked_thenCommentDtoReturned")
+    void commentViewToCommentDto_whenInvoked_thenCommentDtoReturned(Comment comment, CommentDto commentDto) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", comment.getId());
+        values.put("text", comment.getText());
+        values.put("created", comment.getCreated());
+        values.put("authorName", comment.getAuthor() == null ? null : comment.getAuthor().getName());
+        CommentView commentView = new SpelAwareProxyProjectionFactory().createProjection(CommentView.class, values);
+
+        CommentDto convertedCommentDto = commentMapper.commentViewToCommentDto(commentView);
+
+        assertNotNull(convertedCommentDto);
+        assertEquals(commentDto.getId(), convertedCommentDto.getId());
+        assertEquals(commentDto.getText(), convertedCommentDto.getText());
+        assertEquals(commentDto.getCreated(), convertedCommentDto.getCreated());
+        assertEquals(commentDto.getAuthorName(), convertedCommentDto.getAuthorName());
+    }
+
     private static Stream<Arguments> provideItemsForCommentDtoToComment() {
         LocalDateTime created = LocalDateTime.now();
         return Stream.of(
@@ -0,0 +1,118 @@
+package ru.practicum.shareit.user.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.util.cache.BookingListCache;
+import ru.practicum.shareit.config.CacheConfig;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserExistenceChecker;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+import ru.practicum.shareit.user.util.mapper.UserMapper;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CacheConfig.class, UserServiceImpl.class, UserMapper.class, UserExistenceChecker.class,
+        BookingListCache.class, SimpleMeterRegistry.class})
+public class UserRepositoryCacheTest {
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserServiceImpl userService;
+    @Autowired
+    private CacheManager cacheManager;
+    Cache usersCache;
+    Cache userIdsCache;
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        usersCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.USERS));
+        userIdsCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.USER_IDS));
+        user = userRepository.save(User.builder().name("user").email("user@post.com").build());
+    }
+
+    @AfterEach
+    void clearDatabase() {
+        userRepository.deleteAll();
+        usersCache.clear();
+        userIdsCache.clear();
+    }
+
+    @Test
+    @DisplayName("getUserById_whenUserFound_thenUserDtoCached")
+    void getUserById_whenUserFound_thenUserDtoCached() {
+        UserDto foundUser = userService.getUserById(user.getId());
+
+        assertSame(foundUser, usersCache.get(user.getId(), UserDto.class));
+        assertSame(foundUser, userService.getUserById(user.getId()));
+    }
+
+    @Test
+    @DisplayName("getUserById_whenUserNotFound_thenNothingCached")
+    void getUserById_whenUserNotFound_thenNothingCached() {
+        Long unknownUserId = user.getId() + 1;
+
+        assertThrows(NotFoundException.class, () -> userService.getUserById(unknownUserId));
+
+        assertNull(usersCache.get(unknownUserId));
+    }
+
+    @Test
+    @DisplayName("findById_whenUserFound_thenEntityNotCached")
+    void findById_whenUserFound_thenEntityNotCached() {
+        userRepository.findById(user.getId());
+
+        assertNull(usersCache.get(user.getId()));
+    }
+
+    @Test
+    @DisplayName("existsById_whenUserExists_thenOnlyExistingUserCached")
+    void existsById_whenUserExists_thenOnlyExistingUserCached() {
+        Long unknownUserId = user.getId() + 1;
+
+        assertTrue(userRepository.existsById(user.getId()));
+        assertFalse(userRepository.existsById(unknownUserId));
+
+        assertEquals(Boolean.TRUE, userIdsCache.get(user.getId(), Boolean.class));
+        assertNull(userIdsCache.get(unknownUserId));
+    }
+
+    @Test
+    @DisplayName("updateUser_whenInvoked_thenCachedUserEvicted")
+    void updateUser_whenInvoked_thenCachedUserEvicted() {
+        userService.getUserById(user.getId());
+
+        userService.updateUser(user.getId(), User.builder().name("updatedUser").build());
+
+        assertNull(usersCache.get(user.getId()));
+        assertEquals("updatedUser", userService.getUserById(user.getId()).getName());
+    }
+
+    @Test
+    @DisplayName("deleteUser_whenInvoked_thenCachedUserEvicted")
+    void deleteUser_whenInvoked_thenCachedUserEvicted() {
+        userService.getUserById(user.getId());
+
+        userService.deleteUser(user.getId());
+
+        assertNull(usersCache.get(user.getId()));
+        assertNull(userIdsCache.get(user.getId()));
+        assertTrue(userRepository.findById(user.getId()).isEmpty());
+    }
+}
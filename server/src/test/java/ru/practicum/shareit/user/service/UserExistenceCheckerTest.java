@@ -0,0 +1,53 @@
+package ru.practicum.shareit.user.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserExistenceCheckerTest {
+    @Mock
+    UserRepository userRepository;
+    MeterRegistry meterRegistry;
+    UserExistenceChecker userExistenceChecker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userExistenceChecker = new UserExistenceChecker(userRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("checkUserExists_whenUserExists_thenCheckCountedWithoutEntityLoad")
+    public void checkUserExists_whenUserExists_thenCheckCountedWithoutEntityLoad() {
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+
+        userExistenceChecker.checkUserExists(1L);
+
+        assertEquals(1.0, meterRegistry.get("shareit.users.existence.checks").counter().count());
+        verify(userRepository, times(1)).existsById(1L);
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("checkUserExists_whenUserNotFound_thenNotFoundExceptionThrown")
+    public void checkUserExists_whenUserNotFound_thenNotFoundExceptionThrown() {
+        when(userRepository.existsById(anyLong())).thenReturn(false);
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> userExistenceChecker.checkUserExists(999L));
+
+        assertEquals("User with id 999 not found", exception.getMessage());
+        verify(userRepository, times(1)).existsById(999L);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.util.cache.BookingListCache;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
@@ -26,7 +27,11 @@ public class UserServiceTest {
     @Mock
     UserRepository userRepository;
     @Mock
+    UserExistenceChecker userExistenceChecker;
+    @Mock
     UserMapper userMapper;
+    @Mock
+    BookingListCache bookingListCache;
     @InjectMocks
     UserServiceImpl userService;
 
@@ -55,6 +60,7 @@ public class UserServiceTest {
         assertEquals(userDtoCheck.getEmail(), createdUser.getEmail());
         verify(userRepository, times(1)).save(any(User.class));
         verify(userMapper, times(1)).userToUserDto(any(User.class));
+        verify(bookingListCache, times(1)).invalidateAll();
     }
 
     @Test
@@ -192,24 +198,25 @@ public class UserServiceTest {
     @Test
     @DisplayName("deleteUser_whenInvoked_thenNothingReturned")
     public void deleteUser_whenInvoked_thenDeletedUserReturned() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user1));
 
         userService.deleteUser(1L);
 
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(userRepository, times(1)).deleteById(anyLong());
         verify(userMapper, never()).userToUserDto(any(User.class));
+        verify(bookingListCache, times(1)).invalidateAll();
     }
 
     @Test
     @DisplayName("deleteUser_whenUserNotExisted_thenNotFoundExceptionThrown")
     public void deleteUser_whenUserNotExisted_thenThrowNotFoundException() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("User with id 999 not found"))
+                .when(userExistenceChecker).checkUserExists(anyLong());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () -> userService.deleteUser(999L));
 
         assertEquals("User with id 999 not found", exception.getMessage());
-        verify(userRepository, times(1)).findById(anyLong());
+        verify(userExistenceChecker, times(1)).checkUserExists(anyLong());
         verify(userRepository, never()).deleteById(anyLong());
     }
 }
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BucketedClockTest {
+    @Test
+    @DisplayName("now_whenBucketIsOneSecond_thenTimeTruncatedToSecond")
+    void now_whenBucketIsOneSecond_thenTimeTruncatedToSecond() {
+        BucketedClock bucketedClock = new BucketedClock(clockAt("2025-01-15T10:15:30.999Z"), Duration.ofSeconds(1));
+
+        assertEquals(LocalDateTime.of(2025, 1, 15, 10, 15, 30), bucketedClock.now());
+    }
+
+    @Test
+    @DisplayName("now_whenBucketIsFiveMinutes_thenTimeTruncatedToBucketStart")
+    void now_whenBucketIsFiveMinutes_thenTimeTruncatedToBucketStart() {
+        BucketedClock bucketedClock = new BucketedClock(clockAt("2025-01-15T10:19:59Z"), Duration.ofMinutes(5));
+
+        assertEquals(LocalDateTime.of(2025, 1, 15, 10, 15), bucketedClock.now());
+    }
+
+    @Test
+    @DisplayName("constructor_whenBucketIsZero_thenIllegalArgumentExceptionThrown")
+    void constructor_whenBucketIsZero_thenIllegalArgumentExceptionThrown() {
+        Clock clock = clockAt("2025-01-15T10:15:30Z");
+
+        assertThrows(IllegalArgumentException.class, () -> new BucketedClock(clock, Duration.ZERO));
+    }
+
+    private static Clock clockAt(String instant) {
+        return Clock.fixed(Instant.parse(instant), ZoneOffset.UTC);
+    }
+}
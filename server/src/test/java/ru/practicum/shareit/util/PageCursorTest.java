@@ -0,0 +1,46 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PageCursorTest {
+    @Test
+    @DisplayName("decodeTimestampCursor_whenEncodedCursor_thenTimestampAndIdReturned")
+    void decodeTimestampCursor_whenEncodedCursor_thenTimestampAndIdReturned() {
+        LocalDateTime timestamp = LocalDateTime.of(2025, 1, 1, 12, 30, 15);
+
+        PageCursor pageCursor = PageCursor.decodeTimestampCursor(PageCursor.encode(timestamp, 5L));
+
+        assertEquals(timestamp, pageCursor.getTimestamp());
+        assertEquals(5L, pageCursor.getId());
+    }
+
+    @Test
+    @DisplayName("decodeTimestampCursor_whenEmptyCursor_thenFirstPageCursorReturned")
+    void decodeTimestampCursor_whenEmptyCursor_thenFirstPageCursorReturned() {
+        PageCursor pageCursor = PageCursor.decodeTimestampCursor("");
+
+        assertEquals(Long.MAX_VALUE, pageCursor.getId());
+        assertTrue(pageCursor.getTimestamp().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("decodeIdCursor_whenEncodedCursor_thenIdReturned")
+    void decodeIdCursor_whenEncodedCursor_thenIdReturned() {
+        assertEquals(42L, PageCursor.decodeIdCursor(PageCursor.encode(42L)).getId());
+        assertEquals(0L, PageCursor.decodeIdCursor(null).getId());
+    }
+
+    @Test
+    @DisplayName("decode_whenIncorrectCursor_thenIllegalArgumentExceptionThrown")
+    void decode_whenIncorrectCursor_thenIllegalArgumentExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeTimestampCursor("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeTimestampCursor(PageCursor.encode(1L)));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeIdCursor(PageCursor.encode(
+                LocalDateTime.now(), 1L)));
+    }
+}
@@ -0,0 +1,189 @@
+package ru.practicum.shareit.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.ASTQueryTranslatorFactory;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.support.Repositories;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Finds repository {@link Query} methods whose PostgreSQL plan still reads a whole table or index.
+ * Plans are built generically (without parameter values) and with sequential scans disabled,
+ * so a full scan left in the plan means no index can serve the query at all.
+ * JPQL is translated to SQL with Hibernate 5 internals, which is why this lives in tests only.
+ */
+@Slf4j
+class QueryPlanChecker {
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("(?<![:\\w]):(\\w+)");
+    private static final String STATEMENT_NAME = "shareit_query_plan_check";
+
+    private final ApplicationContext applicationContext;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    QueryPlanChecker(ApplicationContext applicationContext, EntityManagerFactory entityManagerFactory,
+                     DataSource dataSource) {
+        this.applicationContext = applicationContext;
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * @return full scans of every checked query, by query name; queries without them are left out
+     */
+    Map<String, List<String>> check() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+                statement.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+                return checkRepositories(connection, statement);
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private Map<String, List<String>> checkRepositories(Connection connection, Statement statement)
+            throws SQLException {
+        Repositories repositories = new Repositories(applicationContext);
+        Map<String, List<String>> fullScansByQuery = new LinkedHashMap<>();
+        int checked = 0;
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            for (Method method : information.getQueryMethods()) {
+                Query query = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+                if (query == null || query.value().isEmpty()) {
+                    continue;
+                }
+                String queryName = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                String statementName = STATEMENT_NAME + "_" + checked;
+                Savepoint savepoint = connection.setSavepoint();
+                try {
+                    List<String> fullScans = findFullScans(explain(statement, statementName, query, method));
+                    if (!fullScans.isEmpty()) {
+                        fullScansByQuery.put(queryName, fullScans);
+                    }
+                } catch (SQLException | RuntimeException | JsonProcessingException e) {
+                    log.warn("Plan of query {} is not checked: {}", queryName, e.getMessage());
+                    connection.rollback(savepoint);
+                } finally {
+                    deallocate(connection, statement, statementName);
+                }
+                checked++;
+            }
+        }
+        log.debug("Query plans checked for {} queries, {} of them with full scans", checked, fullScansByQuery.size());
+        return fullScansByQuery;
+    }
+
+    private JsonNode explain(Statement statement, String statementName, Query query, Method method)
+            throws SQLException, JsonProcessingException {
+        List<String> parameterNames = new ArrayList<>();
+        Matcher matcher = NAMED_PARAMETER.matcher(query.value());
+        while (matcher.find()) {
+            parameterNames.add(matcher.group(1));
+        }
+        String sql = query.nativeQuery() ? matcher.replaceAll("?") : translate(query.value());
+        List<String> parameterTypes = parameterNames.stream()
+                .map(name -> parameterType(method, name))
+                .collect(Collectors.toList());
+        statement.execute("PREPARE " + statementName +
+                (parameterTypes.isEmpty() ? "" : "(" + String.join(", ", parameterTypes) + ")") +
+                " AS " + toPositional(sql));
+        try (ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE " + statementName +
+                (parameterTypes.isEmpty() ? "" : "(" + String.join(", ",
+                        Collections.nCopies(parameterTypes.size(), "NULL")) + ")"))) {
+            resultSet.next();
+            return objectMapper.readTree(resultSet.getString(1)).path(0).path("Plan");
+        }
+    }
+
+    private static void deallocate(Connection connection, Statement statement, String statementName)
+            throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            statement.execute("DEALLOCATE " + statementName);
+        } catch (SQLException e) {
+            connection.rollback(savepoint);
+        }
+    }
+
+    private String translate(String jpql) {
+        QueryTranslator translator = new ASTQueryTranslatorFactory().createQueryTranslator(jpql, jpql,
+                Collections.emptyMap(), entityManagerFactory.unwrap(SessionFactoryImplementor.class), null);
+        translator.compile(Collections.emptyMap(), false);
+        return translator.getSQLString();
+    }
+
+    static String toPositional(String sql) {
+        StringBuilder positional = new StringBuilder();
+        int index = 0;
+        for (char symbol : sql.toCharArray()) {
+            if (symbol == '?') {
+                positional.append('$').append(++index);
+            } else {
+                positional.append(symbol);
+            }
+        }
+        return positional.toString();
+    }
+
+    static List<String> findFullScans(JsonNode plan) {
+        List<String> fullScans = new ArrayList<>();
+        String nodeType = plan.path("Node Type").asText();
+        if ("Seq Scan".equals(nodeType)) {
+            fullScans.add(nodeType + " on " + plan.path("Relation Name").asText());
+        } else if (nodeType.contains("Index") && !plan.has("Index Cond")) {
+            fullScans.add(nodeType + " on " + plan.path("Index Name").asText());
+        }
+        for (JsonNode subPlan : plan.path("Plans")) {
+            fullScans.addAll(findFullScans(subPlan));
+        }
+        return fullScans;
+    }
+
+    private static String parameterType(Method method, String name) {
+        for (Parameter parameter : method.getParameters()) {
+            Param param = parameter.getAnnotation(Param.class);
+            if (name.equals(param != null ? param.value() : parameter.getName())) {
+                Class<?> type = parameter.getType();
+                if (Number.class.isAssignableFrom(type) || type == long.class || type == int.class) {
+                    return "bigint";
+                } else if (LocalDateTime.class.isAssignableFrom(type)) {
+                    return "timestamp";
+                } else if (Boolean.class.isAssignableFrom(type) || type == boolean.class) {
+                    return "boolean";
+                }
+                return "varchar";
+            }
+        }
+        throw new IllegalArgumentException(String.format("Parameter %s of %s not found", name, method.getName()));
+    }
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryPlanCheckerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @SneakyThrows
+    @DisplayName("findFullScans_whenPlanHasSeqScanAndIndexScanWithoutCondition_thenBothReturned")
+    void findFullScans_whenPlanHasSeqScanAndIndexScanWithoutCondition_thenBothReturned() {
+        String plan = "{\"Node Type\": \"Nested Loop\", \"Plans\": [" +
+                "{\"Node Type\": \"Seq Scan\", \"Relation Name\": \"bookings\"}, " +
+                "{\"Node Type\": \"Index Scan\", \"Index Name\": \"pk_item\", " +
+                "\"Index Cond\": \"(item_id = b.item_id)\"}, " +
+                "{\"Node Type\": \"Index Only Scan\", \"Index Name\": \"pk_user\"}]}";
+
+        List<String> fullScans = QueryPlanChecker.findFullScans(objectMapper.readTree(plan));
+
+        assertEquals(List.of("Seq Scan on bookings", "Index Only Scan on pk_user"), fullScans);
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("findFullScans_whenOnlyIndexConditions_thenEmptyListReturned")
+    void findFullScans_whenOnlyIndexConditions_thenEmptyListReturned() {
+        String plan = "{\"Node Type\": \"Bitmap Heap Scan\", \"Relation Name\": \"items\", \"Plans\": [" +
+                "{\"Node Type\": \"Bitmap Index Scan\", \"Index Name\": \"ix_items_owner\", " +
+                "\"Index Cond\": \"(owner_id = $1)\"}]}";
+
+        assertTrue(QueryPlanChecker.findFullScans(objectMapper.readTree(plan)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("toPositional_whenInvoked_thenParametersNumbered")
+    void toPositional_whenInvoked_thenParametersNumbered() {
+        assertEquals("select * from items where owner_id=$1 and item_id>$2",
+                QueryPlanChecker.toPositional("select * from items where owner_id=? and item_id>?"));
+    }
+}
@@ -0,0 +1,124 @@
+package ru.practicum.shareit.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk inserts through the Spring Data repositories with and without JDBC batching.
+ * {@code saveItemsWithBookings} alternates two entities, which breaks batches unless inserts are ordered.
+ * Runs against an in-memory H2 database by default; set SHAREIT_BENCHMARK_DB_URL, SHAREIT_BENCHMARK_DB_USER
+ * and SHAREIT_BENCHMARK_DB_PASSWORD to measure the round trips to a real PostgreSQL (the schema is migrated there).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBulkInsertBenchmark {
+    private static final int USERS = 500;
+    private static final int ITEMS = 100;
+    private static final int BOOKINGS_PER_ITEM = 5;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"false", "true"})
+    private boolean orderInserts;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private ItemRepository itemRepository;
+    private BookingRepository bookingRepository;
+    private TransactionTemplate transactionTemplate;
+    private User owner;
+    private User booker;
+    private final String run = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--spring.jpa.properties.hibernate.order_inserts=" + orderInserts,
+                "--logging.level.ru.practicum.shareit=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.org.springframework.transaction=WARN",
+                "--logging.level.org.springframework.orm.jpa=WARN"));
+        String url = System.getenv("SHAREIT_BENCHMARK_DB_URL");
+        if (url == null) {
+            args.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:repository-bulk-insert-benchmark",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"));
+        } else {
+            args.addAll(List.of(
+                    "--spring.datasource.url=" + url,
+                    "--spring.datasource.username=" + System.getenv("SHAREIT_BENCHMARK_DB_USER"),
+                    "--spring.datasource.password=" + System.getenv("SHAREIT_BENCHMARK_DB_PASSWORD")));
+        }
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+        userRepository = context.getBean(UserRepository.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        bookingRepository = context.getBean(BookingRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        owner = userRepository.save(newUser());
+        booker = userRepository.save(newUser());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<User> saveUsers() {
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(newUser());
+        }
+        return transactionTemplate.execute(status -> userRepository.saveAll(users));
+    }
+
+    @Benchmark
+    public List<Booking> saveItemsWithBookings() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return transactionTemplate.execute(status -> {
+            List<Booking> bookings = new ArrayList<>(ITEMS * BOOKINGS_PER_ITEM);
+            for (int i = 0; i < ITEMS; i++) {
+                Item item = itemRepository.save(Item.builder().name("item" + i).description("description")
+                        .available(Boolean.TRUE).owner(owner).build());
+                for (int j = 0; j < BOOKINGS_PER_ITEM; j++) {
+                    bookings.add(bookingRepository.save(Booking.builder().status(BookingStatus.WAITING)
+                            .start(start.plusDays(j)).end(start.plusDays(j).plusHours(1))
+                            .booker(booker).item(item).build()));
+                }
+            }
+            return bookings;
+        });
+    }
+
+    private User newUser() {
+        long number = sequence++;
+        return User.builder().name("user" + number).email(run + "-" + number + "@benchmark.com").build();
+    }
+}
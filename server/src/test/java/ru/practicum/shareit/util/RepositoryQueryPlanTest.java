@@ -0,0 +1,61 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the plans of repository queries on PostgreSQL, migrated by Flyway.
+ * Runs only when SHAREIT_PLAN_CHECK_DB_URL is set, e.g. in CI or against the docker-compose database;
+ * SHAREIT_PLAN_CHECK_DB_USER and SHAREIT_PLAN_CHECK_DB_PASSWORD default to shareit.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "SHAREIT_PLAN_CHECK_DB_URL", matches = ".+")
+public class RepositoryQueryPlanTest {
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.url", () -> System.getenv("SHAREIT_PLAN_CHECK_DB_URL"));
+        registry.add("spring.datasource.username", () -> env("SHAREIT_PLAN_CHECK_DB_USER", "shareit"));
+        registry.add("spring.datasource.password", () -> env("SHAREIT_PLAN_CHECK_DB_PASSWORD", "shareit"));
+    }
+
+    @Test
+    @DisplayName("check_whenRepositoryQueriesPlanned_thenNoFullScans")
+    void check_whenRepositoryQueriesPlanned_thenNoFullScans() throws SQLException {
+        Map<String, List<String>> fullScans =
+                new QueryPlanChecker(applicationContext, entityManagerFactory, dataSource).check();
+
+        assertEquals(Map.of(), fullScans);
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exception.NotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+    private static final int CALLERS = 4;
+
+    MeterRegistry meterRegistry;
+    SingleFlight<Long, String> singleFlight;
+    ExecutorService executor;
+    AtomicInteger executions;
+    CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+        executions = new AtomicInteger();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("execute_whenCallsWithSameKeyAreConcurrent_thenSupplierExecutedOnceAndValueShared")
+    void execute_whenCallsWithSameKeyAreConcurrent_thenSupplierExecutedOnceAndValueShared() throws Exception {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute(1L, this::awaitRelease)));
+        awaitCalls("executed", 1);
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(1L, this::awaitRelease)));
+        }
+        awaitCalls("coalesced", CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("value1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("execute_whenSupplierThrows_thenExceptionRethrownToCoalescedCalls")
+    void execute_whenSupplierThrows_thenExceptionRethrownToCoalescedCalls() throws Exception {
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            awaitRelease();
+            throw new NotFoundException("Item with id 1 not found");
+        }));
+        awaitCalls("executed", 1);
+        Future<String> follower = executor.submit(() -> singleFlight.execute(1L, this::awaitRelease));
+        awaitCalls("coalesced", 1);
+        release.countDown();
+
+        for (Future<String> result : List.of(leader, follower)) {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(NotFoundException.class, exception.getCause());
+        }
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("execute_whenCallsAreSequentialOrKeysDiffer_thenSupplierExecutedForEachCall")
+    void execute_whenCallsAreSequentialOrKeysDiffer_thenSupplierExecutedForEachCall() {
+        release.countDown();
+
+        assertEquals("value1", singleFlight.execute(1L, this::awaitRelease));
+        assertEquals("value2", singleFlight.execute(1L, this::awaitRelease));
+        assertEquals("value3", singleFlight.execute(2L, this::awaitRelease));
+
+        assertEquals(3, executions.get());
+        assertEquals(3.0, callCount("executed"));
+        assertEquals(0.0, callCount("coalesced"));
+    }
+
+    private String awaitRelease() {
+        try {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return "value" + executions.incrementAndGet();
+    }
+
+    private double callCount(String result) {
+        return meterRegistry.get("shareit.single-flight.calls").tag("result", result).counter().count();
+    }
+
+    private void awaitCalls(String result, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (callCount(result) < count) {
+            assertTrue(System.nanoTime() < deadline, "Calls are not started in time");
+            Thread.sleep(1);
+        }
+    }
+}